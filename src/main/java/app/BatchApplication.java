@@ -0,0 +1,121 @@
+package app;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import interface_adapters.batch.BatchController;
+import interface_adapters.batch.BatchUseCaseFactory;
+import interface_adapters.batch.JsonLinesWriter;
+
+/**
+ * Headless entry point: runs analyses, comparisons and loads from the command line or a job file
+ * and writes the results as JSON lines, without a window.
+ *
+ * <p>Usage: {@code BatchApplication [--job FILE] [--out FILE] [--threads N] [--server URL]
+ * [COMMAND ARGUMENTS...]}. The commands of the job file, one per line, run first, then the command
+ * given as arguments, if any; see {@link BatchController} for the commands. Results go to standard
+ * output unless an output file is given. With {@code --server} the stock data is read from a
+ * {@link ServerApplication} instead of being loaded and cached here. Nothing on this path touches
+ * AWT or Swing, so it runs on servers without a display and starts quickly. The exit status is 0
+ * if every command succeeded, 1 if any failed and 2 if the arguments are wrong.</p>
+ */
+public final class BatchApplication {
+    private static final String USAGE =
+            "Usage: BatchApplication [--job FILE] [--out FILE] [--threads N] [--server URL]"
+                    + " [COMMAND ARGUMENTS...]";
+    private static final int USAGE_ERROR = 2;
+
+    // prevents instantiation
+    private BatchApplication() {
+
+    }
+
+    /**
+     * Runs the batch.
+     * @param args the options, followed by a command and its arguments
+     * @throws IOException if the output file cannot be written
+     * @throws InterruptedException if interrupted while the commands run
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        final List<String> commands = new ArrayList<>();
+        Path output = null;
+        int threads = Constants.BATCH_THREADS;
+        String serverUrl = null;
+        int index = 0;
+        while (index < args.length && args[index].startsWith("--")) {
+            if (index + 1 >= args.length) {
+                usageError("Missing value for " + args[index]);
+            }
+            switch (args[index]) {
+                case "--job" -> commands.addAll(readJob(args[index + 1]));
+                case "--out" -> output = Path.of(args[index + 1]);
+                case "--threads" -> threads = parseThreads(args[index + 1]);
+                case "--server" -> serverUrl = args[index + 1];
+                default -> usageError("Unknown option " + args[index]);
+            }
+            index += 2;
+        }
+        if (index < args.length) {
+            commands.add(String.join(" ", List.of(args).subList(index, args.length)));
+        }
+        if (commands.isEmpty()) {
+            usageError("No commands given");
+        }
+
+        final int failures;
+        final Writer out;
+        if (output == null) {
+            out = new OutputStreamWriter(System.out, StandardCharsets.UTF_8);
+            // standard output carries only results; anything else printed goes to standard error
+            System.setOut(System.err);
+        }
+        else {
+            out = Files.newBufferedWriter(output, StandardCharsets.UTF_8);
+        }
+        try (DataServices dataServices = DataServices.create(serverUrl);
+             JsonLinesWriter writer = new JsonLinesWriter(out);
+             BatchController controller = BatchUseCaseFactory.create(dataServices.getStockData(),
+                     dataServices.getSymbols(), dataServices.getFundamentals(), writer, threads)) {
+            failures = controller.execute(commands);
+        }
+        System.exit(Math.min(failures, 1));
+    }
+
+    private static List<String> readJob(String file) {
+        List<String> lines = List.of();
+        try {
+            lines = Files.readAllLines(Path.of(file));
+        }
+        catch (IOException | InvalidPathException exception) {
+            usageError("Cannot read job file " + file);
+        }
+        return lines;
+    }
+
+    private static int parseThreads(String value) {
+        int threads = 0;
+        try {
+            threads = Integer.parseInt(value);
+        }
+        catch (NumberFormatException exception) {
+            usageError("Not a number of threads: " + value);
+        }
+        if (threads < 1) {
+            usageError("The number of threads must be at least 1");
+        }
+        return threads;
+    }
+
+    private static void usageError(String message) {
+        System.err.println(message);
+        System.err.println(USAGE);
+        System.exit(USAGE_ERROR);
+    }
+}
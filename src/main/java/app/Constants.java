@@ -1,9 +1,5 @@
 package app;
 
-import java.awt.Color;
-import java.awt.Dimension;
-import java.awt.Font;
-
 /**
  * Constants for the entire program. Might refactor to individual layers later on.
  */
@@ -19,16 +15,7 @@ public final class Constants {
     public static final String FONT = "Arial";
 
     // view_stock view related constants
-    public static final Dimension MAIN_FRAME_DIMENSION = new Dimension(800, 600);
-    public static final Dimension MAIN_FRAME_MIN_DIMENSION = new Dimension(600, 400);
-    public static final Dimension STOCK_VIEW_DIMENSION = new Dimension(700, 500);
-    public static final Dimension VIEWS_MIN_DIMENSION = new Dimension(300, 100);
-    public static final Dimension GRAPH_DIMENSION = new Dimension(600, 400);
-    public static final Color GRAPH_COLOR = new Color(0, 123, 255);
-    public static final Font GRAPH_VALUE_FONT = new Font(FONT, Font.PLAIN, 12);
     public static final String PLACEHOLDER_TEXT = "Stock Statistics Viewer";
-    public static final Font PLACEHOLDER_FONT = new Font(FONT, Font.BOLD, 24);
-    public static final Font METRICS_FONT = new Font(FONT, Font.PLAIN, 16);
     // view names in dropdown menu for viewing stock data
     public static final String STOCK_VIEW = "key for stock view";
     public static final String NO_STOCKS_SELECTED = "Select stock";
@@ -44,30 +31,39 @@ public final class Constants {
     // search view constants
     public static final int MAX_STOCK_PER_PAGE = 5;
     public static final int BUTTON_SPACING = 10;
-    public static final Dimension SEARCH_RESULT_FRAME_DIMENSION = new Dimension(400, 600);
-    public static final Dimension BUTTON_DIMENSION = new Dimension(150, 30);
-    public static final Dimension BUTTON_PANEL_DIMENSION = new Dimension(350, BUTTON_DIMENSION.height);
-    public static final Dimension PAGE_DIMENSION = new Dimension(BUTTON_DIMENSION.width,
-                    MAX_STOCK_PER_PAGE * (BUTTON_DIMENSION.height + BUTTON_SPACING));
-    public static final Color BUTTON_COLOUR = new Color(220, 220, 245);
-    public static final Font NO_RESULTS_FONT = new Font(FONT, Font.PLAIN, 16);
+    // milliseconds without typing before the search field is searched
+    public static final int SEARCH_DEBOUNCE_DELAY = 200;
     // search use case constants
-    public static final int NOT_SIMILAR = 0;
-    public static final int SIMILAR_BY_SOME_CHAR = 1;
-    public static final int SIMILAR_AS_SUBSTRING = 2;
-    public static final int EXACTLY_SAME = 3;
+    public static final int MAX_SEARCH_RESULTS = 100;
 
     // constants for favourite stock use case
     public static final String NOT_FAVORITED = "☆ Favorite";
     public static final String FAVORITED = "★ Favorited";
+    // days of closes in each sparkline of the watchlist of the favorites
+    public static final int WATCHLIST_DAYS = 30;
+    // stock data loads running at once, shared by all use cases
+    public static final int LOADER_THREADS = 8;
+    // commands the batch mode runs at once
+    public static final int BATCH_THREADS = 8;
+    // port the stock data server listens on unless told otherwise
+    public static final int SERVER_PORT = 8765;
+    // longest range of days the stock data server loads for one request, about ten years
+    public static final int SERVER_MAX_RANGE_DAYS = 3_660;
 
     //
     public static final int WANTED_DIFFERENCE = 3;
     public static final int WANTED_DIFFERENCE_NEGATIVE = 3;
     public static final double GRAHAM_NUMBER = 22.5;
+    // capital every backtest of a parameter sweep starts with
+    public static final double SWEEP_CAPITAL = 10_000;
+    // Monte Carlo projection: simulated paths, years projected, and years of history estimated from
+    public static final int SIMULATION_PATHS = 200_000;
+    public static final int SIMULATION_YEARS = 3;
+    public static final int SIMULATION_HISTORY_YEARS = 2;
     public static final int ONE_HUNDRED = 100;
     public static final int THREE_HUNDRED = 300;
     public static final int FOUR_HUNDRED = 400;
+    public static final int FIVE_HUNDRED = 500;
     public static final int SIZE = 17;
     // prevents instantiation
     private Constants() {
@@ -0,0 +1,96 @@
+package app;
+
+import interface_adapters.gateways.FundamentalsLoader;
+import interface_adapters.gateways.RemoteStockDataLoader;
+import interface_adapters.gateways.StockDataLoader;
+import interface_adapters.gateways.StockSymbolsLoader;
+import use_cases.FundamentalsDataInterface;
+import use_cases.StockDataInterface;
+import use_cases.SymbolNameDataAccessInterface;
+
+/**
+ * The data services of the application, created once at startup and injected into every use case
+ * factory and view that needs data.
+ *
+ * <p>Sharing one stock data loader means there is one in-memory cache, one API client and one
+ * writer appending to the cache file, instead of one of each per view. The fundamentals file is
+ * likewise read and indexed once. Closing the services flushes the cache file;
+ * {@link #closeOnShutdown()} does this when the application exits.</p>
+ *
+ * <p>Given the address of a stock data server, the stock data is read from the server instead,
+ * so that every application shares its cache and only the server writes the cache file.</p>
+ */
+public final class DataServices implements AutoCloseable {
+    private final StockDataInterface stockData;
+    private final StockSymbolsLoader symbolsLoader;
+    private final FundamentalsDataInterface fundamentals;
+
+    public DataServices() {
+        this(new StockDataLoader(), new StockSymbolsLoader(), new FundamentalsLoader());
+    }
+
+    /**
+     * Composes the given loaders.
+     * @param stockData the stock data, from a loader with its cache or from a server
+     * @param symbolsLoader the loader of stock symbols and company names
+     * @param fundamentals the earnings and dividends of the stocks
+     */
+    public DataServices(StockDataInterface stockData, StockSymbolsLoader symbolsLoader,
+                        FundamentalsDataInterface fundamentals) {
+        this.stockData = stockData;
+        this.symbolsLoader = symbolsLoader;
+        this.fundamentals = fundamentals;
+    }
+
+    /**
+     * Creates the services, reading the stock data from a server if one is given.
+     * @param serverUrl the address of a stock data server, e.g. {@code http://localhost:8765}, or
+     *                  {@code null} to load and cache the stock data in this process
+     * @return the services
+     */
+    public static DataServices create(String serverUrl) {
+        final DataServices dataServices;
+        if (serverUrl == null) {
+            dataServices = new DataServices();
+        }
+        else {
+            dataServices = new DataServices(new RemoteStockDataLoader(serverUrl), new StockSymbolsLoader(),
+                    new FundamentalsLoader());
+        }
+        return dataServices;
+    }
+
+    public StockDataInterface getStockData() {
+        return stockData;
+    }
+
+    public SymbolNameDataAccessInterface getSymbols() {
+        return symbolsLoader;
+    }
+
+    public FundamentalsDataInterface getFundamentals() {
+        return fundamentals;
+    }
+
+    /**
+     * Starts reloading the symbols whenever their files change.
+     */
+    public void watchSymbolsForChanges() {
+        symbolsLoader.watchForChanges();
+    }
+
+    /**
+     * Closes the services when the application exits, however it exits.
+     */
+    public void closeOnShutdown() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "data-services-shutdown"));
+    }
+
+    @Override
+    public void close() {
+        // a server keeps its own cache file
+        if (stockData instanceof StockDataLoader stockDataLoader) {
+            stockDataLoader.close();
+        }
+    }
+}
@@ -1,13 +1,10 @@
 package app;
 
-import java.util.Set;
-
 import javax.swing.JFrame;
 import javax.swing.SwingUtilities;
 
 import interface_adapters.ViewManagerModel;
-import interface_adapters.gateways.StockDataLoader;
-import interface_adapters.gateways.StockSymbolsLoader;
+import interface_adapters.ViewModel;
 import interface_adapters.loading_hub.LoadingHubController;
 import interface_adapters.loading_hub.LoadingHubUseCaseFactory;
 import interface_adapters.search.SearchController;
@@ -19,27 +16,44 @@ import interface_adapters.text_analyze_stock.StockViewModel;
 import interface_adapters.view_stock.ViewStockController;
 import interface_adapters.view_stock.ViewStockUseCaseFactory;
 import interface_adapters.view_stock.ViewStockViewModel;
+import interface_adapters.watchlist.WatchlistController;
+import interface_adapters.watchlist.WatchlistState;
+import interface_adapters.watchlist.WatchlistUseCaseFactory;
 import ui.SearchView;
+import ui.ViewConstants;
 import ui.ViewStockView;
+import ui.WatchlistView;
 import ui.compare_stocks.CompareStocksViewDisplayer;
 import ui.text_analyze_stock.StockAnalysisView;
 import use_cases.StockDataInterface;
 import use_cases.SymbolNameDataAccessInterface;
-import use_cases.favorites.FavoriteStockInputBoundary;
-import use_cases.favorites.FavoriteStockInteractor;
-import use_cases.favorites.FavoriteStockOutputBoundary;
+import use_cases.favorites.FavoritesService;
 
 /**
  * Main class for launching the Stock Analysis Application.
+ *
+ * <p>Usage: {@code MainStockApplication [--server URL]}. With {@code --server} the stock data is
+ * read from a {@link ServerApplication} instead of being loaded and cached by the application.</p>
  */
 public class MainStockApplication {
+    private static final String USAGE = "Usage: MainStockApplication [--server URL]";
+    private static final int USAGE_ERROR = 2;
 
     /**
      * The entry point of the application.
      *
-     * @param args command-line arguments (not used)
+     * @param args the options
      */
     public static void main(String[] args) {
+        String serverUrl = null;
+        if (args.length == 2 && "--server".equals(args[0])) {
+            serverUrl = args[1];
+        }
+        else if (args.length != 0) {
+            System.err.println(USAGE);
+            System.exit(USAGE_ERROR);
+        }
+
         // Create the ViewManagerModel to manage the view state
         final ViewManagerModel viewManagerModel = new ViewManagerModel();
 
@@ -48,31 +62,19 @@ public class MainStockApplication {
         final SearchViewModel searchViewModel = new SearchViewModel();
         final ViewStockViewModel loadingHubViewModel = new ViewStockViewModel();
         final StockViewModel stockViewModel = new StockViewModel();
+        final ViewModel<WatchlistState> watchlistViewModel = new ViewModel<>("watchlist");
+        watchlistViewModel.setState(new WatchlistState());
 
-        // data loaders
-        final StockDataInterface stockDataAccessObject = new StockDataLoader();
-        final SymbolNameDataAccessInterface symbolDataAccessObject = new StockSymbolsLoader();
-
-        // Create FavoriteStockOutputBoundary implementation (presenter)
-        final FavoriteStockOutputBoundary favoriteStockPresenter = new FavoriteStockOutputBoundary() {
-            @Override
-            public void presentFavoriteToggled(String symbol, boolean isFavorited) {
-                // Implement presentation logic for favorite toggle
-            }
-
-            @Override
-            public void presentFavorites(Set<String> favorites) {
-                // Implement presentation logic for favorites list
-            }
-        };
-        final StockDataInterface loadingHubAccessInterface = new StockDataLoader();
-
-        // Create FavoriteStockInteractor with the file storage
-        final FavoriteStockInputBoundary favoriteStockInputBoundary =
-                new FavoriteStockInteractor(favoriteStockPresenter);
+        // data services, shared by every use case and flushed when the application exits
+        final DataServices dataServices = DataServices.create(serverUrl);
+        dataServices.closeOnShutdown();
+        // picks up edits of the symbols file while the application runs
+        dataServices.watchSymbolsForChanges();
+        final StockDataInterface stockDataAccessObject = dataServices.getStockData();
+        final SymbolNameDataAccessInterface symbolDataAccessObject = dataServices.getSymbols();
 
-        // Load favorite stocks on startup
-        favoriteStockInputBoundary.getFavorites();
+        // Load favorite stocks on startup, once for every view
+        FavoritesService.getInstance();
 
         // Create the controllers
         final ViewStockController viewStockController = ViewStockUseCaseFactory.create(
@@ -87,11 +89,15 @@ public class MainStockApplication {
         final LoadingHubController loadingHubController = LoadingHubUseCaseFactory.create(
                         viewManagerModel,
                         loadingHubViewModel,
-                        loadingHubAccessInterface,
+                        stockDataAccessObject,
                 symbolDataAccessObject);
+        final WatchlistController watchlistController = WatchlistUseCaseFactory.create(
+                        watchlistViewModel,
+                        stockDataAccessObject);
         final StockController predictController = StockControllerFactory.createStockController(
                         stockViewModel,
-                        stockDataAccessObject);
+                        stockDataAccessObject,
+                        dataServices.getFundamentals());
 
         // initializes search view
         final SearchView searchView = new SearchView(searchViewModel, searchController, viewStockController);
@@ -100,21 +106,23 @@ public class MainStockApplication {
         SwingUtilities.invokeLater(() -> {
             final JFrame frame = new JFrame("Stock Analysis Application");
             frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-            frame.setSize(Constants.MAIN_FRAME_DIMENSION);
-            frame.setMinimumSize(Constants.MAIN_FRAME_MIN_DIMENSION);
+            frame.setSize(ViewConstants.MAIN_FRAME_DIMENSION);
+            frame.setMinimumSize(ViewConstants.MAIN_FRAME_MIN_DIMENSION);
             // Center the window
             frame.setLocationRelativeTo(null);
 
             // Create the view and add it to the frame
             final ViewStockView viewStockView = new ViewStockView(
                     viewManagerModel, viewStockViewModel,
-                    viewStockController, searchView, loadingHubController);
+                    viewStockController, searchView, loadingHubController, loadingHubViewModel,
+                    new WatchlistView(watchlistViewModel, watchlistController), symbolDataAccessObject);
             // Initialize ViewStockView and add it to the frame
-            viewStockView.setCompareButtonListener(_ -> CompareStocksViewDisplayer.showDialog(frame));
+            viewStockView.setCompareButtonListener(_ -> CompareStocksViewDisplayer.showDialog(frame,
+                    stockDataAccessObject, symbolDataAccessObject));
 
             // Initialize Stock Analysis View
             final StockAnalysisView stockAnalysisView = new StockAnalysisView(stockViewModel, viewStockViewModel,
-                    predictController);
+                    predictController, stockDataAccessObject);
             
             frame.add(viewStockView.getMainPanel());
 
@@ -0,0 +1,65 @@
+package app;
+
+import java.io.IOException;
+import java.net.InetAddress;
+
+import interface_adapters.server.StockDataServer;
+
+/**
+ * Headless entry point: serves the stock data over HTTP so that desktop and script clients share
+ * one warm cache instead of each keeping its own.
+ *
+ * <p>Usage: {@code ServerApplication [--port N] [--bind ADDRESS]}. The server listens on the
+ * loopback address unless {@code --bind} names another, since it has no authentication. It runs
+ * until the process is stopped, and the cache file is flushed on the way out. The desktop and
+ * batch applications read from it when given {@code --server URL}.</p>
+ */
+public final class ServerApplication {
+    private static final String USAGE = "Usage: ServerApplication [--port N] [--bind ADDRESS]";
+    private static final int USAGE_ERROR = 2;
+    private static final String NO_DELAY = "sun.net.httpserver.nodelay";
+
+    // prevents instantiation
+    private ServerApplication() {
+
+    }
+
+    /**
+     * Starts the server.
+     * @param args the options
+     * @throws IOException if the address cannot be found or the port cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        int port = Constants.SERVER_PORT;
+        InetAddress address = InetAddress.getLoopbackAddress();
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 < args.length && "--port".equals(args[i])) {
+                port = Integer.parseInt(args[i + 1]);
+            }
+            else if (i + 1 < args.length && "--bind".equals(args[i])) {
+                address = InetAddress.getByName(args[i + 1]);
+            }
+            else {
+                System.err.println(USAGE);
+                System.exit(USAGE_ERROR);
+            }
+        }
+
+        // the headers and the chunks of a response are separate writes; with Nagle's algorithm on,
+        // each response after the first on a connection waits for a delayed acknowledgement. The
+        // HTTP server reads this once, so it has to be set before the server is created
+        if (System.getProperty(NO_DELAY) == null) {
+            System.setProperty(NO_DELAY, "true");
+        }
+
+        final DataServices dataServices = new DataServices();
+        final StockDataServer server = new StockDataServer(dataServices.getStockData(), address, port);
+        // stop taking requests before the cache file is flushed
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            dataServices.close();
+        }, "stock-data-server-shutdown"));
+        server.start();
+        System.err.println("Serving stock data on " + address.getHostAddress() + " port " + server.getPort());
+    }
+}
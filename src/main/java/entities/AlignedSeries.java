@@ -0,0 +1,66 @@
+package entities;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * Several series aligned on a common calendar of trading days. Row {@code s} of
+ * {@link #getValues()} holds series {@code s}, and column {@code t} belongs to
+ * {@code getDay(t)}, so consumers can walk the matrix without any per-day lookups.
+ */
+public class AlignedSeries {
+    private final long[] days;
+    private final double[][] values;
+
+    /**
+     * Constructor.
+     * @param days the aligned days as epoch days, sorted from past to present
+     * @param values one row per series, each with {@code days.length} values
+     */
+    public AlignedSeries(long[] days, double[][] values) {
+        this.days = days;
+        this.values = values;
+    }
+
+    public int getSeriesCount() {
+        return values.length;
+    }
+
+    public int getLength() {
+        return days.length;
+    }
+
+    /**
+     * The aligned days as epoch days (see {@link LocalDate#toEpochDay()}).
+     * @return the days, shared with this object
+     */
+    public long[] getDays() {
+        return days;
+    }
+
+    /**
+     * The aligned values, one row per series.
+     * @return the value matrix, shared with this object
+     */
+    public double[][] getValues() {
+        return values;
+    }
+
+    public double[] getSeries(int series) {
+        return values[series];
+    }
+
+    public double getValue(int series, int index) {
+        return values[series][index];
+    }
+
+    /**
+     * The date of a column of the matrix.
+     * @param index the column
+     * @return the date at midnight in the system time zone
+     */
+    public Date getDate(int index) {
+        return Date.from(LocalDate.ofEpochDay(days[index]).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -0,0 +1,13 @@
+package entities;
+
+/**
+ * How {@link SeriesAligner} fills a day on which a series has no value.
+ */
+public enum FillPolicy {
+    /** Repeat the last known value of the series. Days before its first value stay NaN. */
+    FORWARD_FILL,
+    /** Drop the whole day unless every series has a value on it. */
+    DROP,
+    /** Keep the day and leave the missing value as NaN. */
+    NAN
+}
@@ -50,6 +50,14 @@ public class MetricValues {
         return values.getLast();
     }
 
+    public List<Date> getDates() {
+        return dates;
+    }
+
+    public List<Double> getValues() {
+        return values;
+    }
+
     private int dateToIndex(Date date) {
 //        for (int i = 0; i < dates.size(); i++) {
 //            final Date comparisonDate = dates.get(i);
@@ -84,4 +92,13 @@ public class MetricValues {
     public void removeDates(int index) {
         dates.remove(dates.get(index));
     }
+
+    /**
+     * Removes the value and the date at an index, keeping both lists aligned.
+     * @param index the index to remove
+     */
+    protected void removeEntry(int index) {
+        values.remove(index);
+        dates.remove(index);
+    }
 }
@@ -0,0 +1,156 @@
+package entities;
+
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Merge-joins several date-sorted series on trading day in a single linear pass.
+ *
+ * <p>Series loaded for different symbols rarely line up index for index: exchanges have
+ * different holidays, missing days are dropped when share prices are built, and the API
+ * can fail on individual days. The aligner walks every series with its own cursor and
+ * emits one column per distinct day, filling the gaps according to a {@link FillPolicy}.</p>
+ */
+public final class SeriesAligner {
+    // prevents instantiation
+    private SeriesAligner() {
+
+    }
+
+    /**
+     * Aligns the values of several metric series on their dates. For share prices this is the
+     * closing price. NaN values count as missing, and a repeated day keeps its first value.
+     * @param series the series to align, each sorted from past to present. Null entries are treated as empty.
+     * @param fillPolicy how to fill days that a series has no value for
+     * @return the aligned matrix
+     */
+    public static AlignedSeries align(List<? extends MetricValues> series, FillPolicy fillPolicy) {
+        final int seriesCount = series.size();
+        final long[][] inputDays = new long[seriesCount][];
+        final double[][] inputValues = new double[seriesCount][];
+        int longest = 0;
+        for (int s = 0; s < seriesCount; s++) {
+            toColumns(series.get(s), s, inputDays, inputValues);
+            longest = Math.max(longest, inputDays[s].length);
+        }
+        return mergeJoin(inputDays, inputValues, fillPolicy, longest);
+    }
+
+    /**
+     * Aligns raw columns. Exposed for callers that already hold primitive columns.
+     * @param inputDays epoch days of every series, each sorted ascending
+     * @param inputValues values of every series, parallel to {@code inputDays}
+     * @param fillPolicy how to fill days that a series has no value for
+     * @return the aligned matrix
+     */
+    public static AlignedSeries align(long[][] inputDays, double[][] inputValues, FillPolicy fillPolicy) {
+        int longest = 0;
+        for (long[] days : inputDays) {
+            longest = Math.max(longest, days.length);
+        }
+        return mergeJoin(inputDays, inputValues, fillPolicy, longest);
+    }
+
+    private static AlignedSeries mergeJoin(long[][] inputDays, double[][] inputValues,
+                                           FillPolicy fillPolicy, int longest) {
+        final int seriesCount = inputDays.length;
+        final int[] cursors = new int[seriesCount];
+        final double[] lastSeen = new double[seriesCount];
+        Arrays.fill(lastSeen, Double.NaN);
+
+        // the union of days is at least as long as the longest series; grow on demand
+        int capacity = Math.max(longest, 1);
+        long[] days = new long[capacity];
+        double[][] values = new double[seriesCount][capacity];
+        int length = 0;
+
+        long day = nextDay(inputDays, cursors);
+        while (day != Long.MAX_VALUE) {
+            boolean complete = true;
+            if (length == capacity) {
+                capacity *= 2;
+                days = Arrays.copyOf(days, capacity);
+                for (int s = 0; s < seriesCount; s++) {
+                    values[s] = Arrays.copyOf(values[s], capacity);
+                }
+            }
+            for (int s = 0; s < seriesCount; s++) {
+                double value = Double.NaN;
+                final long[] seriesDays = inputDays[s];
+                if (cursors[s] < seriesDays.length && seriesDays[cursors[s]] == day) {
+                    value = inputValues[s][cursors[s]];
+                    // skip any repeated entries for the same day
+                    while (cursors[s] < seriesDays.length && seriesDays[cursors[s]] == day) {
+                        cursors[s]++;
+                    }
+                }
+                if (Double.isNaN(value)) {
+                    complete = false;
+                    if (fillPolicy == FillPolicy.FORWARD_FILL) {
+                        value = lastSeen[s];
+                    }
+                }
+                else {
+                    lastSeen[s] = value;
+                }
+                values[s][length] = value;
+            }
+            if (complete || fillPolicy != FillPolicy.DROP) {
+                days[length] = day;
+                length++;
+            }
+            day = nextDay(inputDays, cursors);
+        }
+
+        final double[][] trimmed = new double[seriesCount][];
+        for (int s = 0; s < seriesCount; s++) {
+            trimmed[s] = Arrays.copyOf(values[s], length);
+        }
+        return new AlignedSeries(Arrays.copyOf(days, length), trimmed);
+    }
+
+    private static long nextDay(long[][] inputDays, int[] cursors) {
+        long next = Long.MAX_VALUE;
+        for (int s = 0; s < inputDays.length; s++) {
+            if (cursors[s] < inputDays[s].length && inputDays[s][cursors[s]] < next) {
+                next = inputDays[s][cursors[s]];
+            }
+        }
+        return next;
+    }
+
+    private static void toColumns(MetricValues metricValues, int index, long[][] days, double[][] values) {
+        if (metricValues == null) {
+            days[index] = new long[0];
+            values[index] = new double[0];
+        }
+        else {
+            final List<Date> dates = metricValues.getDates();
+            final List<Double> rawValues = metricValues.getValues();
+            final int size = Math.min(dates.size(), rawValues.size());
+            days[index] = new long[size];
+            values[index] = new double[size];
+            for (int i = 0; i < size; i++) {
+                days[index][i] = toEpochDay(dates.get(i));
+                final Double value = rawValues.get(i);
+                if (value == null) {
+                    values[index][i] = Double.NaN;
+                }
+                else {
+                    values[index][i] = value;
+                }
+            }
+        }
+    }
+
+    /**
+     * Converts a date to its epoch day in the system time zone.
+     * @param date the date
+     * @return the epoch day
+     */
+    public static long toEpochDay(Date date) {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate().toEpochDay();
+    }
+}
@@ -23,13 +23,14 @@ public class SharePrices extends MetricValues {
         this.highPrices = highPrices;
         this.lowPrices = lowPrices;
 
-        for (int i = 0; i < highPrices.size(); i++) {
+        // walk backwards so that consecutive missing days (weekends) are all removed
+        for (int i = highPrices.size() - 1; i >= 0; i--) {
             if (highPrices.get(i).equals(Double.NaN)) {
                 this.highPrices.remove(i);
                 this.lowPrices.remove(i);
                 this.closePrices.remove(i);
                 this.openPrices.remove(i);
-                removeDates(i);
+                removeEntry(i);
             }
         }
     }
@@ -0,0 +1,268 @@
+package entities;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * The universe of tradable symbols: a sorted dictionary from ticker symbol to company name,
+ * exchange and security type, in which every symbol has an integer ID.
+ *
+ * <p>IDs are positions in symbol order, from {@code 0} to {@code size() - 1}. The layout is
+ * columnar so that it stays small for full-exchange listings: all symbols are packed into one
+ * string and all names into another, with offset arrays marking where each entry starts, and the
+ * exchange and type are one-byte codes into small tables. Lookups by symbol and by name are
+ * binary searches that compare the packed characters in place, without allocating.</p>
+ */
+public final class SymbolUniverse {
+    private final String symbolData;
+    private final int[] symbolOffsets;
+    private final String nameData;
+    private final int[] nameOffsets;
+    private final int[] idsByName;
+    private final byte[] exchanges;
+    private final byte[] types;
+    private final String[] exchangeCodes;
+    private final String[] typeCodes;
+
+    private SymbolUniverse(String symbolData, int[] symbolOffsets, String nameData, int[] nameOffsets,
+                           int[] idsByName, byte[] exchanges, byte[] types,
+                           String[] exchangeCodes, String[] typeCodes) {
+        this.symbolData = symbolData;
+        this.symbolOffsets = symbolOffsets;
+        this.nameData = nameData;
+        this.nameOffsets = nameOffsets;
+        this.idsByName = idsByName;
+        this.exchanges = exchanges;
+        this.types = types;
+        this.exchangeCodes = exchangeCodes;
+        this.typeCodes = typeCodes;
+    }
+
+    public int size() {
+        return exchanges.length;
+    }
+
+    /**
+     * Finds the ID of a symbol.
+     * @param symbol the symbol, matched exactly
+     * @return the ID, or {@code -1} if the symbol is not in the universe
+     */
+    public int idOf(String symbol) {
+        int low = 0;
+        int high = size() - 1;
+        int found = -1;
+        while (found < 0 && low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int comparison = compare(symbolData, symbolOffsets, middle, symbol);
+            if (comparison < 0) {
+                low = middle + 1;
+            }
+            else if (comparison > 0) {
+                high = middle - 1;
+            }
+            else {
+                found = middle;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Finds the ID of the symbol listed under a company name. If several symbols share the name,
+     * the first one in symbol order is returned.
+     * @param name the company name, matched exactly
+     * @return the ID, or {@code -1} if no symbol has this name
+     */
+    public int idOfName(String name) {
+        int low = 0;
+        int high = size() - 1;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (compare(nameData, nameOffsets, idsByName[middle], name) < 0) {
+                low = middle + 1;
+            }
+            else {
+                high = middle;
+            }
+        }
+        int found = -1;
+        if (low < size() && compare(nameData, nameOffsets, idsByName[low], name) == 0) {
+            found = idsByName[low];
+        }
+        return found;
+    }
+
+    public String getSymbol(int id) {
+        return symbolData.substring(symbolOffsets[id], symbolOffsets[id + 1]);
+    }
+
+    public String getName(int id) {
+        return nameData.substring(nameOffsets[id], nameOffsets[id + 1]);
+    }
+
+    public String getExchange(int id) {
+        return exchangeCodes[exchanges[id]];
+    }
+
+    public String getType(int id) {
+        return typeCodes[types[id]];
+    }
+
+    /**
+     * All symbols in ID order, as a read-only view that creates each string on access.
+     * @return the symbols
+     */
+    public List<String> getSymbols() {
+        return new IdView(true);
+    }
+
+    /**
+     * All company names in ID order, as a read-only view that creates each string on access.
+     * @return the names
+     */
+    public List<String> getNames() {
+        return new IdView(false);
+    }
+
+    /**
+     * Compares entry {@code id} of a packed column with a string, like {@link String#compareTo}.
+     */
+    private static int compare(String data, int[] offsets, int id, String other) {
+        final int start = offsets[id];
+        final int length = offsets[id + 1] - start;
+        final int common = Math.min(length, other.length());
+        int comparison = 0;
+        for (int i = 0; i < common && comparison == 0; i++) {
+            comparison = data.charAt(start + i) - other.charAt(i);
+        }
+        if (comparison == 0) {
+            comparison = length - other.length();
+        }
+        return comparison;
+    }
+
+    /**
+     * Read-only list over the symbol or the name column.
+     */
+    private final class IdView extends AbstractList<String> implements RandomAccess {
+        private final boolean symbols;
+
+        IdView(boolean symbols) {
+            this.symbols = symbols;
+        }
+
+        @Override
+        public String get(int index) {
+            final String result;
+            if (symbols) {
+                result = getSymbol(index);
+            }
+            else {
+                result = getName(index);
+            }
+            return result;
+        }
+
+        @Override
+        public int size() {
+            return SymbolUniverse.this.size();
+        }
+    }
+
+    /**
+     * Collects listings and builds the universe. When a symbol is added more than once, the first
+     * listing wins.
+     */
+    public static final class Builder {
+        private final List<String> symbols = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+        private final List<String> exchanges = new ArrayList<>();
+        private final List<String> types = new ArrayList<>();
+
+        /**
+         * Adds a listing.
+         * @param symbol the ticker symbol
+         * @param name the company or security name
+         * @param exchange the exchange code, e.g. "Q" for NASDAQ
+         * @param type the security type, e.g. "STOCK" or "ETF"
+         * @return this builder
+         */
+        public Builder add(String symbol, String name, String exchange, String type) {
+            symbols.add(symbol);
+            names.add(name);
+            exchanges.add(exchange);
+            types.add(type);
+            return this;
+        }
+
+        /**
+         * Builds the universe.
+         * @return the universe of the listings added so far
+         * @throws IllegalStateException if more than 128 exchanges or types are used
+         */
+        public SymbolUniverse build() {
+            final Integer[] order = new Integer[symbols.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            // stable, so the first listing of a duplicated symbol comes first
+            Arrays.sort(order, (first, second) -> symbols.get(first).compareTo(symbols.get(second)));
+
+            final StringBuilder symbolData = new StringBuilder();
+            final StringBuilder nameData = new StringBuilder();
+            final List<Integer> kept = new ArrayList<>();
+            for (int i = 0; i < order.length; i++) {
+                if (i == 0 || !symbols.get(order[i]).equals(symbols.get(order[i - 1]))) {
+                    kept.add(order[i]);
+                }
+            }
+
+            final int size = kept.size();
+            final int[] symbolOffsets = new int[size + 1];
+            final int[] nameOffsets = new int[size + 1];
+            final byte[] exchangeIds = new byte[size];
+            final byte[] typeIds = new byte[size];
+            final List<String> exchangeCodes = new ArrayList<>();
+            final List<String> typeCodes = new ArrayList<>();
+            for (int id = 0; id < size; id++) {
+                final int listing = kept.get(id);
+                symbolData.append(symbols.get(listing));
+                symbolOffsets[id + 1] = symbolData.length();
+                nameData.append(names.get(listing));
+                nameOffsets[id + 1] = nameData.length();
+                exchangeIds[id] = code(exchangeCodes, exchanges.get(listing));
+                typeIds[id] = code(typeCodes, types.get(listing));
+            }
+
+            final Integer[] byName = new Integer[size];
+            for (int id = 0; id < size; id++) {
+                byName[id] = id;
+            }
+            Arrays.sort(byName, (first, second) ->
+                    names.get(kept.get(first)).compareTo(names.get(kept.get(second))));
+            final int[] idsByName = new int[size];
+            for (int i = 0; i < size; i++) {
+                idsByName[i] = byName[i];
+            }
+
+            return new SymbolUniverse(symbolData.toString(), symbolOffsets, nameData.toString(), nameOffsets,
+                    idsByName, exchangeIds, typeIds, exchangeCodes.toArray(new String[0]),
+                    typeCodes.toArray(new String[0]));
+        }
+
+        private static byte code(List<String> codes, String value) {
+            int index = codes.indexOf(value);
+            if (index < 0) {
+                if (codes.size() > Byte.MAX_VALUE) {
+                    throw new IllegalStateException("Too many distinct codes: " + value);
+                }
+                codes.add(value);
+                index = codes.size() - 1;
+            }
+            return (byte) index;
+        }
+    }
+}
@@ -1,55 +1,231 @@
 package frameworks;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
-import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.util.HashSet;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
-public class FavoriteStockData {
+/**
+ * Stores the favorite stocks.
+ *
+ * <p>The favorites are kept in memory, so reading them never touches the disk. Each change is
+ * appended to a journal next to the favorites file, as a {@code +SYMBOL} or {@code -SYMBOL} line,
+ * by a background thread: the caller, usually the event dispatch thread, only queues it. Every
+ * {@value #CHECKPOINT_INTERVAL} changes the whole set is written to a temporary file that then
+ * replaces the favorites file in one atomic move, and the journal starts over.</p>
+ *
+ * <p>Loading reads the favorites file, one symbol per line, and replays the journal on top of it.
+ * A crash can at worst lose the changes still queued; a journal line cut short by a crash is
+ * ignored, and a journal left behind by a crash during a checkpoint replays to the same set.</p>
+ */
+public class FavoriteStockData implements AutoCloseable {
     private static final String FAVORITE_STOCKS_FILE = "src/main/java/use_cases/favorites/favorites_stocks.txt";
+    private static final int CHECKPOINT_INTERVAL = 100;
 
-    public Set<String> loadFavoriteStocks() {
-        Set<String> favoriteStocks = new HashSet<>();
-        File file = new File(FAVORITE_STOCKS_FILE);
+    private final Path favoritesFile;
+    private final Path journalFile;
+    private final Path checkpointFile;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "favorites-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
 
-        if (file.exists()) {
-            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    favoriteStocks.add(line);
-                }
-            } catch (IOException e) {
-                e.printStackTrace();
+    /** The favorites, in the order they were added. Guarded by {@code this}. */
+    private final Set<String> favoriteStocks = new LinkedHashSet<>();
+    /** Journal lines not written yet. Guarded by {@code this}. */
+    private final List<String> pending = new ArrayList<>();
+    /** Lines in the journal file. Only used by the writer thread. */
+    private int journalLines;
+
+    public FavoriteStockData() {
+        this(Path.of(FAVORITE_STOCKS_FILE));
+        // the changes still queued are written before the application exits
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "favorites-shutdown"));
+    }
+
+    /**
+     * Creates a store over the given favorites file, with the journal next to it.
+     * @param favoritesFile the file holding one favorite symbol per line
+     */
+    public FavoriteStockData(Path favoritesFile) {
+        this.favoritesFile = favoritesFile;
+        this.journalFile = favoritesFile.resolveSibling(favoritesFile.getFileName() + ".journal");
+        this.checkpointFile = favoritesFile.resolveSibling(favoritesFile.getFileName() + ".tmp");
+        load();
+    }
+
+    /**
+     * Returns the favorite stocks.
+     * @return a copy of the favorites
+     */
+    public synchronized Set<String> loadFavoriteStocks() {
+        return new LinkedHashSet<>(favoriteStocks);
+    }
+
+    /**
+     * Adds a favorite stock. The change is written in the background.
+     * @param symbol the stock symbol
+     */
+    public synchronized void addFavoriteStock(String symbol) {
+        if (favoriteStocks.add(symbol)) {
+            queue("+" + symbol);
+        }
+    }
+
+    /**
+     * Removes a favorite stock. The change is written in the background.
+     * @param symbol the stock symbol
+     */
+    public synchronized void removeFavoriteStock(String symbol) {
+        if (favoriteStocks.remove(symbol)) {
+            queue("-" + symbol);
+        }
+    }
+
+    /**
+     * Waits until every change made so far is on disk.
+     */
+    public void flush() {
+        try {
+            writer.submit(this::writePending).get();
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        catch (ExecutionException exception) {
+            System.err.println("Error writing favorites: " + exception.getCause());
+        }
+    }
+
+    /**
+     * Writes the changes made so far, folds them into the favorites file, and stops the writer.
+     */
+    @Override
+    public void close() {
+        if (!writer.isShutdown()) {
+            try {
+                writer.submit(() -> {
+                    final Set<String> snapshot;
+                    final boolean changed;
+                    synchronized (this) {
+                        changed = !pending.isEmpty() || journalLines > 0;
+                        pending.clear();
+                        snapshot = new LinkedHashSet<>(favoriteStocks);
+                    }
+                    if (changed) {
+                        checkpoint(snapshot);
+                    }
+                }).get();
             }
+            catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            catch (ExecutionException exception) {
+                System.err.println("Error writing favorites on close: " + exception.getCause());
+            }
+            writer.shutdown();
         }
+    }
 
-        return favoriteStocks;
+    private void queue(String line) {
+        pending.add(line);
+        writer.execute(this::writePending);
     }
 
-    public void addFavoriteStock(String symbol) {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(FAVORITE_STOCKS_FILE, true))) {
-            writer.write(symbol);
-            writer.newLine();
-        } catch (IOException e) {
-            e.printStackTrace();
+    /**
+     * Appends the queued changes to the journal, or checkpoints instead if the journal is long
+     * enough. Runs on the writer thread.
+     */
+    private void writePending() {
+        final List<String> lines;
+        Set<String> snapshot = null;
+        synchronized (this) {
+            lines = new ArrayList<>(pending);
+            pending.clear();
+            if (!lines.isEmpty() && journalLines + lines.size() >= CHECKPOINT_INTERVAL) {
+                // taken with the changes, so it holds exactly the changes written so far
+                snapshot = new LinkedHashSet<>(favoriteStocks);
+            }
+        }
+        if (snapshot != null) {
+            checkpoint(snapshot);
+        }
+        else if (!lines.isEmpty()) {
+            try {
+                Files.writeString(journalFile, String.join("\n", lines) + "\n", StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+                journalLines += lines.size();
+            }
+            catch (IOException exception) {
+                System.err.println("Error appending to " + journalFile + ": " + exception.getMessage());
+            }
         }
     }
 
-    public void removeFavoriteStock(String symbol) {
-        Set<String> favoriteStocks = loadFavoriteStocks();
-        favoriteStocks.remove(symbol);
+    /**
+     * Replaces the favorites file with the given favorites and empties the journal. Runs on the
+     * writer thread.
+     */
+    private void checkpoint(Set<String> snapshot) {
+        try {
+            final StringBuilder content = new StringBuilder();
+            for (String symbol : snapshot) {
+                content.append(symbol).append('\n');
+            }
+            Files.writeString(checkpointFile, content, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE, StandardOpenOption.DSYNC);
+            try {
+                Files.move(checkpointFile, favoritesFile, StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+            catch (AtomicMoveNotSupportedException exception) {
+                Files.move(checkpointFile, favoritesFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.deleteIfExists(journalFile);
+            journalLines = 0;
+        }
+        catch (IOException exception) {
+            System.err.println("Error writing " + favoritesFile + ": " + exception.getMessage());
+        }
+    }
 
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(FAVORITE_STOCKS_FILE))) {
-            for (String stock : favoriteStocks) {
-                writer.write(stock);
-                writer.newLine();
+    private void load() {
+        try {
+            if (Files.exists(favoritesFile)) {
+                for (String line : Files.readAllLines(favoritesFile, StandardCharsets.UTF_8)) {
+                    if (!line.isBlank()) {
+                        favoriteStocks.add(line.strip());
+                    }
+                }
+            }
+            if (Files.exists(journalFile)) {
+                final String journal = Files.readString(journalFile, StandardCharsets.UTF_8);
+                // only whole lines count; a line without its newline was cut short by a crash
+                final String[] lines = journal.substring(0, journal.lastIndexOf('\n') + 1).split("\n");
+                for (String line : lines) {
+                    if (line.length() > 1 && line.charAt(0) == '+') {
+                        favoriteStocks.add(line.substring(1));
+                    }
+                    else if (line.length() > 1 && line.charAt(0) == '-') {
+                        favoriteStocks.remove(line.substring(1));
+                    }
+                }
+                journalLines = lines.length;
             }
-        } catch (IOException e) {
-            e.printStackTrace();
+        }
+        catch (IOException exception) {
+            System.err.println("Error reading favorites: " + exception.getMessage());
         }
     }
-}
\ No newline at end of file
+}
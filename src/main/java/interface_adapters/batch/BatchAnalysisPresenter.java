@@ -0,0 +1,42 @@
+package interface_adapters.batch;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import use_cases.text_analyze_stock.FutureStockOutputBoundary;
+import use_cases.text_analyze_stock.StockAnalysisResult;
+
+/**
+ * Writes the analysis of a stock as a JSON line.
+ */
+public class BatchAnalysisPresenter implements FutureStockOutputBoundary {
+    private final JsonLinesWriter writer;
+
+    public BatchAnalysisPresenter(JsonLinesWriter writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void displayResult(StockAnalysisResult result) {
+        final JSONObject line = new JSONObject();
+        line.put(BatchController.COMMAND, BatchController.ANALYZE);
+        line.put("symbol", result.getStockName());
+        line.put("currentPrice", result.getCurrentPrice());
+        line.put("projectedPrices", new JSONArray()
+                .put(JsonLinesWriter.number(result.getProjectedPrice1()))
+                .put(JsonLinesWriter.number(result.getProjectedPrice2()))
+                .put(JsonLinesWriter.number(result.getProjectedPrice3())));
+        line.put("action", result.getAction());
+        if (result.getPriceBands() != null) {
+            final JSONArray bands = new JSONArray();
+            for (double[] band : result.getPriceBands()) {
+                final JSONArray percentiles = new JSONArray();
+                for (double price : band) {
+                    percentiles.put(JsonLinesWriter.number(price));
+                }
+                bands.put(percentiles);
+            }
+            line.put("priceBands", bands);
+        }
+        writer.write(line);
+    }
+}
@@ -0,0 +1,52 @@
+package interface_adapters.batch;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import use_cases.compare_stocks.CompareStocksOutputBoundary;
+import use_cases.compare_stocks.CompareStocksOutputData;
+
+/**
+ * Writes a comparison of stocks as a JSON line, or the reason it could not be made. A comparison
+ * in which some stocks could not be loaded is written with an error naming them, and counts as a
+ * failure.
+ */
+public class BatchComparePresenter implements CompareStocksOutputBoundary {
+    private final JsonLinesWriter writer;
+
+    public BatchComparePresenter(JsonLinesWriter writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void displayComparisonSummary(String summary) {
+        // only called on its own when the comparison could not be made
+        writer.writeFailure(new JSONObject().put(BatchController.COMMAND, BatchController.COMPARE)
+                .put(BatchController.ERROR, summary));
+    }
+
+    @Override
+    public void displayComparison(CompareStocksOutputData outputData) {
+        final JSONArray metrics = new JSONArray();
+        for (CompareStocksOutputData.StockMetrics stock : outputData.getMetrics()) {
+            metrics.put(new JSONObject()
+                    .put("symbol", stock.getSymbol())
+                    .put("firstClose", JsonLinesWriter.number(stock.getFirstClose()))
+                    .put("lastClose", JsonLinesWriter.number(stock.getLastClose()))
+                    .put("growth", JsonLinesWriter.number(stock.getGrowth()))
+                    .put("volume", JsonLinesWriter.number(stock.getVolume()))
+                    .put("high", JsonLinesWriter.number(stock.getHigh()))
+                    .put("low", JsonLinesWriter.number(stock.getLow()))
+                    .put("volatility", JsonLinesWriter.number(stock.getVolatility())));
+        }
+        final JSONObject line = new JSONObject().put(BatchController.COMMAND, BatchController.COMPARE)
+                .put("summary", outputData.getSummary())
+                .put("metrics", metrics);
+        if (outputData.getFailedSymbols().isEmpty()) {
+            writer.write(line);
+        }
+        else {
+            line.put(BatchController.ERROR, "Could not load " + String.join(", ", outputData.getFailedSymbols()));
+            writer.writeFailure(line);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package interface_adapters.batch;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import app.Constants;
+import entities.SharePrices;
+import org.json.JSONObject;
+import use_cases.StockDataInterface;
+import use_cases.backtest.SweepInputBoundary;
+import use_cases.backtest.SweepInputData;
+import use_cases.compare_stocks.CompareStocksInputBoundary;
+import use_cases.compare_stocks.CompareStocksInputData;
+import use_cases.correlation.CorrelationInputBoundary;
+import use_cases.correlation.CorrelationInputData;
+import use_cases.loading_hub.LoadingHubInputBoundary;
+import use_cases.loading_hub.LoadingHubInputData;
+import use_cases.text_analyze_stock.FutureStockInputBoundary;
+
+/**
+ * Controller of the batch mode: runs commands, one per line, through the use case interactors.
+ *
+ * <p>The commands are, with dates as {@code yyyy-MM-dd}:</p>
+ * <ul>
+ *   <li>{@code analyze DATE SYMBOL...} analyzes every stock as of the date, from its close on the
+ *   date and a year before it</li>
+ *   <li>{@code compare START END SYMBOL...} compares the stocks between the dates</li>
+ *   <li>{@code load START END SYMBOL...} loads the share prices of every stock between the dates</li>
+ *   <li>{@code correlate START END [SYMBOL...]} computes the correlation and covariance matrices of
+ *   the daily returns of the stocks between the dates, or of every symbol if none are given</li>
+ *   <li>{@code sweep START END [SYMBOL...]} backtests a grid of recommendation thresholds on the
+ *   cached prices of the stocks between the dates, or of every symbol if none are given, and
+ *   ranks them</li>
+ * </ul>
+ *
+ * <p>Blank lines and lines starting with {@code #} are skipped. Every stock of an analysis or a
+ * load, and every comparison, correlation or sweep, is a task run on a fixed pool of threads, so the results of a large
+ * batch are written as they are ready and in no particular order. A command that cannot be run
+ * writes a line with an {@code "error"} instead, whether the controller or a presenter finds the
+ * problem, and every such line counts as a failure.</p>
+ */
+public class BatchController implements AutoCloseable {
+    static final String COMMAND = "command";
+    static final String ERROR = "error";
+    static final String ANALYZE = "analyze";
+    static final String COMPARE = "compare";
+    static final String LOAD = "load";
+    static final String CORRELATE = "correlate";
+    static final String SWEEP = "sweep";
+    static final String DATE_FORMAT = "yyyy-MM-dd";
+    private static final String COMMENT = "#";
+
+    private final FutureStockInputBoundary analysisInteractor;
+    private final CompareStocksInputBoundary compareInteractor;
+    private final LoadingHubInputBoundary loadingInteractor;
+    private final CorrelationInputBoundary correlationInteractor;
+    private final SweepInputBoundary sweepInteractor;
+    private final StockDataInterface dataAccess;
+    private final JsonLinesWriter writer;
+    private final ExecutorService executor;
+
+    public BatchController(FutureStockInputBoundary analysisInteractor,
+                           CompareStocksInputBoundary compareInteractor,
+                           LoadingHubInputBoundary loadingInteractor,
+                           CorrelationInputBoundary correlationInteractor,
+                           SweepInputBoundary sweepInteractor,
+                           StockDataInterface dataAccess, JsonLinesWriter writer, int threads) {
+        this.analysisInteractor = analysisInteractor;
+        this.compareInteractor = compareInteractor;
+        this.loadingInteractor = loadingInteractor;
+        this.correlationInteractor = correlationInteractor;
+        this.sweepInteractor = sweepInteractor;
+        this.dataAccess = dataAccess;
+        this.writer = writer;
+        this.executor = Executors.newFixedThreadPool(threads);
+    }
+
+    /**
+     * Runs the commands and waits until every result has been written.
+     * @param commands the command lines
+     * @return the number of commands or stocks that failed, which is the number of error lines written
+     * @throws InterruptedException if interrupted while waiting for the results
+     */
+    public int execute(List<String> commands) throws InterruptedException {
+        final List<Future<?>> tasks = new ArrayList<>();
+        final int failuresBefore = writer.getFailures();
+        for (String command : commands) {
+            final String trimmed = command.strip();
+            if (!trimmed.isEmpty() && !trimmed.startsWith(COMMENT)) {
+                final List<String> arguments = Arrays.asList(trimmed.split("\\s+"));
+                try {
+                    submit(arguments, tasks);
+                }
+                catch (IllegalArgumentException | DateTimeParseException exception) {
+                    writeError(arguments.get(0), trimmed, exception.getMessage());
+                }
+            }
+        }
+        for (Future<?> task : tasks) {
+            try {
+                task.get();
+            }
+            catch (ExecutionException exception) {
+                // the task wrote its error line before failing
+            }
+        }
+        return writer.getFailures() - failuresBefore;
+    }
+
+    /**
+     * Stops the threads once the submitted commands have finished.
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    private void submit(List<String> arguments, List<Future<?>> tasks) {
+        final String command = arguments.get(0);
+        if (ANALYZE.equals(command)) {
+            requireArguments(arguments, 1);
+            final Date date = parseDate(arguments.get(1));
+            for (String symbol : arguments.subList(2, arguments.size())) {
+                tasks.add(submit(command, symbol, () -> analyze(symbol, date)));
+            }
+        }
+        else if (COMPARE.equals(command)) {
+            requireArguments(arguments, 2);
+            final CompareStocksInputData inputData = new CompareStocksInputData(
+                    List.copyOf(arguments.subList(3, arguments.size())),
+                    parseDate(arguments.get(1)), parseDate(arguments.get(2)));
+            tasks.add(submit(command, String.join(" ", inputData.getSymbols()),
+                () -> compareInteractor.execute(inputData)));
+        }
+        else if (LOAD.equals(command)) {
+            requireArguments(arguments, 2);
+            final Date start = parseDate(arguments.get(1));
+            final Date end = parseDate(arguments.get(2));
+            for (String symbol : arguments.subList(3, arguments.size())) {
+                tasks.add(submit(command, symbol,
+                    () -> loadingInteractor.execute(new LoadingHubInputData(symbol, start, end))));
+            }
+        }
+        else if (CORRELATE.equals(command)) {
+            requireDates(arguments, 2);
+            final List<String> symbols = List.copyOf(arguments.subList(3, arguments.size()));
+            final CorrelationInputData inputData = new CorrelationInputData(symbols,
+                    parseDate(arguments.get(1)), parseDate(arguments.get(2)));
+            tasks.add(submit(command, String.join(" ", symbols), () -> correlationInteractor.execute(inputData)));
+        }
+        else if (SWEEP.equals(command)) {
+            requireDates(arguments, 2);
+            final SweepInputData inputData = new SweepInputData(List.copyOf(arguments.subList(3, arguments.size())),
+                    parseDate(arguments.get(1)), parseDate(arguments.get(2)));
+            tasks.add(submit(command, String.join(" ", inputData.getSymbols()),
+                () -> sweepInteractor.execute(inputData)));
+        }
+        else {
+            throw new IllegalArgumentException("Unknown command: " + command);
+        }
+    }
+
+    /**
+     * Runs a task, writing an error line for it if it fails.
+     */
+    private Future<?> submit(String command, String target, Runnable task) {
+        return executor.submit(() -> {
+            try {
+                task.run();
+            }
+            catch (RuntimeException exception) {
+                writeError(command, target, String.valueOf(exception.getMessage()));
+                throw exception;
+            }
+        });
+    }
+
+    private void analyze(String symbol, Date date) {
+        final Date yearBefore = Date.from(toLocalDate(date).minusYears(1)
+                .atStartOfDay(ZoneId.systemDefault()).toInstant());
+        final Double currentPrice = closeOnOrBefore(symbol, date);
+        final Double startingPrice = closeOnOrBefore(symbol, yearBefore);
+        if (currentPrice == null || startingPrice == null) {
+            throw new IllegalStateException("No close within a week before the date or a year before it.");
+        }
+        analysisInteractor.execute(symbol, currentPrice, startingPrice, date);
+    }
+
+    /**
+     * Returns the last close in the week up to a date, so a date on a weekend or holiday uses the
+     * trading day before it.
+     */
+    private Double closeOnOrBefore(String symbol, Date date) {
+        final Date weekBefore = Date.from(toLocalDate(date).minusDays(Constants.ONE_WEEK - 1)
+                .atStartOfDay(ZoneId.systemDefault()).toInstant());
+        final SharePrices prices = dataAccess.getSharePrices(symbol, weekBefore, date);
+        Double close = null;
+        if (prices != null && !prices.getClosePrices().isEmpty()) {
+            close = prices.getClosePrices().getLast();
+        }
+        return close;
+    }
+
+    private void writeError(String command, String target, String message) {
+        writer.writeFailure(new JSONObject().put(COMMAND, command).put("target", target).put(ERROR, message));
+    }
+
+    /**
+     * Checks that a command has its dates and at least one symbol after them.
+     */
+    private static void requireArguments(List<String> arguments, int dates) {
+        if (arguments.size() < dates + 2) {
+            throw new IllegalArgumentException("Expected " + dates + " date(s) and at least one symbol.");
+        }
+    }
+
+    /**
+     * Checks that a command has its dates; the symbols after them are optional.
+     */
+    private static void requireDates(List<String> arguments, int dates) {
+        if (arguments.size() < dates + 1) {
+            throw new IllegalArgumentException("Expected " + dates + " date(s).");
+        }
+    }
+
+    private static Date parseDate(String date) {
+        return Date.from(LocalDate.parse(date).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+}
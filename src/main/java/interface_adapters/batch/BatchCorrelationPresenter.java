@@ -0,0 +1,46 @@
+package interface_adapters.batch;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import use_cases.correlation.CorrelationOutputBoundary;
+import use_cases.correlation.CorrelationOutputData;
+
+/**
+ * Writes the correlation and covariance matrices of a set of stocks as a JSON line, or the reason
+ * they could not be computed.
+ */
+public class BatchCorrelationPresenter implements CorrelationOutputBoundary {
+    private final JsonLinesWriter writer;
+
+    public BatchCorrelationPresenter(JsonLinesWriter writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void displayCorrelation(CorrelationOutputData outputData) {
+        final JSONObject line = new JSONObject().put(BatchController.COMMAND, BatchController.CORRELATE)
+                .put("symbols", new JSONArray(outputData.getSymbols()));
+        if (outputData.getError() == null) {
+            line.put("observations", outputData.getObservations());
+            line.put("correlation", matrix(outputData.getCorrelation()));
+            line.put("covariance", matrix(outputData.getCovariance()));
+            writer.write(line);
+        }
+        else {
+            line.put(BatchController.ERROR, outputData.getError());
+            writer.writeFailure(line);
+        }
+    }
+
+    private static JSONArray matrix(double[][] values) {
+        final JSONArray rows = new JSONArray();
+        for (double[] row : values) {
+            final JSONArray cells = new JSONArray();
+            for (double value : row) {
+                cells.put(JsonLinesWriter.number(value));
+            }
+            rows.put(cells);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,48 @@
+package interface_adapters.batch;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+import entities.SharePrices;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import use_cases.loading_hub.LoadingHubOutputBoundary;
+import use_cases.loading_hub.LoadingHubOutputData;
+
+/**
+ * Writes the share prices loaded for a stock as a JSON line. Progress and partial results are not
+ * written; only the complete load is.
+ */
+public class BatchLoadPresenter implements LoadingHubOutputBoundary {
+    private final JsonLinesWriter writer;
+
+    public BatchLoadPresenter(JsonLinesWriter writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void displayResult(LoadingHubOutputData outputData) {
+        final SimpleDateFormat dateFormat = new SimpleDateFormat(BatchController.DATE_FORMAT);
+        final JSONObject line = new JSONObject();
+        line.put(BatchController.COMMAND, BatchController.LOAD);
+        line.put("symbol", outputData.getStockSymbol());
+        line.put("company", outputData.getCompanyName());
+        final SharePrices sharePrices = outputData.getSharePrices();
+        if (sharePrices == null) {
+            line.put(BatchController.ERROR, "No share prices for this range.");
+            writer.writeFailure(line);
+        }
+        else {
+            final JSONArray dates = new JSONArray();
+            for (Date date : sharePrices.getDates()) {
+                dates.put(dateFormat.format(date));
+            }
+            line.put("dates", dates);
+            line.put("open", new JSONArray(sharePrices.getOpenPrices()));
+            line.put("close", new JSONArray(sharePrices.getClosePrices()));
+            line.put("high", new JSONArray(sharePrices.getHighPrices()));
+            line.put("low", new JSONArray(sharePrices.getLowPrices()));
+            writer.write(line);
+        }
+    }
+}
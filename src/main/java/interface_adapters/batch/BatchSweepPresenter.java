@@ -0,0 +1,45 @@
+package interface_adapters.batch;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import use_cases.backtest.BacktestData;
+import use_cases.backtest.SweepOutputBoundary;
+import use_cases.backtest.SweepResult;
+
+/**
+ * Writes a parameter sweep as a JSON line, with the rules from best to worst and the throughput,
+ * or the reason it could not be run.
+ */
+public class BatchSweepPresenter implements SweepOutputBoundary {
+    private final JsonLinesWriter writer;
+
+    public BatchSweepPresenter(JsonLinesWriter writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void displaySweep(BacktestData data, SweepResult result) {
+        final JSONArray ranked = new JSONArray();
+        for (SweepResult.Entry entry : result.getEntries()) {
+            ranked.put(new JSONObject()
+                    .put("wantedDifference", entry.getRule().getWantedDifference())
+                    .put("wantedDifferenceNegative", entry.getRule().getWantedDifferenceNegative())
+                    .put("grahamNumber", entry.getRule().getGrahamNumber())
+                    .put("totalReturn", JsonLinesWriter.number(entry.getTotalReturn()))
+                    .put("maxDrawdown", JsonLinesWriter.number(entry.getMaxDrawdown()))
+                    .put("trades", entry.getTrades()));
+        }
+        writer.write(new JSONObject().put(BatchController.COMMAND, BatchController.SWEEP)
+                .put("symbols", data.getSymbolCount())
+                .put("days", data.getLength())
+                .put("evaluations", result.getEvaluations())
+                .put("evaluationsPerSecond", JsonLinesWriter.number(result.getEvaluationsPerSecond()))
+                .put("results", ranked));
+    }
+
+    @Override
+    public void displaySweepError(String message) {
+        writer.writeFailure(new JSONObject().put(BatchController.COMMAND, BatchController.SWEEP)
+                .put(BatchController.ERROR, message));
+    }
+}
@@ -0,0 +1,45 @@
+package interface_adapters.batch;
+
+import use_cases.FundamentalsDataInterface;
+import use_cases.StockDataInterface;
+import use_cases.SymbolNameDataAccessInterface;
+import use_cases.backtest.SweepInteractor;
+import use_cases.compare_stocks.CompareStocksInteractor;
+import use_cases.correlation.CorrelationInteractor;
+import use_cases.correlation.CovarianceMatrixCalculator;
+import use_cases.loading_hub.LoadingHubInteractor;
+import use_cases.text_analyze_stock.MonteCarloSimulator;
+import use_cases.text_analyze_stock.StockInteractor;
+
+/**
+ * Creates the batch controller, with interactors that write their results as JSON lines.
+ */
+public final class BatchUseCaseFactory {
+    // prevents instantiation
+    private BatchUseCaseFactory() {
+
+    }
+
+    /**
+     * Creates the batch controller.
+     * @param dataAccess the stock data
+     * @param symbols the stock symbols and company names
+     * @param fundamentals the earnings per share of the stocks, for analyses and sweeps
+     * @param writer where the results are written
+     * @param threads the number of commands run at once
+     * @return the controller
+     */
+    public static BatchController create(StockDataInterface dataAccess, SymbolNameDataAccessInterface symbols,
+                                         FundamentalsDataInterface fundamentals, JsonLinesWriter writer,
+                                         int threads) {
+        return new BatchController(
+                new StockInteractor(new BatchAnalysisPresenter(writer), dataAccess, fundamentals,
+                        new MonteCarloSimulator()),
+                new CompareStocksInteractor(new BatchComparePresenter(writer), dataAccess, symbols),
+                new LoadingHubInteractor(new BatchLoadPresenter(writer), dataAccess, symbols),
+                new CorrelationInteractor(new BatchCorrelationPresenter(writer), dataAccess,
+                        new CovarianceMatrixCalculator(), symbols),
+                new SweepInteractor(new BatchSweepPresenter(writer), dataAccess, fundamentals, symbols),
+                dataAccess, writer, threads);
+    }
+}
@@ -0,0 +1,76 @@
+package interface_adapters.batch;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.json.JSONObject;
+
+/**
+ * Writes results as JSON lines, one object per line, flushing after each so that they can be read
+ * as they are produced. Lines written from several threads never interleave. Lines reporting a
+ * failure are counted, so the batch can tell whether everything succeeded whichever presenter or
+ * task wrote them.
+ */
+public class JsonLinesWriter implements Closeable {
+    private final Writer writer;
+    private final AtomicInteger failures = new AtomicInteger();
+
+    public JsonLinesWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Writes one object as a line.
+     * @param line the object
+     * @throws UncheckedIOException if the output cannot be written
+     */
+    public synchronized void write(JSONObject line) {
+        try {
+            writer.write(line.toString());
+            writer.write(System.lineSeparator());
+            writer.flush();
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Writes one object reporting a failure as a line, and counts it.
+     * @param line the object
+     * @throws UncheckedIOException if the output cannot be written
+     */
+    public void writeFailure(JSONObject line) {
+        failures.incrementAndGet();
+        write(line);
+    }
+
+    /**
+     * Returns the number of failures written so far.
+     * @return the number of lines written with {@link #writeFailure(JSONObject)}
+     */
+    public int getFailures() {
+        return failures.get();
+    }
+
+    /**
+     * Converts a number for a line: JSON has no NaN or infinities, so those are written as null.
+     * @param value the number
+     * @return the number, or {@link JSONObject#NULL} if it is not finite
+     */
+    public static Object number(double value) {
+        Object number = JSONObject.NULL;
+        if (Double.isFinite(value)) {
+            number = value;
+        }
+        return number;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+}
@@ -1,7 +1,11 @@
 package interface_adapters.compare_stocks;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import interface_adapters.ViewModel;
 import use_cases.compare_stocks.CompareStocksOutputBoundary;
+import use_cases.compare_stocks.CompareStocksOutputData;
 
 /**
  * Presenter for comparing stocks.
@@ -9,6 +13,8 @@ import use_cases.compare_stocks.CompareStocksOutputBoundary;
  * with the results of the stock comparison use case.
  */
 public class CompareStocksPresenter implements CompareStocksOutputBoundary {
+    private static final String UNKNOWN = "N/A";
+
     private ViewModel<CompareStocksState> viewModel;
 
     /**
@@ -30,6 +36,37 @@ public class CompareStocksPresenter implements CompareStocksOutputBoundary {
     @Override
     public void displayComparisonSummary(String summary) {
         viewModel.getState().setSummary(summary);
+        viewModel.getState().setMetricRows(List.of());
         viewModel.firePropertyChanged();
     }
+
+    /**
+     * Displays the metrics table and the summary by updating the view model.
+     *
+     * @param outputData the metrics of every compared stock and their summary
+     */
+    @Override
+    public void displayComparison(CompareStocksOutputData outputData) {
+        final List<List<String>> rows = new ArrayList<>();
+        for (CompareStocksOutputData.StockMetrics stock : outputData.getMetrics()) {
+            rows.add(List.of(
+                    stock.getSymbol(),
+                    format("%+.2f%%", stock.getGrowth() * 100),
+                    format("%,.0f", stock.getVolume()),
+                    format("%.2f", stock.getHigh()),
+                    format("%.2f", stock.getLow()),
+                    format("%.2f%%", stock.getVolatility() * 100)));
+        }
+        viewModel.getState().setSummary(outputData.getSummary());
+        viewModel.getState().setMetricRows(rows);
+        viewModel.firePropertyChanged();
+    }
+
+    private static String format(String pattern, double value) {
+        String formatted = UNKNOWN;
+        if (!Double.isNaN(value)) {
+            formatted = String.format(pattern, value);
+        }
+        return formatted;
+    }
 }
@@ -1,11 +1,18 @@
 package interface_adapters.compare_stocks;
 
+import java.util.List;
+
 /**
  * Represents the state of the stock comparison.
- * This class holds the summary of the comparison results.
+ * This class holds the summary of the comparison results and a table of the metrics of every
+ * compared stock.
  */
 public class CompareStocksState {
+    /** Headers of the columns of {@link #getMetricRows()}. */
+    public static final List<String> COLUMNS = List.of("Symbol", "Growth", "Volume", "High", "Low", "Volatility");
+
     private String summary;
+    private List<List<String>> metricRows = List.of();
 
     /**
      * Retrieves the comparison summary.
@@ -26,4 +33,22 @@ public class CompareStocksState {
     public void setSummary(String summary) {
         this.summary = summary;
     }
+
+    /**
+     * Retrieves the metrics of every compared stock, formatted for display.
+     *
+     * @return one row per stock, with one cell per column of {@link #COLUMNS}
+     */
+    public List<List<String>> getMetricRows() {
+        return metricRows;
+    }
+
+    /**
+     * Sets the metrics of every compared stock.
+     *
+     * @param metricRows one row per stock, with one cell per column of {@link #COLUMNS}
+     */
+    public void setMetricRows(List<List<String>> metricRows) {
+        this.metricRows = metricRows;
+    }
 }
@@ -0,0 +1,29 @@
+package interface_adapters.correlation;
+
+import java.util.Collection;
+import java.util.Date;
+
+import use_cases.correlation.CorrelationInputBoundary;
+import use_cases.correlation.CorrelationInputData;
+
+/**
+ * Controller for the correlation matrix use case.
+ */
+public class CorrelationController {
+    private final CorrelationInputBoundary correlationUseCaseInteractor;
+
+    public CorrelationController(CorrelationInputBoundary correlationUseCaseInteractor) {
+        this.correlationUseCaseInteractor = correlationUseCaseInteractor;
+    }
+
+    /**
+     * Executes the correlation matrix use case.
+     * @param symbols the symbols to correlate, for example every known symbol or the favorites
+     * @param startDate start date
+     * @param endDate end date
+     */
+    public void execute(Collection<String> symbols, Date startDate, Date endDate) {
+        final CorrelationInputData inputData = new CorrelationInputData(symbols, startDate, endDate);
+        correlationUseCaseInteractor.execute(inputData);
+    }
+}
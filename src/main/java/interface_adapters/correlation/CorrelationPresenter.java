@@ -0,0 +1,32 @@
+package interface_adapters.correlation;
+
+import interface_adapters.ViewModel;
+import use_cases.correlation.CorrelationOutputBoundary;
+import use_cases.correlation.CorrelationOutputData;
+
+/**
+ * Presenter for the correlation matrix use case.
+ */
+public class CorrelationPresenter implements CorrelationOutputBoundary {
+    private final ViewModel<CorrelationState> viewModel;
+
+    public CorrelationPresenter(ViewModel<CorrelationState> viewModel) {
+        this.viewModel = viewModel;
+    }
+
+    /**
+     * Updates the view model with the computed matrices.
+     * @param outputData the output data
+     */
+    @Override
+    public void displayCorrelation(CorrelationOutputData outputData) {
+        final CorrelationState state = viewModel.getState();
+        state.setSymbols(outputData.getSymbols());
+        state.setCorrelation(outputData.getCorrelation());
+        state.setCovariance(outputData.getCovariance());
+        state.setObservations(outputData.getObservations());
+        state.setCorrelationError(outputData.getError());
+        viewModel.setState(state);
+        viewModel.firePropertyChanged();
+    }
+}
@@ -0,0 +1,55 @@
+package interface_adapters.correlation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The state for the correlation matrix view model.
+ */
+public class CorrelationState {
+    private List<String> symbols = new ArrayList<>();
+    private double[][] correlation = new double[0][0];
+    private double[][] covariance = new double[0][0];
+    private int observations;
+    private String correlationError;
+
+    public List<String> getSymbols() {
+        return symbols;
+    }
+
+    public double[][] getCorrelation() {
+        return correlation;
+    }
+
+    public double[][] getCovariance() {
+        return covariance;
+    }
+
+    public int getObservations() {
+        return observations;
+    }
+
+    public String getCorrelationError() {
+        return correlationError;
+    }
+
+    public void setSymbols(List<String> newSymbols) {
+        this.symbols = newSymbols;
+    }
+
+    public void setCorrelation(double[][] newCorrelation) {
+        this.correlation = newCorrelation;
+    }
+
+    public void setCovariance(double[][] newCovariance) {
+        this.covariance = newCovariance;
+    }
+
+    public void setObservations(int newObservations) {
+        this.observations = newObservations;
+    }
+
+    public void setCorrelationError(String newCorrelationError) {
+        this.correlationError = newCorrelationError;
+    }
+}
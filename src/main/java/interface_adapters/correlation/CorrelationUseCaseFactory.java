@@ -0,0 +1,35 @@
+package interface_adapters.correlation;
+
+import interface_adapters.ViewModel;
+import use_cases.StockDataInterface;
+import use_cases.correlation.CorrelationInputBoundary;
+import use_cases.correlation.CorrelationInteractor;
+import use_cases.correlation.CorrelationOutputBoundary;
+
+/**
+ * Factory class responsible for creating and assembling all components needed for the
+ * correlation matrix use case.
+ */
+public class CorrelationUseCaseFactory {
+    /**
+     * Creates all components for the correlation use case and returns a configured controller.
+     *
+     * @param correlationViewModel the view model for the correlation use case
+     * @param dataAccessObject the data access interface for fetching stock data
+     * @return a configured CorrelationController ready for use
+     */
+    public static CorrelationController create(
+            ViewModel<CorrelationState> correlationViewModel,
+            StockDataInterface dataAccessObject) {
+
+        // Create the presenter with its required dependencies
+        final CorrelationOutputBoundary correlationPresenter = new CorrelationPresenter(correlationViewModel);
+
+        // Create the interactor with its dependencies
+        final CorrelationInputBoundary correlationInteractor =
+                new CorrelationInteractor(correlationPresenter, dataAccessObject);
+
+        // Create and return the controller
+        return new CorrelationController(correlationInteractor);
+    }
+}
@@ -12,15 +12,24 @@ public class FavoritesController {
     private final JPanel favoritesPanel;
     private final Set<String> favoritedStocks;
     private final FavoriteStockInteractor favoriteStockInteractor;
+    private final FavoriteStockViewModel viewModel;
 
     public FavoritesController() {
+        this(FavoritesService.getInstance());
+    }
+
+    /**
+     * Creates a controller over the given favorites, which every controller sharing them observes.
+     * @param favoritesService the favorites
+     */
+    public FavoritesController(FavoritesService favoritesService) {
         this.favoriteButton = new JButton("★");
         this.favoritesPanel = new JPanel();
         this.favoritesPanel.setLayout(new BoxLayout(favoritesPanel, BoxLayout.Y_AXIS));
         this.favoritedStocks = new HashSet<>();
 
         // Create the ViewModel and add a listener for updates
-        FavoriteStockViewModel viewModel = new FavoriteStockViewModel();
+        this.viewModel = new FavoriteStockViewModel();
         PropertyChangeListener viewModelListener = evt -> {
             if (evt.getPropertyName().equals(FavoriteStockViewModel.FAVORITES_CHANGED)) {
                 FavoriteStockState state = (FavoriteStockState) evt.getNewValue();
@@ -33,7 +42,7 @@ public class FavoritesController {
 
         // Create the presenter and interactor
         FavoriteStockPresenter presenter = new FavoriteStockPresenter(viewModel);
-        this.favoriteStockInteractor = new FavoriteStockInteractor(presenter);
+        this.favoriteStockInteractor = new FavoriteStockInteractor(presenter, favoritesService);
 
         // Load initial favorites
         favoriteStockInteractor.getFavorites();
@@ -75,6 +84,14 @@ public class FavoritesController {
         favoritesPanel.repaint();
     }
 
+    /**
+     * Registers a listener for every change of the favorites, made from this view or another one.
+     * @param listener gets a {@link FavoriteStockState} holding all favorites as the new value
+     */
+    public void addFavoritesListener(PropertyChangeListener listener) {
+        viewModel.addPropertyChangeListener(listener);
+    }
+
     public JButton getFavoriteButton() {
         return favoriteButton;
     }
@@ -0,0 +1,192 @@
+package interface_adapters.gateways;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+import org.json.JSONObject;
+
+/**
+ * The cached entries of every symbol, published as immutable snapshots.
+ *
+ * <p>A snapshot holds, per symbol, the cached days as a sorted array of epoch days with the
+ * entries in a parallel array. Readers take the current snapshot with one volatile read and then
+ * look up any number of days and symbols without a lock, always seeing the same version. Writers
+ * never change a snapshot: they queue their entries and one of them merges everything queued
+ * into the next version, so a backfill that adds many days publishes few versions and readers
+ * are never held up by it. Symbols that did not change are shared between versions.</p>
+ */
+final class BarIndex {
+    private static final String SYMBOL = "symbol";
+    private static final String DAY = "from";
+
+    private final Queue<JSONObject> pending = new ConcurrentLinkedQueue<>();
+    private final Object publishLock = new Object();
+    private final Consumer<List<JSONObject>> onPublish;
+    private volatile Snapshot snapshot;
+
+    /**
+     * Creates an index holding the given entries.
+     * @param initialEntries the entries already stored, as the first version
+     * @param onPublish called with the entries new to each later version, in the order versions
+     *                  are published, before the version becomes visible
+     */
+    BarIndex(List<JSONObject> initialEntries, Consumer<List<JSONObject>> onPublish) {
+        this.onPublish = onPublish;
+        this.snapshot = new Snapshot(Map.of()).merge(initialEntries, new ArrayList<>());
+    }
+
+    /**
+     * Returns the current version of the index.
+     * @return the snapshot, which never changes
+     */
+    Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Adds entries to the index. Entries for a day that is already cached are dropped; the first
+     * entry of a day wins. Returns once the entries are visible in {@link #snapshot()}.
+     * @param entries the entries, each with a symbol and a day
+     */
+    void publish(Collection<JSONObject> entries) {
+        pending.addAll(entries);
+        synchronized (publishLock) {
+            // if another writer published these entries while this one waited, nothing is left
+            final List<JSONObject> batch = new ArrayList<>();
+            JSONObject entry = pending.poll();
+            while (entry != null) {
+                batch.add(entry);
+                entry = pending.poll();
+            }
+            if (!batch.isEmpty()) {
+                final Snapshot current = snapshot;
+                final List<JSONObject> added = new ArrayList<>();
+                final Snapshot next = current.merge(batch, added);
+                if (!added.isEmpty()) {
+                    onPublish.accept(added);
+                    snapshot = next;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the epoch day of the day an entry is for.
+     * @param entry the entry
+     * @return the epoch day
+     */
+    static long dayOf(JSONObject entry) {
+        return LocalDate.parse(entry.getString(DAY)).toEpochDay();
+    }
+
+    /**
+     * One version of the index.
+     */
+    static final class Snapshot {
+        private final Map<String, SymbolBars> barsBySymbol;
+
+        private Snapshot(Map<String, SymbolBars> barsBySymbol) {
+            this.barsBySymbol = barsBySymbol;
+        }
+
+        /**
+         * Returns the cached entry of a symbol on a day.
+         * @param symbol the stock symbol
+         * @param epochDay the day
+         * @return the entry, or {@code null} if the day is not cached
+         */
+        JSONObject get(String symbol, long epochDay) {
+            JSONObject entry = null;
+            final SymbolBars bars = barsBySymbol.get(symbol);
+            if (bars != null) {
+                entry = bars.get(epochDay);
+            }
+            return entry;
+        }
+
+        private Snapshot merge(List<JSONObject> batch, List<JSONObject> added) {
+            final Map<String, List<JSONObject>> batchBySymbol = new HashMap<>();
+            for (JSONObject entry : batch) {
+                if (entry.has(SYMBOL) && entry.has(DAY)) {
+                    batchBySymbol.computeIfAbsent(entry.getString(SYMBOL), symbol -> new ArrayList<>()).add(entry);
+                }
+            }
+            final Map<String, SymbolBars> nextBars = new HashMap<>(barsBySymbol);
+            for (Map.Entry<String, List<JSONObject>> symbolBatch : batchBySymbol.entrySet()) {
+                final SymbolBars bars = barsBySymbol.getOrDefault(symbolBatch.getKey(), SymbolBars.EMPTY);
+                nextBars.put(symbolBatch.getKey(), bars.merge(symbolBatch.getValue(), added));
+            }
+            return new Snapshot(Map.copyOf(nextBars));
+        }
+    }
+
+    /**
+     * The cached days of one symbol, sorted, with their entries.
+     */
+    static final class SymbolBars {
+        private static final SymbolBars EMPTY = new SymbolBars(new long[0], new JSONObject[0]);
+
+        private final long[] days;
+        private final JSONObject[] entries;
+
+        private SymbolBars(long[] days, JSONObject[] entries) {
+            this.days = days;
+            this.entries = entries;
+        }
+
+        JSONObject get(long epochDay) {
+            JSONObject entry = null;
+            final int index = Arrays.binarySearch(days, epochDay);
+            if (index >= 0) {
+                entry = entries[index];
+            }
+            return entry;
+        }
+
+        /**
+         * Merges new entries into a copy of these bars in one pass over both.
+         */
+        private SymbolBars merge(List<JSONObject> batch, List<JSONObject> added) {
+            // a stable sort keeps the first entry of a repeated day in front
+            final List<JSONObject> sorted = new ArrayList<>(batch);
+            sorted.sort(Comparator.comparingLong(BarIndex::dayOf));
+            final long[] mergedDays = new long[days.length + sorted.size()];
+            final JSONObject[] mergedEntries = new JSONObject[mergedDays.length];
+            int length = 0;
+            int old = 0;
+            for (JSONObject entry : sorted) {
+                final long day = dayOf(entry);
+                while (old < days.length && days[old] < day) {
+                    mergedDays[length] = days[old];
+                    mergedEntries[length] = entries[old];
+                    length++;
+                    old++;
+                }
+                final boolean cached = old < days.length && days[old] == day;
+                final boolean repeated = length > 0 && mergedDays[length - 1] == day;
+                if (!cached && !repeated) {
+                    mergedDays[length] = day;
+                    mergedEntries[length] = entry;
+                    length++;
+                    added.add(entry);
+                }
+            }
+            while (old < days.length) {
+                mergedDays[length] = days[old];
+                mergedEntries[length] = entries[old];
+                length++;
+                old++;
+            }
+            return new SymbolBars(Arrays.copyOf(mergedDays, length), Arrays.copyOf(mergedEntries, length));
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package interface_adapters.gateways;
+
+import java.util.List;
+
+import org.json.JSONObject;
+
+/**
+ * An API the fundamentals of a stock missing from the local file are loaded from.
+ */
+public interface FundamentalsApiLoader {
+    /**
+     * Loads every reported period of a stock.
+     * @param stockSymbol the stock symbol
+     * @return one object per period with a {@code "period"}, the {@code "date"} the period ended
+     *         ({@code yyyy-MM-dd}) and, where known, {@code "eps"} and {@code "dividend"}; empty if
+     *         the API has nothing for the stock
+     */
+    List<JSONObject> loadFundamentals(String stockSymbol);
+}
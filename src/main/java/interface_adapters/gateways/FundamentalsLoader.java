@@ -0,0 +1,236 @@
+package interface_adapters.gateways;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import entities.MetricValues;
+import org.json.JSONObject;
+import use_cases.FundamentalsDataInterface;
+
+/**
+ * Implementation of the fundamentals data access interface over a local CSV file.
+ *
+ * <p>The file has a header line and then one {@code symbol,period,date,eps,dividend} line per
+ * reported period, with the date the period ended as {@code yyyy-MM-dd}; an unknown value is left
+ * empty. The whole file is read once and indexed in memory by symbol and then by period, so every
+ * lookup is two hash lookups whatever the size of the universe. Symbols missing from the file are
+ * loaded from the API adapter, if there is one, on first use and cached, including symbols the API
+ * knows nothing about.</p>
+ */
+public class FundamentalsLoader implements FundamentalsDataInterface {
+    private static final String SEPARATOR = ",";
+    private static final int COLUMNS = 5;
+    private static final String PERIOD = "period";
+    private static final String DATE = "date";
+    private static final String EPS = "eps";
+    private static final String DIVIDEND = "dividend";
+
+    private final Map<String, SymbolFundamentals> fundamentals = new ConcurrentHashMap<>();
+    private final FundamentalsApiLoader apiLoader;
+
+    public FundamentalsLoader() {
+        this(System.getProperty("user.dir") + "/src/main/java/frameworks/Fundamentals.csv", null);
+    }
+
+    /**
+     * Creates a loader over the given file.
+     * @param filePath the fundamentals file; if it cannot be read, only the API is used
+     * @param apiLoader the API symbols missing from the file are loaded from, or null for none
+     */
+    public FundamentalsLoader(String filePath, FundamentalsApiLoader apiLoader) {
+        this.apiLoader = apiLoader;
+        final Map<String, List<Period>> periodsBySymbol = new HashMap<>();
+        try {
+            final List<String> lines = Files.readAllLines(Path.of(filePath));
+            // the first line is the header
+            for (String line : lines.subList(Math.min(1, lines.size()), lines.size())) {
+                final String[] columns = line.split(SEPARATOR, -1);
+                if (columns.length == COLUMNS && !columns[0].isBlank()) {
+                    try {
+                        final Period period = new Period(columns[1].strip(), LocalDate.parse(columns[2].strip()),
+                                parse(columns[3]), parse(columns[4]));
+                        periodsBySymbol.computeIfAbsent(columns[0].strip(), symbol -> new ArrayList<>()).add(period);
+                    }
+                    catch (DateTimeParseException | NumberFormatException error) {
+                        // one bad line loses that period, not the whole file
+                        System.err.println("Skipping malformed fundamentals line: " + line);
+                    }
+                }
+            }
+        }
+        catch (IOException error) {
+            System.err.println("Error reading fundamentals: " + error.getMessage());
+        }
+        for (Map.Entry<String, List<Period>> symbolPeriods : periodsBySymbol.entrySet()) {
+            fundamentals.put(symbolPeriods.getKey(), new SymbolFundamentals(symbolPeriods.getValue()));
+        }
+    }
+
+    @Override
+    public Double getEps(String stockSymbol) {
+        Double eps = null;
+        final SymbolFundamentals symbolFundamentals = find(stockSymbol);
+        if (symbolFundamentals != null) {
+            eps = symbolFundamentals.latestEps;
+        }
+        return eps;
+    }
+
+    @Override
+    public Double getEps(String stockSymbol, String period) {
+        Double eps = null;
+        final SymbolFundamentals symbolFundamentals = find(stockSymbol);
+        if (symbolFundamentals != null) {
+            eps = symbolFundamentals.value(period, symbolFundamentals.eps);
+        }
+        return eps;
+    }
+
+    @Override
+    public Double getDividendsPerShare(String stockSymbol, String period) {
+        Double dividend = null;
+        final SymbolFundamentals symbolFundamentals = find(stockSymbol);
+        if (symbolFundamentals != null) {
+            dividend = symbolFundamentals.value(period, symbolFundamentals.dividends);
+        }
+        return dividend;
+    }
+
+    @Override
+    public MetricValues getEarnings(String stockSymbol) {
+        MetricValues earnings = SymbolFundamentals.EMPTY.earnings;
+        final SymbolFundamentals symbolFundamentals = find(stockSymbol);
+        if (symbolFundamentals != null) {
+            earnings = symbolFundamentals.earnings;
+        }
+        return earnings;
+    }
+
+    @Override
+    public MetricValues getDividends(String stockSymbol) {
+        MetricValues dividends = SymbolFundamentals.EMPTY.dividendSeries;
+        final SymbolFundamentals symbolFundamentals = find(stockSymbol);
+        if (symbolFundamentals != null) {
+            dividends = symbolFundamentals.dividendSeries;
+        }
+        return dividends;
+    }
+
+    private SymbolFundamentals find(String stockSymbol) {
+        SymbolFundamentals found = null;
+        if (stockSymbol != null) {
+            found = fundamentals.get(stockSymbol);
+            if (found == null && apiLoader != null) {
+                found = fundamentals.computeIfAbsent(stockSymbol, this::loadFromApi);
+            }
+        }
+        return found;
+    }
+
+    private SymbolFundamentals loadFromApi(String stockSymbol) {
+        final List<Period> periods = new ArrayList<>();
+        for (JSONObject entry : apiLoader.loadFundamentals(stockSymbol)) {
+            if (entry.has(PERIOD) && entry.has(DATE)) {
+                try {
+                    periods.add(new Period(entry.getString(PERIOD), LocalDate.parse(entry.getString(DATE)),
+                            entry.optDouble(EPS, Double.NaN), entry.optDouble(DIVIDEND, Double.NaN)));
+                }
+                catch (DateTimeParseException error) {
+                    System.err.println("Skipping malformed fundamentals entry: " + entry);
+                }
+            }
+        }
+        return new SymbolFundamentals(periods);
+    }
+
+    private static double parse(String column) {
+        double value = Double.NaN;
+        if (!column.isBlank()) {
+            value = Double.parseDouble(column.strip());
+        }
+        return value;
+    }
+
+    /**
+     * One reported period of a stock, as read.
+     */
+    private static final class Period {
+        private final String name;
+        private final LocalDate date;
+        private final double eps;
+        private final double dividend;
+
+        private Period(String name, LocalDate date, double eps, double dividend) {
+            this.name = name;
+            this.date = date;
+            this.eps = eps;
+            this.dividend = dividend;
+        }
+    }
+
+    /**
+     * The periods of one stock, sorted by date, with an index from period to position.
+     */
+    private static final class SymbolFundamentals {
+        private static final SymbolFundamentals EMPTY = new SymbolFundamentals(List.of());
+
+        private final Map<String, Integer> positions = new HashMap<>();
+        private final double[] eps;
+        private final double[] dividends;
+        private final Double latestEps;
+        private final MetricValues earnings;
+        private final MetricValues dividendSeries;
+
+        private SymbolFundamentals(List<Period> periods) {
+            final List<Period> sorted = new ArrayList<>(periods);
+            sorted.sort(Comparator.comparing(period -> period.date));
+            eps = new double[sorted.size()];
+            dividends = new double[sorted.size()];
+            final List<Double> earningsValues = new ArrayList<>();
+            final List<Date> earningsDates = new ArrayList<>();
+            final List<Double> dividendValues = new ArrayList<>();
+            final List<Date> dividendDates = new ArrayList<>();
+            Double latest = null;
+            for (int i = 0; i < sorted.size(); i++) {
+                final Period period = sorted.get(i);
+                // a period listed twice keeps its first line
+                positions.putIfAbsent(period.name, i);
+                eps[i] = period.eps;
+                dividends[i] = period.dividend;
+                final Date date = Date.from(period.date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+                if (!Double.isNaN(period.eps)) {
+                    earningsValues.add(period.eps);
+                    earningsDates.add(date);
+                    latest = period.eps;
+                }
+                if (!Double.isNaN(period.dividend)) {
+                    dividendValues.add(period.dividend);
+                    dividendDates.add(date);
+                }
+            }
+            latestEps = latest;
+            earnings = new MetricValues(earningsValues, earningsDates);
+            dividendSeries = new MetricValues(dividendValues, dividendDates);
+        }
+
+        private Double value(String period, double[] values) {
+            Double value = null;
+            final Integer position = positions.get(period);
+            if (position != null && !Double.isNaN(values[position])) {
+                value = values[position];
+            }
+            return value;
+        }
+    }
+}
@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.json.JSONObject;
 
@@ -28,6 +29,18 @@ public class PolygonApiLoader implements ApiDataLoader {
     private static String dateKey = "from";
     private static String messageKey = "message";
 
+    /** The first wait after the API reports its rate limit; each further refusal doubles it. */
+    private static final long FIRST_BACKOFF_MILLIS = 1_000;
+    private static final long MAX_BACKOFF_MILLIS = 60_000;
+    /**
+     * The earliest time a request may be sent. The limit is per API key, so when any load is
+     * refused, every load holds off instead of each retrying on its own.
+     */
+    private static final AtomicLong RESUME_AT = new AtomicLong();
+
+    /** One client for every request, so connections are pooled and reused. */
+    private final HttpClient client = HttpClient.newHttpClient();
+
     @Override
     public JSONObject loadOneEntry(String stockSymbol, Date date) {
         // Implemented force take data
@@ -45,12 +58,14 @@ public class PolygonApiLoader implements ApiDataLoader {
         boolean apiIsDone = false;
 
         JSONObject jsonData = new JSONObject();
+        long backoff = FIRST_BACKOFF_MILLIS;
 
         while (!apiIsDone) {
             apiIsDone = true;
+            jsonData = new JSONObject();
             try {
+                awaitRateLimit();
                 final String apiUrl = buildApiUrl(baseUrl, endpoint, queryParameters);
-                final HttpClient client = HttpClient.newHttpClient();
                 final HttpRequest request = HttpRequest.newBuilder()
                         .uri(URI.create(apiUrl))
                         .build();
@@ -58,15 +73,22 @@ public class PolygonApiLoader implements ApiDataLoader {
                 jsonData = new JSONObject(response.body());
             }
 
-            catch (IOException | InterruptedException exception) {
+            catch (IOException exception) {
                 System.out.println("LoadOneEntry Server Issue");
             }
 
+            catch (InterruptedException exception) {
+                // the load was cancelled, keep the flag so the caller can stop too
+                Thread.currentThread().interrupt();
+            }
+
             // System.out.println(jsonData.toString());
 
             if (jsonData.has("error") && jsonData.get("error")
-                    .equals(apiCallLimitErrorMsg)) {
+                    .equals(apiCallLimitErrorMsg) && !Thread.currentThread().isInterrupted()) {
                 apiIsDone = false;
+                RESUME_AT.accumulateAndGet(System.currentTimeMillis() + backoff, Math::max);
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
             }
 
             else if (jsonData.has(statusKey) && jsonData.get(statusKey).equals("NOT_FOUND")) {
@@ -88,6 +110,18 @@ public class PolygonApiLoader implements ApiDataLoader {
         return jsonData;
     }
 
+    /**
+     * Waits until the API may be called again after reporting its rate limit.
+     * @throws InterruptedException if the load is cancelled while waiting
+     */
+    private static void awaitRateLimit() throws InterruptedException {
+        long wait = RESUME_AT.get() - System.currentTimeMillis();
+        while (wait > 0) {
+            Thread.sleep(wait);
+            wait = RESUME_AT.get() - System.currentTimeMillis();
+        }
+    }
+
     /**
      * Creates a JSON object representing a "Data not found" entry for a given stock symbol and date.
      *
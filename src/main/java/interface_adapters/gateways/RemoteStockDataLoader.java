@@ -0,0 +1,175 @@
+package interface_adapters.gateways;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import entities.MetricValues;
+import entities.SharePrices;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import use_cases.StockDataInterface;
+
+/**
+ * Implementation of the stock data access interface over a stock data server, so that many
+ * clients share the server's cache instead of each keeping its own.
+ *
+ * <p>Every call is one request to the server; see
+ * {@link interface_adapters.server.StockDataServer} for the operations. A value the server does
+ * not have, or cannot be reached for, is {@link Double#NaN}, and a series it does not have is
+ * {@code null}, as with the local loader.</p>
+ */
+public class RemoteStockDataLoader implements StockDataInterface {
+    private static final String SYMBOL = "symbol";
+    private static final String DATES = "dates";
+    private static final String VALUES = "values";
+    private static final String VALUE = "value";
+    private static final int OK = 200;
+
+    /** One client for every request, so connections are pooled and reused. */
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final String baseUrl;
+
+    /**
+     * Creates a loader for the server at the given address.
+     * @param baseUrl the address of the server, e.g. {@code http://localhost:8765}
+     */
+    public RemoteStockDataLoader(String baseUrl) {
+        this.baseUrl = baseUrl + "/v1/";
+    }
+
+    @Override
+    public Double getVolume(String stockSymbol, Date date) {
+        return value(load("volume", stockSymbol, date, null));
+    }
+
+    @Override
+    public MetricValues getVolumes(String stockSymbol, Date startDate, Date endDate) {
+        return series(load("volumes", stockSymbol, startDate, endDate));
+    }
+
+    @Override
+    public Double getAfterHour(String stockSymbol, Date date) {
+        return value(load("after-hour", stockSymbol, date, null));
+    }
+
+    @Override
+    public MetricValues getAfterHours(String stockSymbol, Date startDate, Date endDate) {
+        return series(load("after-hours", stockSymbol, startDate, endDate));
+    }
+
+    @Override
+    public Double getPremarket(String stockSymbol, Date date) {
+        return value(load("premarket", stockSymbol, date, null));
+    }
+
+    @Override
+    public MetricValues getPremarkets(String stockSymbol, Date startDate, Date endDate) {
+        return series(load("premarkets", stockSymbol, startDate, endDate));
+    }
+
+    @Override
+    public SharePrices getSharePrice(String stockSymbol, Date date) {
+        return sharePrices(load("price", stockSymbol, date, null));
+    }
+
+    @Override
+    public SharePrices getSharePrices(String stockSymbol, Date startDate, Date endDate) {
+        return sharePrices(load("prices", stockSymbol, startDate, endDate));
+    }
+
+    @Override
+    public SharePrices getCachedSharePrices(String stockSymbol, Date startDate, Date endDate) {
+        return sharePrices(load("cached-prices", stockSymbol, startDate, endDate));
+    }
+
+    /**
+     * Requests an operation for one day, or for a range if an end date is given.
+     * @return the response, or {@code null} if there is none or it is an error
+     */
+    private JSONObject load(String operation, String stockSymbol, Date date, Date endDate) {
+        JSONObject response = null;
+        if (stockSymbol != null && date != null) {
+            final StringBuilder url = new StringBuilder(baseUrl).append(operation)
+                    .append("?symbol=").append(URLEncoder.encode(stockSymbol, StandardCharsets.UTF_8));
+            if (endDate == null) {
+                url.append("&date=").append(format(date));
+            }
+            else {
+                url.append("&start=").append(format(date)).append("&end=").append(format(endDate));
+            }
+            try {
+                final HttpResponse<String> reply = client.send(HttpRequest.newBuilder(URI.create(url.toString()))
+                        .build(), HttpResponse.BodyHandlers.ofString());
+                if (reply.statusCode() == OK) {
+                    response = new JSONObject(reply.body());
+                }
+            }
+            catch (IOException exception) {
+                System.err.println("Error loading " + operation + " for " + stockSymbol + ": "
+                        + exception.getMessage());
+            }
+            catch (InterruptedException exception) {
+                // the load was cancelled, keep the flag so the caller can stop too
+                Thread.currentThread().interrupt();
+            }
+        }
+        return response;
+    }
+
+    private static Double value(JSONObject response) {
+        Double value = Double.NaN;
+        if (response != null) {
+            value = response.optDouble(VALUE, Double.NaN);
+        }
+        return value;
+    }
+
+    private static MetricValues series(JSONObject response) {
+        MetricValues series = null;
+        if (response != null) {
+            series = new MetricValues(numbers(response.getJSONArray(VALUES)), dates(response.getJSONArray(DATES)));
+        }
+        return series;
+    }
+
+    private static SharePrices sharePrices(JSONObject response) {
+        SharePrices sharePrices = null;
+        if (response != null) {
+            sharePrices = new SharePrices(dates(response.getJSONArray(DATES)),
+                    numbers(response.getJSONArray("open")), numbers(response.getJSONArray("close")),
+                    numbers(response.getJSONArray("high")), numbers(response.getJSONArray("low")));
+        }
+        return sharePrices;
+    }
+
+    private static List<Date> dates(JSONArray array) {
+        final List<Date> dates = new ArrayList<>(array.length());
+        for (int i = 0; i < array.length(); i++) {
+            dates.add(Date.from(LocalDate.parse(array.getString(i)).atStartOfDay(ZoneId.systemDefault())
+                    .toInstant()));
+        }
+        return dates;
+    }
+
+    private static List<Double> numbers(JSONArray array) {
+        final List<Double> numbers = new ArrayList<>(array.length());
+        for (int i = 0; i < array.length(); i++) {
+            numbers.add(array.optDouble(i, Double.NaN));
+        }
+        return numbers;
+    }
+
+    private static String format(Date date) {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate().toString();
+    }
+}
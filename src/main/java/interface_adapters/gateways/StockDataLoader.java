@@ -1,18 +1,27 @@
 package interface_adapters.gateways;
 
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 import entities.MetricValues;
+import entities.SeriesAligner;
 import entities.SharePrices;
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -31,18 +40,58 @@ import use_cases.StockDataInterface;
  *     <li>Request stock data from the API if not available in the cache.</li>
  *     <li>Update the cache with API data.</li>
  * </ul>
+ *
+ * <p>The cache file is read once into an index by symbol and day; afterwards lookups never
+ * touch the disk and new entries are appended to the end of the file. The application shares
+ * one loader between all of its use cases, so there is one index and one writer for the file.
+ * {@link #close()} flushes the writer.</p>
+ *
+ * <p>The loader is safe to use from several threads. Reads take no lock: the index is published
+ * as immutable snapshots (see {@link BarIndex}), so a read of a whole range sees one version even
+ * while a backfill runs. A missing day is requested from the API by the first thread to miss
+ * it; threads missing it while that request runs wait for its entry instead of asking again. The
+ * requests take no lock, so loads of any symbols run in parallel. Publishing is serialized per
+ * symbol by one of {@value #LOCK_STRIPES} lock stripes, and the missing days of a range are
+ * published together as one new version. Appends to the file are serialized and in the order of
+ * the versions, so entries never interleave.</p>
  */
-public class StockDataLoader implements StockDataInterface {
-    private ApiDataLoader gatewayLoader;
-    private String workingDir = System.getProperty("user.dir");
-    private String filePath = workingDir + "/src/main/java/frameworks/StockData.json";
+public class StockDataLoader implements StockDataInterface, AutoCloseable {
+    private static final int LOCK_STRIPES = 16;
+
+    private final ApiDataLoader gatewayLoader;
+    private final String filePath;
     private String statusKey = "status";
 
+    /** The cached entries of every symbol by day; the first entry of a day wins. */
+    private final BarIndex index;
+    /** Serialize the writes of the symbols hashed to them. */
+    private final ReentrantLock[] stripes = new ReentrantLock[LOCK_STRIPES];
+    /** The days being requested from the API, by symbol and epoch day, until they are published. */
+    private final Map<String, CompletableFuture<JSONObject>> inFlight = new ConcurrentHashMap<>();
+    /** Whether the file already holds an entry, so the next one needs a separator. Guarded by {@code this}. */
+    private boolean fileHasEntries;
+    /** Appends to the file; opened on the first append. Guarded by {@code this}. */
+    private BufferedWriter writer;
+
     public StockDataLoader() {
         // The stock data loader uses the Polygon API gateway, but an interface allows
         // future users to switch to other APIs if data structures change.
-        gatewayLoader = new PolygonApiLoader();
+        this(new PolygonApiLoader(), System.getProperty("user.dir") + "/src/main/java/frameworks/StockData.json");
+    }
+
+    /**
+     * Creates a loader over the given gateway and cache file.
+     * @param gatewayLoader the API the missing entries are loaded from
+     * @param filePath the cache file, created if it does not exist
+     */
+    public StockDataLoader(ApiDataLoader gatewayLoader, String filePath) {
+        this.gatewayLoader = gatewayLoader;
+        this.filePath = filePath;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
         createStockDataJSON();
+        this.index = new BarIndex(readEntries(), this::appendEntries);
     }
 
     /**
@@ -102,7 +151,7 @@ public class StockDataLoader implements StockDataInterface {
      * @return a {@link JSONArray} containing the parsed content of the file. Returns an
      *      empty {@link JSONArray} if an error occurs or the file is empty.
      */
-    public JSONArray convertFileToJsonArray() {
+    public synchronized JSONArray convertFileToJsonArray() {
         final StringBuilder jsonContent = new StringBuilder();
         try {
             String jsonEntry;
@@ -125,11 +174,11 @@ public class StockDataLoader implements StockDataInterface {
     /**
      * Updates the stock data file with a new stock entry for the specified stock symbol and date.
      *
-     * <p>This method retrieves a new stock entry using the {@code gatewayLoader}, appends it
-     * to the existing stock data file (if it is not empty), and writes the updated content
-     * back to the file. If the file is empty, it writes only the new stock entry. In case
+     * <p>This method retrieves a new stock entry using the {@code gatewayLoader}, adds it to
+     * the index of the cache and appends it to the end of the stock data file. In case
      * of an {@link IOException}, an error message is logged, and the method continues to
-     * return the new entry.</p>
+     * return the new entry. Nothing is written when the calling thread has been interrupted,
+     * since a cancelled request does not carry real data.</p>
      *
      * @param stockSymbol the unique stock symbol representing the company (e.g., "AAPL" for Apple Inc.).
      * @param date the date for which the stock data is being updated.
@@ -137,27 +186,119 @@ public class StockDataLoader implements StockDataInterface {
      */
     public JSONObject updateStockData(String stockSymbol, Date date) {
         final JSONObject newEntry = gatewayLoader.loadOneEntry(stockSymbol, date);
+        // a cancelled request did not get a real answer, so it must not be cached
+        if (!Thread.currentThread().isInterrupted()) {
+            cacheEntry(newEntry);
+        }
+
+        return newEntry;
+    }
+
+    /**
+     * Adds an entry to the index, unless its day is already cached.
+     *
+     * @param newEntry the entry to cache
+     */
+    private void cacheEntry(JSONObject newEntry) {
+        if (newEntry.has("symbol") && newEntry.has("from")) {
+            publish(newEntry.getString("symbol"), List.of(newEntry));
+        }
+    }
+
+    /**
+     * Publishes new entries of a symbol as one version of the index, holding the symbol's stripe.
+     *
+     * @param stockSymbol the stock symbol
+     * @param newEntries the entries to publish
+     */
+    private void publish(String stockSymbol, List<JSONObject> newEntries) {
+        final ReentrantLock stripe = stripeOf(stockSymbol);
+        stripe.lock();
         try {
-            String stockDataAdditionalContent = "";
-            final String stockDataContent = Files.readString(Paths.get(filePath));
-            final String stockDataContentTrim = stockDataContent.trim();
-            // Format StockData.json
-            if (stockDataContentTrim.isEmpty()) {
-                stockDataAdditionalContent = newEntry.toString();
-            }
+            index.publish(newEntries);
+        }
+        finally {
+            stripe.unlock();
+        }
+    }
 
-            else {
-                stockDataAdditionalContent = stockDataContent + "," + "\n" + newEntry.toString();
+    /**
+     * Appends the entries of a new version of the index to the stock data file. Called by the
+     * index one version at a time.
+     *
+     * @param newEntries the entries to append
+     */
+    private synchronized void appendEntries(List<JSONObject> newEntries) {
+        try {
+            if (writer == null) {
+                writer = Files.newBufferedWriter(Paths.get(filePath), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
             }
-
-            Files.writeString(Paths.get(filePath), stockDataAdditionalContent);
+            for (JSONObject newEntry : newEntries) {
+                // Format StockData.json
+                if (fileHasEntries) {
+                    writer.write("," + "\n");
+                }
+                writer.write(newEntry.toString());
+                fileHasEntries = true;
+            }
+            writer.flush();
         }
 
         catch (IOException ioException) {
             System.out.println("updateStockData Error: " + ioException.getMessage());
         }
+    }
 
-        return newEntry;
+    /**
+     * Returns the cached entry of a symbol on a day, without taking a lock.
+     *
+     * @param stockSymbol the stock symbol
+     * @param date the day
+     * @return the entry, or {@code null} if the day is not cached
+     */
+    private JSONObject cachedEntry(String stockSymbol, Date date) {
+        return index.snapshot().get(stockSymbol, SeriesAligner.toEpochDay(date));
+    }
+
+    /**
+     * Reads the entries stored in the cache file.
+     */
+    private List<JSONObject> readEntries() {
+        final JSONArray contentJsonArray = convertFileToJsonArray();
+        final List<JSONObject> entries = new ArrayList<>();
+        for (int i = 0; i < contentJsonArray.length(); i++) {
+            final JSONObject jsonObject = contentJsonArray.getJSONObject(i);
+            if (jsonObject.has("symbol") && jsonObject.has("from")) {
+                entries.add(jsonObject);
+            }
+        }
+        synchronized (this) {
+            fileHasEntries = !contentJsonArray.isEmpty();
+        }
+        return entries;
+    }
+
+    private ReentrantLock stripeOf(String stockSymbol) {
+        return stripes[Math.floorMod(stockSymbol.hashCode(), LOCK_STRIPES)];
+    }
+
+    /**
+     * Writes the entries appended so far to disk and releases the file. The loader can still be
+     * used afterwards; the next append opens the file again.
+     */
+    @Override
+    public synchronized void close() {
+        if (writer != null) {
+            try {
+                writer.close();
+            }
+
+            catch (IOException ioException) {
+                System.out.println("close Error: " + ioException.getMessage());
+            }
+            writer = null;
+        }
     }
 
     /**
@@ -230,12 +371,12 @@ public class StockDataLoader implements StockDataInterface {
      * key are considered invalid. This is useful for filtering out data for non-trading
      * days (e.g., weekends or holidays).</p>
      *
-     * @param jsonObject the {@link JSONObject} to validate.
+     * @param jsonObject the {@link JSONObject} to validate, or {@code null} for a day that was not loaded.
      * @return {@code true} if the JSON object contains a "status" key with the value "OK";
      *         {@code false} otherwise.
      */
     public boolean isValidEntry(JSONObject jsonObject) {
-        return jsonObject.has(statusKey) && jsonObject.getString(statusKey).equals("OK");
+        return jsonObject != null && jsonObject.has(statusKey) && jsonObject.getString(statusKey).equals("OK");
     }
 
     /**
@@ -258,14 +399,17 @@ public class StockDataLoader implements StockDataInterface {
     public String reasonMissingData(String stockSymbol, Date date) {
         // At this point the entry should already be stored within the StockData.json
         final JSONObject jsonMissing = findOrCreateEntry(stockSymbol, date);
+        if (jsonMissing == null) {
+            throw new IllegalStateException("The load of " + stockSymbol + " was cancelled.");
+        }
         return jsonMissing.getString(statusKey);
     }
 
     /**
      * Finds an existing JSON entry for the specified stock symbol and date, or creates a new one if it does not exist.
      *
-     * <p>This method iterates through a {@link JSONArray} to search for a {@link JSONObject} that matches
-     * the given stock symbol and date. If a matching entry is found, it is returned. If no match is found,
+     * <p>This method looks up the {@link JSONObject} of the given stock symbol and date in the
+     * index of the cache. If a matching entry is found, it is returned. If no match is found,
      * a new entry is created by updating the stock data through the gateway, and the newly created entry
      * is returned.</p>
      *
@@ -275,22 +419,173 @@ public class StockDataLoader implements StockDataInterface {
      *         If no matching entry exists, a newly created {@link JSONObject} is returned.
      */
     private JSONObject findOrCreateEntry(String stockSymbol, Date date) {
-        final JSONArray contentJsonArray = convertFileToJsonArray();
-        JSONObject matchingEntry = null;
+        JSONObject matchingEntry = cachedEntry(stockSymbol, date);
 
-        for (int i = 0; i < contentJsonArray.length(); i++) {
-            final JSONObject jsonObject = contentJsonArray.getJSONObject(i);
-            if (matchesStockSymbolAndDate(stockSymbol, date, jsonObject)) {
-                matchingEntry = jsonObject;
-                break;
+        if (matchingEntry == null) {
+            matchingEntry = findOrCreateEntries(stockSymbol, List.of(date)).get(0);
+        }
+
+        return matchingEntry;
+    }
+
+    /**
+     * Finds the entry of every given day of a symbol, loading the missing days first.
+     *
+     * <p>The missing days are loaded one after the other without holding a lock, and published
+     * together as one new version of the index. Days loaded before an interruption or a failure
+     * are still published; the days after it are not requested and their entries are
+     * {@code null}.</p>
+     *
+     * @param stockSymbol the stock symbol
+     * @param dates the days, in order
+     * @return the entry of every day, in the order of {@code dates}, {@code null} for a day not
+     *         requested because the load was cancelled
+     */
+    private List<JSONObject> findOrCreateEntries(String stockSymbol, List<Date> dates) {
+        final JSONObject[] entries = new JSONObject[dates.size()];
+        // one snapshot, so the whole range is read from the same version
+        final BarIndex.Snapshot snapshot = index.snapshot();
+        boolean complete = true;
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = snapshot.get(stockSymbol, SeriesAligner.toEpochDay(dates.get(i)));
+            complete &= entries[i] != null;
+        }
+
+        if (!complete) {
+            final List<JSONObject> loaded = new ArrayList<>();
+            final List<String> loadedKeys = new ArrayList<>();
+            try {
+                // a cancelled load stops requesting days, which the API key has few of
+                for (int i = 0; i < entries.length && !Thread.currentThread().isInterrupted(); i++) {
+                    if (entries[i] == null) {
+                        entries[i] = loadDay(stockSymbol, dates.get(i), loaded, loadedKeys);
+                    }
+                }
+            }
+            finally {
+                publish(stockSymbol, loaded);
+                // only once they are published, so a thread that misses them now finds them cached
+                for (String key : loadedKeys) {
+                    inFlight.remove(key);
+                }
             }
         }
 
-        if (matchingEntry == null) {
-            matchingEntry = updateStockData(stockSymbol, date);
+        return Arrays.asList(entries);
+    }
+
+    /**
+     * Loads a day that was not cached, or waits for the thread already loading it.
+     *
+     * <p>The entry this thread requests is added to {@code loaded} for the caller to publish, and
+     * its key to {@code loadedKeys} for the caller to take out of flight afterwards. If the thread
+     * loading the day was cancelled or failed, this one requests it instead.</p>
+     *
+     * @param stockSymbol the stock symbol
+     * @param date the day
+     * @param loaded the entries requested by this thread, to publish
+     * @param loadedKeys the keys of those entries
+     * @return the entry of the day
+     */
+    private JSONObject loadDay(String stockSymbol, Date date, List<JSONObject> loaded, List<String> loadedKeys) {
+        final long epochDay = SeriesAligner.toEpochDay(date);
+        final String key = stockSymbol + " " + epochDay;
+        JSONObject entry = null;
+        while (entry == null) {
+            final CompletableFuture<JSONObject> own = new CompletableFuture<>();
+            final CompletableFuture<JSONObject> running = inFlight.putIfAbsent(key, own);
+            if (running == null) {
+                entry = recheck(stockSymbol, epochDay);
+                if (entry == null) {
+                    entry = request(stockSymbol, date, key, own);
+                    // a cancelled request did not get a real answer, so it must not be cached
+                    if (!Thread.currentThread().isInterrupted()) {
+                        loaded.add(entry);
+                        loadedKeys.add(key);
+                        own.complete(entry);
+                    }
+                    else {
+                        inFlight.remove(key, own);
+                        own.complete(null);
+                    }
+                }
+                else {
+                    inFlight.remove(key, own);
+                    own.complete(entry);
+                }
+            }
+            else {
+                // null if the thread loading it was cancelled or failed
+                entry = running.join();
+            }
         }
+        return entry;
+    }
 
-        return matchingEntry;
+    /**
+     * Looks a day up again under the symbol's stripe, since a load that finished after the first
+     * look was published before it went out of flight.
+     */
+    private JSONObject recheck(String stockSymbol, long epochDay) {
+        final ReentrantLock stripe = stripeOf(stockSymbol);
+        stripe.lock();
+        try {
+            return index.snapshot().get(stockSymbol, epochDay);
+        }
+        finally {
+            stripe.unlock();
+        }
+    }
+
+    /**
+     * Requests a day from the API. If the request fails, the day goes out of flight so that the
+     * threads waiting for it request it themselves.
+     */
+    private JSONObject request(String stockSymbol, Date date, String key, CompletableFuture<JSONObject> own) {
+        try {
+            return gatewayLoader.loadOneEntry(stockSymbol, date);
+        }
+        catch (RuntimeException exception) {
+            inFlight.remove(key, own);
+            own.complete(null);
+            throw exception;
+        }
+    }
+
+    /**
+     * Lists every day from the start date to the end date, at midnight.
+     */
+    private List<Date> daysBetween(Date startDate, Date endDate) {
+        final List<Date> dates = new ArrayList<>();
+        final Calendar calendar = Calendar.getInstance();
+        calendar.setTime(startDate);
+        clearTimeFields(calendar);
+        while (!calendar.getTime().after(endDate)) {
+            dates.add(calendar.getTime());
+            addDay(calendar, 1);
+        }
+        return dates;
+    }
+
+    /**
+     * Loads one field of every day in a range; days without data are NaN.
+     */
+    private MetricValues metricValues(String stockSymbol, Date startDate, Date endDate, String key) {
+        MetricValues metricValues = null;
+        if (startDate != null && endDate != null && startDate.compareTo(endDate) <= 0) {
+            final List<Date> dates = daysBetween(startDate, endDate);
+            final List<Double> values = new ArrayList<>();
+            for (JSONObject entry : findOrCreateEntries(stockSymbol, dates)) {
+                double value = Double.NaN;
+                if (isValidEntry(entry)) {
+                    value = entry.getDouble(key);
+                }
+                values.add(value);
+            }
+            metricValues = new MetricValues(values, dates);
+        }
+
+        return metricValues;
     }
 
     @Override
@@ -308,24 +603,7 @@ public class StockDataLoader implements StockDataInterface {
 
     @Override
     public MetricValues getVolumes(String stockSymbol, Date startDate, Date endDate) {
-        MetricValues volumesData = null;
-        if (startDate != null && endDate != null && startDate.compareTo(endDate) <= 0) {
-            final ArrayList<Double> volumesValue = new ArrayList<>();
-            final ArrayList<Date> volumesDate = new ArrayList<>();
-            final Calendar calendar = Calendar.getInstance();
-            calendar.setTime(startDate);
-            clearTimeFields(calendar);
-            while (!calendar.getTime().after(endDate)) {
-                final Date currentDate = calendar.getTime();
-                volumesValue.add(getVolume(stockSymbol, currentDate));
-                volumesDate.add(currentDate);
-                addDay(calendar, 1);
-            }
-
-            volumesData = new MetricValues(volumesValue, volumesDate);
-        }
-
-        return volumesData;
+        return metricValues(stockSymbol, startDate, endDate, "volume");
     }
 
     @Override
@@ -343,24 +621,7 @@ public class StockDataLoader implements StockDataInterface {
 
     @Override
     public MetricValues getAfterHours(String stockSymbol, Date startDate, Date endDate) {
-        MetricValues afterHoursData = null;
-        if (startDate != null && endDate != null && startDate.compareTo(endDate) <= 0) {
-            final ArrayList<Double> afterHoursValue = new ArrayList<>();
-            final ArrayList<Date> afterHoursDate = new ArrayList<>();
-            final Calendar calendar = Calendar.getInstance();
-            calendar.setTime(startDate);
-            clearTimeFields(calendar);
-            while (!calendar.getTime().after(endDate)) {
-                final Date currentDate = calendar.getTime();
-                afterHoursValue.add(getAfterHour(stockSymbol, currentDate));
-                afterHoursDate.add(currentDate);
-                addDay(calendar, 1);
-            }
-
-            afterHoursData = new MetricValues(afterHoursValue, afterHoursDate);
-        }
-
-        return afterHoursData;
+        return metricValues(stockSymbol, startDate, endDate, "afterHours");
     }
 
     @Override
@@ -378,24 +639,7 @@ public class StockDataLoader implements StockDataInterface {
 
     @Override
     public MetricValues getPremarkets(String stockSymbol, Date startDate, Date endDate) {
-        MetricValues premarketsData = null;
-        if (startDate != null && endDate != null && startDate.compareTo(endDate) <= 0) {
-            final ArrayList<Double> premarketsValue = new ArrayList<>();
-            final ArrayList<Date> premarketsDate = new ArrayList<>();
-            final Calendar calendar = Calendar.getInstance();
-            calendar.setTime(startDate);
-            clearTimeFields(calendar);
-            while (!calendar.getTime().after(endDate)) {
-                final Date currentDate = calendar.getTime();
-                premarketsValue.add(getPremarket(stockSymbol, currentDate));
-                premarketsDate.add(currentDate);
-                addDay(calendar, 1);
-            }
-
-            premarketsData = new MetricValues(premarketsValue, premarketsDate);
-        }
-
-        return premarketsData;
+        return metricValues(stockSymbol, startDate, endDate, "preMarket");
     }
 
     @Override
@@ -432,23 +676,53 @@ public class StockDataLoader implements StockDataInterface {
     public SharePrices getSharePrices(String stockSymbol, Date startDate, Date endDate) {
         SharePrices sharePrices = null;
         if (startDate != null && endDate != null && startDate.compareTo(endDate) <= 0) {
+            final List<Date> datesData = daysBetween(startDate, endDate);
+            final List<Double> openPrices = new ArrayList<>();
+            final List<Double> closePrices = new ArrayList<>();
+            final List<Double> highPrices = new ArrayList<>();
+            final List<Double> lowPrices = new ArrayList<>();
+            for (JSONObject entry : findOrCreateEntries(stockSymbol, datesData)) {
+                if (isValidEntry(entry)) {
+                    openPrices.add(entry.getDouble("open"));
+                    closePrices.add(entry.getDouble("close"));
+                    highPrices.add(entry.getDouble("high"));
+                    lowPrices.add(entry.getDouble("low"));
+                }
+                else {
+                    // days without data are dropped by SharePrices
+                    openPrices.add(Double.NaN);
+                    closePrices.add(Double.NaN);
+                    highPrices.add(Double.NaN);
+                    lowPrices.add(Double.NaN);
+                }
+            }
+
+            sharePrices = new SharePrices(datesData, openPrices, closePrices, highPrices, lowPrices);
+        }
+
+        return sharePrices;
+    }
+
+    @Override
+    public SharePrices getCachedSharePrices(String stockSymbol, Date startDate, Date endDate) {
+        SharePrices sharePrices = null;
+        if (startDate != null && endDate != null && startDate.compareTo(endDate) <= 0) {
+            // one snapshot, so the whole range is read from the same version
+            final BarIndex.Snapshot snapshot = index.snapshot();
             final List<Date> datesData = new ArrayList<>();
             final List<Double> openPrices = new ArrayList<>();
             final List<Double> closePrices = new ArrayList<>();
             final List<Double> highPrices = new ArrayList<>();
             final List<Double> lowPrices = new ArrayList<>();
-            final Calendar calendar = Calendar.getInstance();
-            calendar.setTime(startDate);
-            clearTimeFields(calendar);
-            while (!calendar.getTime().after(endDate)) {
-                final Date currentDate = calendar.getTime();
-                final SharePrices currentSharePrice = getSharePrice(stockSymbol, currentDate);
-                openPrices.addAll(currentSharePrice.getOpenPrices());
-                closePrices.addAll(currentSharePrice.getClosePrices());
-                highPrices.addAll(currentSharePrice.getHighPrices());
-                lowPrices.addAll(currentSharePrice.getLowPrices());
-                datesData.add(currentDate);
-                addDay(calendar, 1);
+            for (Date currentDate : daysBetween(startDate, endDate)) {
+                final JSONObject entry = snapshot.get(stockSymbol, SeriesAligner.toEpochDay(currentDate));
+                if (entry != null && isValidEntry(entry)) {
+                    datesData.add(currentDate);
+                    openPrices.add(entry.getDouble("open"));
+                    closePrices.add(entry.getDouble("close"));
+                    highPrices.add(entry.getDouble("high"));
+                    lowPrices.add(entry.getDouble("low"));
+                }
             }
 
             sharePrices = new SharePrices(datesData, openPrices, closePrices, highPrices, lowPrices);
@@ -1,72 +1,212 @@
 package interface_adapters.gateways;
 
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
 import java.util.List;
 
+import entities.SymbolUniverse;
 import use_cases.SymbolNameDataAccessInterface;
 
 /**
  * Implementation of data access interface of search use case.
+ *
+ * <p>The symbols are parsed once into an immutable {@link SymbolUniverse}, a sorted dictionary
+ * searched in both directions by binary search. They come from {@code StockSymbols.txt}
+ * ({@code SYMBOL-Company name} lines) and, if present, from a full exchange listing in
+ * {@code SymbolListings.txt} (see {@link #addListings}). {@link #reload()} re-reads the files,
+ * and {@link #watchForChanges()} does so whenever one is edited. Readers always see a complete
+ * snapshot, old or new. {@link #getSymbols()} lists the symbols in sorted order.</p>
  */
 public class StockSymbolsLoader implements SymbolNameDataAccessInterface {
+    private static final String SECURITY_NAME = "Security Name";
+    private static final String NASDAQ = "Q";
+    private static final String STOCK = "STOCK";
+    private static final String ETF = "ETF";
+
     private final String workingDir = System.getProperty("user.dir");
     private final String filePath = workingDir + "/src/main/java/frameworks/StockSymbols.txt";
+    private final String listingsPath = workingDir + "/src/main/java/frameworks/SymbolListings.txt";
+    private volatile Snapshot snapshot;
+    private Thread watcher;
+
+    public StockSymbolsLoader() {
+        reload();
+    }
 
     @Override
     public List<String> getSymbols() {
-        final List<String> result = new ArrayList<>();
-        try {
-            result.addAll(Files.readAllLines(Path.of(filePath)));
-            for (int i = 0; i < result.size(); i++) {
-                result.set(i, result.get(i).substring(0, result.get(i).indexOf('-')));
-            }
-        }
-        catch (IOException error) {
-            // Handle exception if file not found or can't be read
-            System.err.println("Error reading file: " + error.getMessage());
+        return snapshot.symbols;
+    }
+
+    @Override
+    public List<String> getCompanies() {
+        return snapshot.companies;
+    }
+
+    @Override
+    public String getCompany(String symbol) {
+        final SymbolUniverse universe = snapshot.universe;
+        final int id = universe.idOf(symbol);
+        String result = "";
+        if (id >= 0) {
+            result = universe.getName(id);
         }
         return result;
     }
 
     @Override
-    public String getCompany(String symbol) {
-        final List<String> symbolNameList = new ArrayList<>();
+    public String getSymbol(String company) {
+        final SymbolUniverse universe = snapshot.universe;
+        final int id = universe.idOfName(company);
         String result = "";
+        if (id >= 0) {
+            result = universe.getSymbol(id);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the current universe of symbols, with exchange and type of each listing.
+     * @return the symbol universe
+     */
+    public SymbolUniverse getUniverse() {
+        return snapshot.universe;
+    }
+
+    /**
+     * Re-reads the symbols file. If the file cannot be read, the current snapshot is kept
+     * (or an empty one is used on first load).
+     */
+    public final void reload() {
+        final SymbolUniverse.Builder builder = new SymbolUniverse.Builder();
         try {
-            symbolNameList.addAll(Files.readAllLines(Path.of(filePath)));
+            // the curated list comes first, so its names win over the reference listings
+            for (String line : Files.readAllLines(Path.of(filePath))) {
+                final int dash = line.indexOf('-');
+                if (dash >= 0) {
+                    builder.add(line.substring(0, dash), line.substring(dash + 1), "", STOCK);
+                }
+            }
+            if (Files.exists(Path.of(listingsPath))) {
+                addListings(Files.readAllLines(Path.of(listingsPath)), builder);
+            }
+            snapshot = new Snapshot(builder.build());
         }
-        catch (IOException exception) {
-            System.out.println("Error reading file: " + exception.getMessage());
+        catch (IOException error) {
+            // Handle exception if file not found or can't be read
+            System.err.println("Error reading file: " + error.getMessage());
+            if (snapshot == null) {
+                snapshot = new Snapshot(builder.build());
+            }
         }
-        for (String str: symbolNameList) {
-            if (str.contains(symbol)) {
-                result = str.substring(str.indexOf('-') + 1);
-                break;
+    }
+
+    /**
+     * Starts a daemon thread that reloads the symbols whenever the file changes. Calling it again
+     * has no effect.
+     */
+    public synchronized void watchForChanges() {
+        if (watcher == null) {
+            final Path file = Path.of(filePath);
+            try {
+                final WatchService watchService = FileSystems.getDefault().newWatchService();
+                file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+                watcher = new Thread(() -> watch(watchService, file.getFileName()), "symbols-watcher");
+                watcher.setDaemon(true);
+                watcher.start();
+            }
+            catch (IOException error) {
+                System.err.println("Error watching file: " + error.getMessage());
             }
         }
-        return result;
     }
 
-    @Override
-    public String getSymbol(String company) {
-        final List<String> symbolNameList = new ArrayList<>();
-        String result = "";
+    private void watch(WatchService watchService, Path fileName) {
         try {
-            symbolNameList.addAll(Files.readAllLines(Path.of(filePath)));
+            while (!Thread.currentThread().isInterrupted()) {
+                final WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    changed |= fileName.equals(event.context())
+                            || Path.of(listingsPath).getFileName().equals(event.context());
+                }
+                if (changed) {
+                    reload();
+                }
+                key.reset();
+            }
         }
-        catch (IOException exception) {
-            System.out.println("Error reading file: " + exception.getMessage());
+        catch (InterruptedException | ClosedWatchServiceException exception) {
+            Thread.currentThread().interrupt();
         }
-        for (String str: symbolNameList) {
-            if (str.contains(company)) {
-                result = str.substring(0, str.indexOf('-'));
-                break;
+    }
+
+    /**
+     * Adds the listings of a NASDAQ Trader style symbol directory: pipe-delimited lines with a
+     * header naming the columns, as in {@code nasdaqlisted.txt} and {@code otherlisted.txt}. Several
+     * files may be concatenated; every header line starts a new section. Test issues and lines
+     * without enough columns, like the "File Creation Time" footer, are skipped.
+     */
+    private static void addListings(List<String> lines, SymbolUniverse.Builder builder) {
+        int symbolColumn = -1;
+        int nameColumn = -1;
+        int exchangeColumn = -1;
+        int etfColumn = -1;
+        int testIssueColumn = -1;
+        int columns = 0;
+        for (String line : lines) {
+            final String[] fields = line.split("\\|", -1);
+            final List<String> header = Arrays.asList(fields);
+            if (header.contains(SECURITY_NAME)) {
+                symbolColumn = header.indexOf("Symbol");
+                if (symbolColumn < 0) {
+                    symbolColumn = header.indexOf("ACT Symbol");
+                }
+                nameColumn = header.indexOf(SECURITY_NAME);
+                exchangeColumn = header.indexOf("Exchange");
+                etfColumn = header.indexOf("ETF");
+                testIssueColumn = header.indexOf("Test Issue");
+                columns = fields.length;
+            }
+            else if (symbolColumn >= 0 && fields.length == columns && !fields[symbolColumn].isBlank()
+                    && !(testIssueColumn >= 0 && "Y".equals(fields[testIssueColumn]))) {
+                // nasdaqlisted.txt has no exchange column, everything in it trades on NASDAQ
+                String exchange = NASDAQ;
+                if (exchangeColumn >= 0) {
+                    exchange = fields[exchangeColumn];
+                }
+                String type = STOCK;
+                if (etfColumn >= 0 && "Y".equals(fields[etfColumn])) {
+                    type = ETF;
+                }
+                builder.add(fields[symbolColumn].strip(), fields[nameColumn].strip(), exchange, type);
             }
         }
-        return result;
     }
 
+    /**
+     * One load of the symbols: the universe, plus the list views handed out by
+     * {@link #getSymbols()} and {@link #getCompanies()}, created once so callers can tell
+     * snapshots apart by identity.
+     */
+    private static final class Snapshot {
+        private final SymbolUniverse universe;
+        private final List<String> symbols;
+        private final List<String> companies;
+
+        private Snapshot(SymbolUniverse universe) {
+            this.universe = universe;
+            this.symbols = universe.getSymbols();
+            this.companies = universe.getNames();
+        }
+    }
 }
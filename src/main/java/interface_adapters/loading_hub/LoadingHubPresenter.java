@@ -37,4 +37,34 @@ public class LoadingHubPresenter implements LoadingHubOutputBoundary {
         this.viewManagerModel.setState(loadingHubViewModel.getViewName());
         this.viewManagerModel.firePropertyChanged();
     }
+
+    /**
+     * Publishes the progress of the load under the "progress" property.
+     * @param completedDays the number of days loaded so far
+     * @param totalDays the number of days in the requested range
+     */
+    @Override
+    public void displayProgress(int completedDays, int totalDays) {
+        final ViewStockState loadingHubState = loadingHubViewModel.getState();
+        loadingHubState.setLoadProgress(completedDays, totalDays);
+        this.loadingHubViewModel.setState(loadingHubState);
+        this.loadingHubViewModel.firePropertyChanged("progress");
+    }
+
+    /**
+     * Publishes the data loaded so far under the "partial" property.
+     * @param partialData the share prices loaded so far
+     */
+    @Override
+    public void displayPartialResult(LoadingHubOutputData partialData) {
+        final ViewStockState loadingHubState = loadingHubViewModel.getState();
+        loadingHubState.setSymbol(partialData.getStockSymbol());
+        loadingHubState.setCompany(partialData.getCompanyName());
+        loadingHubState.setSharePrices(partialData.getSharePrices());
+        this.loadingHubViewModel.setState(loadingHubState);
+        this.loadingHubViewModel.firePropertyChanged("partial");
+
+        this.viewManagerModel.setState(loadingHubViewModel.getViewName());
+        this.viewManagerModel.firePropertyChanged();
+    }
 }
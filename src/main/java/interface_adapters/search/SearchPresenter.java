@@ -26,6 +26,8 @@ public class SearchPresenter implements SearchOutputBoundary {
         final SearchState searchState = searchViewModel.getState();
         searchState.setInput(response.getInput());
         searchState.setSymbols(response.getSymbols());
+        // a new result starts on its first page
+        searchState.resetPageNumber();
         this.searchViewModel.setState(searchState);
         this.searchViewModel.firePropertyChanged();
 
@@ -47,6 +47,13 @@ public class SearchState {
         this.pageNumber -= 1;
     }
 
+    /**
+     * Goes back to the first page.
+     */
+    public void resetPageNumber() {
+        this.pageNumber = 0;
+    }
+
     /**
      * Increases page number by 1.
      */
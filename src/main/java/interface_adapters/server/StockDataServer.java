@@ -0,0 +1,387 @@
+package interface_adapters.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import app.Constants;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import entities.MetricValues;
+import entities.SharePrices;
+import org.json.JSONObject;
+import use_cases.StockDataInterface;
+
+/**
+ * Serves the operations of a {@link StockDataInterface} as JSON over HTTP, so that many clients
+ * share one loader and its warm cache.
+ *
+ * <p>Every operation is a {@code GET} of {@code /v1/OPERATION} with the symbol and dates as query
+ * parameters, dates as {@code yyyy-MM-dd}:</p>
+ * <ul>
+ *   <li>{@code prices}, {@code cached-prices}, {@code volumes}, {@code after-hours} and
+ *   {@code premarkets} take {@code symbol}, {@code start} and {@code end}, with the end no
+ *   earlier than the start and no more than {@link Constants#SERVER_MAX_RANGE_DAYS} days after it</li>
+ *   <li>{@code price}, {@code volume}, {@code after-hour} and {@code premarket} take
+ *   {@code symbol} and {@code date}</li>
+ * </ul>
+ *
+ * <p>Share prices are returned as {@code {"symbol", "dates", "open", "close", "high", "low"}},
+ * other series as {@code {"symbol", "dates", "values"}} and single values as
+ * {@code {"symbol", "date", "value"}}, with null for a missing value. Errors are returned as
+ * {@code {"error"}} with a 4xx or 5xx status.</p>
+ *
+ * <p>Each request runs on its own virtual thread, so a request waiting on the API does not hold
+ * up the others. Identical requests that arrive while one is being loaded wait for that load
+ * instead of starting their own. Responses are written straight to the connection with chunked
+ * encoding as they are serialized, without building the whole body first.</p>
+ *
+ * <p>The server has no authentication, so it listens on the loopback address unless it is given
+ * another one.</p>
+ */
+public class StockDataServer implements AutoCloseable {
+    private static final String CONTEXT = "/v1/";
+    private static final String GET = "GET";
+    private static final String DATE = "date";
+    private static final String START = "start";
+    private static final String END = "end";
+    private static final String SYMBOL = "symbol";
+    private static final int OK = 200;
+    private static final int BAD_REQUEST = 400;
+    private static final int NOT_FOUND = 404;
+    private static final int METHOD_NOT_ALLOWED = 405;
+    private static final int SERVER_ERROR = 500;
+    private static final int BACKLOG = 1024;
+    private static final int STOP_DELAY_SECONDS = 1;
+
+    private final StockDataInterface dataAccess;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpServer server;
+
+    /**
+     * Creates a server on the loopback address; it does not accept requests until {@link #start()}.
+     * @param dataAccess the stock data to serve
+     * @param port the port to listen on, or 0 for any free port
+     * @throws IOException if the port cannot be bound
+     */
+    public StockDataServer(StockDataInterface dataAccess, int port) throws IOException {
+        this(dataAccess, InetAddress.getLoopbackAddress(), port);
+    }
+
+    /**
+     * Creates a server; it does not accept requests until {@link #start()}.
+     * @param dataAccess the stock data to serve
+     * @param address the address to listen on
+     * @param port the port to listen on, or 0 for any free port
+     * @throws IOException if the port cannot be bound
+     */
+    public StockDataServer(StockDataInterface dataAccess, InetAddress address, int port) throws IOException {
+        this.dataAccess = dataAccess;
+        this.server = HttpServer.create(new InetSocketAddress(address, port), BACKLOG);
+        server.setExecutor(executor);
+        server.createContext(CONTEXT, this::handle);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops accepting requests, gives the running ones a moment to finish, and stops.
+     */
+    @Override
+    public void close() {
+        server.stop(STOP_DELAY_SECONDS);
+        executor.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!GET.equals(exchange.getRequestMethod())) {
+                sendError(exchange, METHOD_NOT_ALLOWED, "Only GET is supported.");
+            }
+            else {
+                final String operation = exchange.getRequestURI().getPath().substring(CONTEXT.length());
+                final Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+                try {
+                    respond(exchange, operation, query);
+                }
+                catch (IllegalArgumentException | DateTimeParseException exception) {
+                    sendError(exchange, BAD_REQUEST, exception.getMessage());
+                }
+                catch (CompletionException exception) {
+                    // the loader failed; every request that shared the load gets the error
+                    sendError(exchange, SERVER_ERROR, String.valueOf(exception.getCause()));
+                }
+            }
+        }
+    }
+
+    private void respond(HttpExchange exchange, String operation, Map<String, String> query) throws IOException {
+        final String symbol = require(query, SYMBOL);
+        switch (operation) {
+            case "prices" -> sendSharePrices(exchange, symbol, range(operation, symbol, query,
+                (start, end) -> dataAccess.getSharePrices(symbol, start, end)));
+            case "cached-prices" -> sendSharePrices(exchange, symbol, range(operation, symbol, query,
+                (start, end) -> dataAccess.getCachedSharePrices(symbol, start, end)));
+            case "volumes" -> sendSeries(exchange, symbol, range(operation, symbol, query,
+                (start, end) -> dataAccess.getVolumes(symbol, start, end)));
+            case "after-hours" -> sendSeries(exchange, symbol, range(operation, symbol, query,
+                (start, end) -> dataAccess.getAfterHours(symbol, start, end)));
+            case "premarkets" -> sendSeries(exchange, symbol, range(operation, symbol, query,
+                (start, end) -> dataAccess.getPremarkets(symbol, start, end)));
+            case "price" -> sendSharePrices(exchange, symbol, day(operation, symbol, query,
+                date -> dataAccess.getSharePrice(symbol, date)));
+            case "volume" -> sendValue(exchange, symbol, query.get(DATE), day(operation, symbol, query,
+                date -> dataAccess.getVolume(symbol, date)));
+            case "after-hour" -> sendValue(exchange, symbol, query.get(DATE), day(operation, symbol, query,
+                date -> dataAccess.getAfterHour(symbol, date)));
+            case "premarket" -> sendValue(exchange, symbol, query.get(DATE), day(operation, symbol, query,
+                date -> dataAccess.getPremarket(symbol, date)));
+            default -> sendError(exchange, NOT_FOUND, "Unknown operation: " + operation);
+        }
+    }
+
+    /**
+     * Loads a range operation, sharing the load with identical requests in flight.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T range(String operation, String symbol, Map<String, String> query, RangeLoad<T> load) {
+        final LocalDate start = LocalDate.parse(require(query, START));
+        final LocalDate end = LocalDate.parse(require(query, END));
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("The end date is before the start date.");
+        }
+        if (ChronoUnit.DAYS.between(start, end) > Constants.SERVER_MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("The range is longer than " + Constants.SERVER_MAX_RANGE_DAYS
+                    + " days.");
+        }
+        return (T) coalesce(String.join(" ", operation, symbol, start.toString(), end.toString()),
+            () -> load.load(toDate(start), toDate(end)));
+    }
+
+    /**
+     * Loads a single-day operation, sharing the load with identical requests in flight.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T day(String operation, String symbol, Map<String, String> query, DayLoad<T> load) {
+        final LocalDate date = LocalDate.parse(require(query, DATE));
+        return (T) coalesce(String.join(" ", operation, symbol, date.toString()), () -> load.load(toDate(date)));
+    }
+
+    /**
+     * Runs a load unless an identical one is already running, in which case its result is used.
+     * The load is forgotten once it completes, so later requests see fresh data.
+     */
+    private Object coalesce(String key, Supplier<Object> load) {
+        final CompletableFuture<Object> own = new CompletableFuture<>();
+        final CompletableFuture<Object> running = inFlight.putIfAbsent(key, own);
+        final Object result;
+        if (running == null) {
+            try {
+                own.complete(load.get());
+            }
+            catch (RuntimeException exception) {
+                own.completeExceptionally(exception);
+            }
+            finally {
+                inFlight.remove(key, own);
+            }
+            result = own.join();
+        }
+        else {
+            result = running.join();
+        }
+        return result;
+    }
+
+    private static void sendSharePrices(HttpExchange exchange, String symbol, SharePrices sharePrices)
+            throws IOException {
+        if (sharePrices == null) {
+            sendError(exchange, NOT_FOUND, "No share prices for " + symbol + ".");
+        }
+        else {
+            final JsonBody body = new JsonBody(exchange, OK);
+            body.append("{\"symbol\":").append(JSONObject.quote(symbol));
+            body.dates(sharePrices.getDates());
+            body.numbers("open", sharePrices.getOpenPrices());
+            body.numbers("close", sharePrices.getClosePrices());
+            body.numbers("high", sharePrices.getHighPrices());
+            body.numbers("low", sharePrices.getLowPrices());
+            body.append("}").flush();
+        }
+    }
+
+    private static void sendSeries(HttpExchange exchange, String symbol, MetricValues series) throws IOException {
+        if (series == null) {
+            sendError(exchange, NOT_FOUND, "No values for " + symbol + ".");
+        }
+        else {
+            final JsonBody body = new JsonBody(exchange, OK);
+            body.append("{\"symbol\":").append(JSONObject.quote(symbol));
+            body.dates(series.getDates());
+            body.numbers("values", series.getValues());
+            body.append("}").flush();
+        }
+    }
+
+    private static void sendValue(HttpExchange exchange, String symbol, String date, Double value)
+            throws IOException {
+        final JsonBody body = new JsonBody(exchange, OK);
+        body.append("{\"symbol\":").append(JSONObject.quote(symbol))
+                .append(",\"date\":").append(JSONObject.quote(date))
+                .append(",\"value\":").number(value)
+                .append("}").flush();
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        new JsonBody(exchange, status).append(new JSONObject().put("error", message).toString()).flush();
+    }
+
+    private static String require(Map<String, String> query, String name) {
+        final String value = query.get(name);
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("Missing query parameter: " + name);
+        }
+        return value;
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        final Map<String, String> query = new HashMap<>();
+        if (rawQuery != null) {
+            for (String parameter : rawQuery.split("&")) {
+                final int equals = parameter.indexOf('=');
+                if (equals > 0) {
+                    query.put(URLDecoder.decode(parameter.substring(0, equals), StandardCharsets.UTF_8),
+                            URLDecoder.decode(parameter.substring(equals + 1), StandardCharsets.UTF_8));
+                }
+            }
+        }
+        return query;
+    }
+
+    private static Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    /**
+     * The body of a response, sent in chunks as it is written.
+     *
+     * <p>The JSON is built in a plain buffer, which is encoded and handed to the connection whenever
+     * it fills, so a long series goes out while the rest of it is still being written and the memory
+     * a response takes does not grow with its length. The buffer belongs to one response, so unlike
+     * a {@code Writer} it takes no lock for every token.</p>
+     */
+    private static final class JsonBody {
+        private static final int CHUNK_SIZE = 8_192;
+
+        private final StringBuilder buffer = new StringBuilder(CHUNK_SIZE + CHUNK_SIZE / 8);
+        private final OutputStream out;
+        private final ZoneId zone = ZoneId.systemDefault();
+
+        /**
+         * Sends the headers for a body of unknown length, which the server then sends in chunks.
+         */
+        private JsonBody(HttpExchange exchange, int status) throws IOException {
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(status, 0);
+            out = exchange.getResponseBody();
+        }
+
+        private JsonBody append(String text) throws IOException {
+            buffer.append(text);
+            sendIfFull();
+            return this;
+        }
+
+        private JsonBody number(Double value) throws IOException {
+            // JSON has no NaN or infinities
+            if (value == null || !Double.isFinite(value)) {
+                buffer.append("null");
+            }
+            else {
+                buffer.append(value.doubleValue());
+            }
+            sendIfFull();
+            return this;
+        }
+
+        private void dates(List<Date> dates) throws IOException {
+            append(",\"dates\":[");
+            for (int i = 0; i < dates.size(); i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                buffer.append('"').append(LocalDate.ofInstant(dates.get(i).toInstant(), zone)).append('"');
+                sendIfFull();
+            }
+            append("]");
+        }
+
+        private void numbers(String key, List<Double> values) throws IOException {
+            append(",\"").append(key).append("\":[");
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                number(values.get(i));
+            }
+            append("]");
+        }
+
+        private void flush() throws IOException {
+            send();
+            out.flush();
+        }
+
+        private void sendIfFull() throws IOException {
+            if (buffer.length() >= CHUNK_SIZE) {
+                send();
+            }
+        }
+
+        private void send() throws IOException {
+            out.write(buffer.toString().getBytes(StandardCharsets.UTF_8));
+            buffer.setLength(0);
+        }
+    }
+
+    /**
+     * A load of a range of days.
+     */
+    private interface RangeLoad<T> {
+        T load(Date start, Date end);
+    }
+
+    /**
+     * A load of one day.
+     */
+    private interface DayLoad<T> {
+        T load(Date date);
+    }
+}
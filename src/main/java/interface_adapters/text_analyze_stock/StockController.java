@@ -1,5 +1,7 @@
 package interface_adapters.text_analyze_stock;
 
+import java.util.Date;
+
 import use_cases.text_analyze_stock.FutureStockInputBoundary;
 
 /**
@@ -22,4 +24,15 @@ public class StockController {
                         double currentPrice, double startingPrice) {
         futureStockInteractor.execute(stockName, currentPrice, startingPrice);
     }
+
+    /**
+     * Executes based on stock parameters, as of the day of the current price.
+     * @param stockName The name of the stock.
+     * @param currentPrice The current price of the stock.
+     * @param startingPrice The initial price of the stock.
+     * @param priceDate The day of the current price.
+     */
+    public void execute(String stockName, double currentPrice, double startingPrice, Date priceDate) {
+        futureStockInteractor.execute(stockName, currentPrice, startingPrice, priceDate);
+    }
 }
@@ -1,8 +1,11 @@
 package interface_adapters.text_analyze_stock;
 
+import interface_adapters.gateways.FundamentalsLoader;
+import use_cases.FundamentalsDataInterface;
 import use_cases.StockDataInterface;
 import use_cases.text_analyze_stock.FutureStockInputBoundary;
 import use_cases.text_analyze_stock.FutureStockOutputBoundary;
+import use_cases.text_analyze_stock.MonteCarloSimulator;
 import use_cases.text_analyze_stock.StockInteractor;
 
 /**
@@ -17,8 +20,22 @@ public class StockControllerFactory {
      */
     public static StockController createStockController(StockViewModel viewModel,
                                                         StockDataInterface dataLoader) {
+        return createStockController(viewModel, dataLoader, new FundamentalsLoader());
+    }
+
+    /**
+     * Creates the stock controller.
+     * @param viewModel parameter for the view model.
+     * @param dataLoader parameter for the dataloader.
+     * @param fundamentals the earnings per share of the stocks.
+     * @return return a new stockcontroller.
+     */
+    public static StockController createStockController(StockViewModel viewModel,
+                                                        StockDataInterface dataLoader,
+                                                        FundamentalsDataInterface fundamentals) {
         final FutureStockOutputBoundary stockPresenter = new StockPresenterNew(viewModel);
-        final FutureStockInputBoundary stockInteractor = new StockInteractor(stockPresenter, dataLoader);
+        final FutureStockInputBoundary stockInteractor = new StockInteractor(stockPresenter, dataLoader,
+                fundamentals, new MonteCarloSimulator());
         return new StockController(stockInteractor);
     }
 }
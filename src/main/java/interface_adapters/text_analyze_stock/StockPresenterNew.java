@@ -20,6 +20,7 @@ public class StockPresenterNew implements FutureStockOutputBoundary {
         viewModel.setProjectedPrices(result.getProjectedPrice1(), result.getProjectedPrice2(),
                 result.getProjectedPrice3());
         viewModel.setAction(result.getAction());
+        viewModel.setPriceBands(result.getPriceBands());
 
     }
 }
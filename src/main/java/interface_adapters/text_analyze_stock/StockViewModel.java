@@ -1,6 +1,7 @@
 package interface_adapters.text_analyze_stock;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -12,6 +13,7 @@ public class StockViewModel {
     private double currentPrice;
     private final List<Double> projectedPrices = new ArrayList<>();
     private String action;
+    private final List<double[]> priceBands = new ArrayList<>();
 
     public String getStockName() {
         return stockName;
@@ -51,4 +53,24 @@ public class StockViewModel {
     public void setAction(String action) {
         this.action = action;
     }
+
+    /**
+     * Returns the simulated price ranges, one per year ahead.
+     * @return per year, the prices at the 5th, 25th, 50th, 75th and 95th percentile; empty if there
+     *         was not enough history to simulate
+     */
+    public List<double[]> getPriceBands() {
+        return priceBands;
+    }
+
+    /**
+     * Sets the simulated price ranges.
+     * @param bands one row of percentile prices per year, or null for none
+     */
+    public void setPriceBands(double[][] bands) {
+        priceBands.clear();
+        if (bands != null) {
+            priceBands.addAll(Arrays.asList(bands));
+        }
+    }
 }
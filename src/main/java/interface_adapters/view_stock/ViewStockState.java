@@ -21,6 +21,8 @@ public class ViewStockState {
     private SharePrices sharePrices;
     private MetricValues earnings;
     private String viewStockError;
+    private int loadedDays;
+    private int totalDaysToLoad;
 
     /** A set of favorite stock symbols. */
     private Set<String> favorites = new HashSet<>();
@@ -41,6 +43,24 @@ public class ViewStockState {
         return viewStockError;
     }
 
+    public int getLoadedDays() {
+        return loadedDays;
+    }
+
+    public int getTotalDaysToLoad() {
+        return totalDaysToLoad;
+    }
+
+    /**
+     * Records the progress of the current load.
+     * @param newLoadedDays the number of days loaded so far
+     * @param newTotalDaysToLoad the number of days being loaded
+     */
+    public void setLoadProgress(int newLoadedDays, int newTotalDaysToLoad) {
+        this.loadedDays = newLoadedDays;
+        this.totalDaysToLoad = newTotalDaysToLoad;
+    }
+
     public void setSymbol(String symbol) {
         this.symbol = symbol;
     }
@@ -0,0 +1,31 @@
+package interface_adapters.watchlist;
+
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+
+import app.Constants;
+import use_cases.watchlist.WatchlistInputBoundary;
+import use_cases.watchlist.WatchlistInputData;
+
+/**
+ * Controller for the watchlist use case.
+ */
+public class WatchlistController {
+    private final WatchlistInputBoundary watchlistUseCaseInteractor;
+
+    public WatchlistController(WatchlistInputBoundary watchlistUseCaseInteractor) {
+        this.watchlistUseCaseInteractor = watchlistUseCaseInteractor;
+    }
+
+    /**
+     * Refreshes the watchlist with the last {@link Constants#WATCHLIST_DAYS} days up to today.
+     * @param symbols the symbols on the watchlist
+     */
+    public void execute(Collection<String> symbols) {
+        final Calendar calendar = Calendar.getInstance();
+        final Date endDate = calendar.getTime();
+        calendar.add(Calendar.DATE, -Constants.WATCHLIST_DAYS);
+        watchlistUseCaseInteractor.execute(new WatchlistInputData(symbols, calendar.getTime(), endDate));
+    }
+}
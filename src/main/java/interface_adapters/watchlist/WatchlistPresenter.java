@@ -0,0 +1,42 @@
+package interface_adapters.watchlist;
+
+import interface_adapters.ViewModel;
+import use_cases.watchlist.WatchlistOutputBoundary;
+import use_cases.watchlist.WatchlistOutputData;
+
+/**
+ * Presenter for the watchlist use case.
+ */
+public class WatchlistPresenter implements WatchlistOutputBoundary {
+    /** Name of the property fired for every row that was filled in. */
+    public static final String ROW = "row";
+    private static final String UNKNOWN = "N/A";
+
+    private final ViewModel<WatchlistState> viewModel;
+
+    public WatchlistPresenter(ViewModel<WatchlistState> viewModel) {
+        this.viewModel = viewModel;
+    }
+
+    /**
+     * Formats the row of one symbol and puts it into the view model.
+     * @param outputData the output data
+     */
+    @Override
+    public void displayRow(WatchlistOutputData outputData) {
+        String lastClose = UNKNOWN;
+        if (!Double.isNaN(outputData.getLastClose())) {
+            lastClose = String.format("%.2f", outputData.getLastClose());
+        }
+        final double change = outputData.getDailyChange();
+        String dailyChange = UNKNOWN;
+        int direction = 0;
+        if (!Double.isNaN(change)) {
+            dailyChange = String.format("%+.2f%%", change * 100);
+            direction = (int) Math.signum(change);
+        }
+        viewModel.getState().putRow(new WatchlistState.Row(outputData.getSymbol(), lastClose, dailyChange,
+                direction, outputData.getClosePrices(), !outputData.isComplete()));
+        viewModel.firePropertyChanged(ROW);
+    }
+}
@@ -0,0 +1,81 @@
+package interface_adapters.watchlist;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The state for the watchlist view model: one row per symbol, filled in as the loads finish.
+ * Rows are replaced rather than changed, and may be put from several threads at once.
+ */
+public class WatchlistState {
+    private final Map<String, Row> rows = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the row of a symbol.
+     * @param symbol the stock symbol
+     * @return the row, or {@code null} if nothing was loaded for the symbol yet
+     */
+    public Row getRow(String symbol) {
+        return rows.get(symbol);
+    }
+
+    public void putRow(Row row) {
+        rows.put(row.getSymbol(), row);
+    }
+
+    /**
+     * One symbol of the watchlist, ready for display.
+     */
+    public static final class Row {
+        private final String symbol;
+        private final String lastClose;
+        private final String dailyChange;
+        private final int direction;
+        private final List<Double> closePrices;
+        private final boolean loading;
+
+        /**
+         * Constructor.
+         * @param symbol the stock symbol
+         * @param lastClose the last close, formatted
+         * @param dailyChange the daily change, formatted
+         * @param direction the sign of the daily change: 1 up, -1 down, 0 flat or unknown
+         * @param closePrices the closes for the sparkline, oldest first
+         * @param loading whether more prices are still being loaded
+         */
+        public Row(String symbol, String lastClose, String dailyChange, int direction,
+                   List<Double> closePrices, boolean loading) {
+            this.symbol = symbol;
+            this.lastClose = lastClose;
+            this.dailyChange = dailyChange;
+            this.direction = direction;
+            this.closePrices = closePrices;
+            this.loading = loading;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+
+        public String getLastClose() {
+            return lastClose;
+        }
+
+        public String getDailyChange() {
+            return dailyChange;
+        }
+
+        public int getDirection() {
+            return direction;
+        }
+
+        public List<Double> getClosePrices() {
+            return closePrices;
+        }
+
+        public boolean isLoading() {
+            return loading;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package interface_adapters.watchlist;
+
+import interface_adapters.ViewModel;
+import use_cases.StockDataInterface;
+import use_cases.watchlist.WatchlistInputBoundary;
+import use_cases.watchlist.WatchlistInteractor;
+import use_cases.watchlist.WatchlistOutputBoundary;
+
+/**
+ * Factory class responsible for creating and assembling all components needed for the
+ * watchlist use case.
+ */
+public class WatchlistUseCaseFactory {
+    /**
+     * Creates all components for the watchlist use case and returns a configured controller.
+     *
+     * @param watchlistViewModel the view model for the watchlist use case
+     * @param dataAccessObject the data access interface for fetching stock data
+     * @return a configured WatchlistController ready for use
+     */
+    public static WatchlistController create(
+            ViewModel<WatchlistState> watchlistViewModel,
+            StockDataInterface dataAccessObject) {
+
+        // Create the presenter with its required dependencies
+        final WatchlistOutputBoundary watchlistPresenter = new WatchlistPresenter(watchlistViewModel);
+
+        // Create the interactor with its dependencies
+        final WatchlistInputBoundary watchlistInteractor =
+                new WatchlistInteractor(watchlistPresenter, dataAccessObject);
+
+        // Create and return the controller
+        return new WatchlistController(watchlistInteractor);
+    }
+}
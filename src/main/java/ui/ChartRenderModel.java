@@ -0,0 +1,187 @@
+package ui;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+
+/**
+ * Immutable layout of the stock price chart for one set of prices and one panel size. Every
+ * pixel coordinate and label is computed once when the model is built, so painting the model
+ * is only a matter of issuing draw calls.
+ */
+final class ChartRenderModel {
+    static final int PADDING = 50;
+    private static final int POINT_SIZE = 4;
+    private static final int LABEL_SPACING = 60;
+    private static final int PRICE_LABEL_COUNT = 5;
+    private static final int PRICE_LABEL_X = 5;
+    private static final int TIME_LABEL_OFFSET_X = 5;
+    private static final int TIME_LABEL_OFFSET_Y = 20;
+    private static final float LINE_WIDTH = 2f;
+
+    private final int panelWidth;
+    private final int panelHeight;
+    private final double[] prices;
+    private final int[] sampledIndices;
+    private final int[] xPoints;
+    private final int[] yPoints;
+    private final String[] priceLabels;
+    private final int[] priceLabelY;
+    private final String[] timeLabels;
+    private final int[] timeLabelX;
+    private final boolean drawPoints;
+
+    private ChartRenderModel(int panelWidth, int panelHeight, double[] prices, int[] sampledIndices,
+                             int[] xPoints, int[] yPoints, String[] priceLabels, int[] priceLabelY,
+                             String[] timeLabels, int[] timeLabelX, boolean drawPoints) {
+        this.panelWidth = panelWidth;
+        this.panelHeight = panelHeight;
+        this.prices = prices;
+        this.sampledIndices = sampledIndices;
+        this.xPoints = xPoints;
+        this.yPoints = yPoints;
+        this.priceLabels = priceLabels;
+        this.priceLabelY = priceLabelY;
+        this.timeLabels = timeLabels;
+        this.timeLabelX = timeLabelX;
+        this.drawPoints = drawPoints;
+    }
+
+    /**
+     * Lays out a chart.
+     * @param prices all prices, never modified
+     * @param minPrice the lowest price
+     * @param maxPrice the highest price
+     * @param sampledIndices indices of the prices to draw, in increasing order
+     * @param panelWidth width of the panel
+     * @param panelHeight height of the panel
+     * @return the render model
+     */
+    static ChartRenderModel build(double[] prices, double minPrice, double maxPrice, int[] sampledIndices,
+                                  int panelWidth, int panelHeight) {
+        final int width = panelWidth - 2 * PADDING;
+        final int height = panelHeight - 2 * PADDING;
+        double priceRange = maxPrice - minPrice;
+        if (priceRange <= 0) {
+            // a flat series is drawn along the x-axis instead of dividing by zero
+            priceRange = 1;
+        }
+
+        final String[] priceLabels = new String[PRICE_LABEL_COUNT + 1];
+        final int[] priceLabelY = new int[PRICE_LABEL_COUNT + 1];
+        for (int i = 0; i <= PRICE_LABEL_COUNT; i++) {
+            final double price = minPrice + (priceRange * i / PRICE_LABEL_COUNT);
+            priceLabels[i] = String.format("%.2f", price);
+            priceLabelY[i] = height + PADDING - (int) ((price - minPrice) * height / priceRange);
+        }
+
+        final int lastIndex = Math.max(prices.length - 1, 1);
+        final int labelCount = Math.max(Math.min(width / LABEL_SPACING, prices.length - 1), 1);
+        final String[] timeLabels = new String[labelCount + 1];
+        final int[] timeLabelX = new int[labelCount + 1];
+        for (int label = 0; label <= labelCount; label++) {
+            final int i = (int) Math.round((double) label * (prices.length - 1) / labelCount);
+            timeLabels[label] = "t" + i;
+            timeLabelX[label] = PADDING + (int) ((long) i * width / lastIndex);
+        }
+
+        final int pointCount = sampledIndices.length;
+        final int[] xPoints = new int[pointCount];
+        final int[] yPoints = new int[pointCount];
+        for (int k = 0; k < pointCount; k++) {
+            final int i = sampledIndices[k];
+            xPoints[k] = PADDING + (int) ((long) i * width / lastIndex);
+            yPoints[k] = height + PADDING - (int) ((prices[i] - minPrice) * height / priceRange);
+        }
+        final boolean drawPoints = pointCount == 1 || width / pointCount >= 2 * POINT_SIZE;
+
+        return new ChartRenderModel(panelWidth, panelHeight, prices, sampledIndices, xPoints, yPoints,
+                priceLabels, priceLabelY, timeLabels, timeLabelX, drawPoints);
+    }
+
+    /**
+     * Whether this model was laid out for a panel of the given size.
+     * @param width the panel width
+     * @param height the panel height
+     * @return true if the model can be reused
+     */
+    boolean fits(int width, int height) {
+        return panelWidth == width && panelHeight == height;
+    }
+
+    /**
+     * Paints the axes, grid, labels and price line.
+     * @param g2d the graphics to paint on
+     */
+    void paintChart(Graphics2D g2d) {
+        final int right = panelWidth - PADDING;
+        final int bottom = panelHeight - PADDING;
+
+        // Draw axes
+        g2d.setColor(Color.BLACK);
+        g2d.drawLine(PADDING, PADDING, PADDING, bottom);
+        g2d.drawLine(PADDING, bottom, right, bottom);
+
+        // Draw price labels and horizontal grid lines
+        g2d.setFont(ViewConstants.GRAPH_VALUE_FONT);
+        for (int i = 0; i < priceLabels.length; i++) {
+            g2d.drawString(priceLabels[i], PRICE_LABEL_X, priceLabelY[i]);
+            g2d.setColor(Color.LIGHT_GRAY);
+            g2d.drawLine(PADDING, priceLabelY[i], right, priceLabelY[i]);
+            g2d.setColor(Color.BLACK);
+        }
+
+        // Draw time labels
+        for (int i = 0; i < timeLabels.length; i++) {
+            g2d.drawString(timeLabels[i], timeLabelX[i] - TIME_LABEL_OFFSET_X, bottom + TIME_LABEL_OFFSET_Y);
+        }
+
+        // Draw the line graph
+        g2d.setColor(ViewConstants.GRAPH_COLOR);
+        g2d.setStroke(new BasicStroke(LINE_WIDTH));
+        g2d.drawPolyline(xPoints, yPoints, xPoints.length);
+        if (drawPoints) {
+            for (int k = 0; k < xPoints.length; k++) {
+                g2d.fillOval(xPoints[k] - POINT_SIZE / 2, yPoints[k] - POINT_SIZE / 2, POINT_SIZE, POINT_SIZE);
+            }
+        }
+    }
+
+    /**
+     * Paints a crosshair on the drawn point closest to a horizontal mouse position.
+     * @param g2d the graphics to paint on
+     * @param mouseX the horizontal mouse position in panel coordinates
+     */
+    void paintCrosshair(Graphics2D g2d, int mouseX) {
+        if (xPoints.length > 0 && mouseX >= PADDING && mouseX <= panelWidth - PADDING) {
+            final int k = closestPoint(mouseX);
+            g2d.setColor(Color.GRAY);
+            g2d.drawLine(xPoints[k], PADDING, xPoints[k], panelHeight - PADDING);
+            g2d.drawLine(PADDING, yPoints[k], panelWidth - PADDING, yPoints[k]);
+            g2d.setColor(Color.BLACK);
+            g2d.setFont(ViewConstants.GRAPH_VALUE_FONT);
+            g2d.drawString(String.format("t%d: %.2f", sampledIndices[k], prices[sampledIndices[k]]),
+                    xPoints[k] + POINT_SIZE, yPoints[k] - POINT_SIZE);
+        }
+    }
+
+    private int closestPoint(int mouseX) {
+        // xPoints is sorted, so binary search for the first point right of the mouse
+        int low = 0;
+        int high = xPoints.length - 1;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (xPoints[middle] < mouseX) {
+                low = middle + 1;
+            }
+            else {
+                high = middle;
+            }
+        }
+        int closest = low;
+        if (low > 0 && mouseX - xPoints[low - 1] < xPoints[low] - mouseX) {
+            closest = low - 1;
+        }
+        return closest;
+    }
+}
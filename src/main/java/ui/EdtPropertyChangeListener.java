@@ -0,0 +1,31 @@
+package ui;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * Forwards property change events to a listener on the Swing event dispatch thread.
+ *
+ * <p>Presenters fire their view models on whichever thread ran the use case. Views register
+ * through this wrapper so that use cases can run on background threads while every Swing
+ * component is still only touched from the event dispatch thread.</p>
+ */
+public class EdtPropertyChangeListener implements PropertyChangeListener {
+    private final PropertyChangeListener delegate;
+
+    public EdtPropertyChangeListener(PropertyChangeListener delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void propertyChange(PropertyChangeEvent evt) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            delegate.propertyChange(evt);
+        }
+        else {
+            SwingUtilities.invokeLater(() -> delegate.propertyChange(evt));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package ui;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * Runs use cases off the Swing event dispatch thread, one at a time, keeping only the latest request.
+ *
+ * <p>Submitting a task cancels the task submitted before it: a queued task never starts and a
+ * running one is interrupted, so a load for a symbol or date range the user has already moved
+ * away from stops at its next interruption check. Tasks run on a single daemon thread, which keeps
+ * the (not thread-safe) data access objects from being used concurrently.</p>
+ */
+public class LatestTaskRunner {
+    private final ExecutorService executor;
+    private Future<?> currentTask;
+
+    /**
+     * Creates a runner whose worker thread has the given name.
+     * @param threadName name of the background thread
+     */
+    public LatestTaskRunner(String threadName) {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Cancels the previous task and runs the given one in the background.
+     * @param task the work to run off the event dispatch thread
+     * @param onDone run on the event dispatch thread once the task finishes, unless it was superseded
+     */
+    public synchronized void submit(Runnable task, Runnable onDone) {
+        if (currentTask != null) {
+            currentTask.cancel(true);
+        }
+        final FutureTask<Void> next = new FutureTask<>(task, null) {
+            @Override
+            protected void done() {
+                SwingUtilities.invokeLater(() -> {
+                    if (isCurrent(this)) {
+                        onDone.run();
+                    }
+                });
+            }
+        };
+        currentTask = next;
+        executor.execute(next);
+    }
+
+    private synchronized boolean isCurrent(Future<?> task) {
+        return task == currentTask && !task.isCancelled();
+    }
+}
@@ -0,0 +1,77 @@
+package ui;
+
+/**
+ * Largest-Triangle-Three-Buckets downsampling for line charts.
+ *
+ * <p>The series is split into buckets of equal width. From every bucket the point that forms
+ * the largest triangle with the previously kept point and the average of the next bucket is
+ * kept, which preserves the visual shape of the series, including its peaks and troughs, with
+ * a fraction of the points. The first and last points are always kept.</p>
+ */
+public final class LttbDownsampler {
+    private static final int MIN_THRESHOLD = 3;
+
+    // prevents instantiation
+    private LttbDownsampler() {
+
+    }
+
+    /**
+     * Picks at most {@code threshold} points of a series.
+     * @param values the y values; the x value of a point is its index
+     * @param threshold the number of points to keep, for example the width of the chart in pixels
+     * @return the indices of the kept points in increasing order. If the series already has at most
+     *     {@code threshold} points (or the threshold is below 3), every index is returned.
+     */
+    public static int[] downsample(double[] values, int threshold) {
+        final int length = values.length;
+        final int[] sampled;
+        if (threshold >= length || threshold < MIN_THRESHOLD) {
+            sampled = new int[length];
+            for (int i = 0; i < length; i++) {
+                sampled[i] = i;
+            }
+        }
+        else {
+            sampled = new int[threshold];
+            // the first and last points have buckets of their own
+            final double bucketSize = (double) (length - 2) / (threshold - 2);
+            int previous = 0;
+            sampled[0] = 0;
+
+            for (int bucket = 0; bucket < threshold - 2; bucket++) {
+                // average point of the next bucket
+                final int averageStart = (int) ((bucket + 1) * bucketSize) + 1;
+                final int averageEnd = Math.min((int) ((bucket + 2) * bucketSize) + 1, length);
+                double averageX = 0;
+                double averageY = 0;
+                for (int i = averageStart; i < averageEnd; i++) {
+                    averageX += i;
+                    averageY += values[i];
+                }
+                final int averageCount = averageEnd - averageStart;
+                averageX /= averageCount;
+                averageY /= averageCount;
+
+                // point of the current bucket forming the largest triangle
+                final int rangeStart = (int) (bucket * bucketSize) + 1;
+                final int rangeEnd = (int) ((bucket + 1) * bucketSize) + 1;
+                final double previousY = values[previous];
+                double maxArea = -1;
+                int chosen = rangeStart;
+                for (int i = rangeStart; i < rangeEnd; i++) {
+                    final double area = Math.abs((previous - averageX) * (values[i] - previousY)
+                            - (previous - i) * (averageY - previousY));
+                    if (area > maxArea) {
+                        maxArea = area;
+                        chosen = i;
+                    }
+                }
+                sampled[bucket + 1] = chosen;
+                previous = chosen;
+            }
+            sampled[threshold - 1] = length - 1;
+        }
+        return sampled;
+    }
+}
@@ -1,15 +1,12 @@
 package ui;
 
 import java.awt.CardLayout;
-import java.awt.Component;
 import java.awt.FlowLayout;
 import java.awt.GridBagLayout;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
-import java.util.ArrayList;
-import java.util.List;
 
 import javax.swing.Box;
 import javax.swing.BoxLayout;
@@ -17,6 +14,9 @@ import javax.swing.JButton;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JTextField;
+import javax.swing.Timer;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 
 import app.Constants;
 import interface_adapters.search.SearchController;
@@ -26,15 +26,24 @@ import interface_adapters.view_stock.ViewStockController;
 
 /**
  * The view the user sees when using the search feature.
+ *
+ * <p>The search runs as the user types, once no key has been pressed for
+ * {@link Constants#SEARCH_DEBOUNCE_DELAY} milliseconds. The results are shown a page at a time by a
+ * {@link VirtualResultList}, which has a button for each row of a page and relabels them when the
+ * result or the page changes.</p>
  */
 public class SearchView {
+    private static final String RESULTS = "results";
+    private static final String NO_RESULTS = "no results";
+
     private final JPanel mainPanel;
-    private final List<JButton> searchResultButtons;
+    private final VirtualResultList resultList;
     private final JPanel pagesPanel;
     private final CardLayout pagesCardLayout;
     private final JLabel info;
     private final JButton searchButton = new JButton("Search");
     private final JTextField searchField = new JTextField(8);
+    private final Timer searchTimer;
     private final String viewName = Constants.SEARCH_VIEW;
 
     private final SearchViewModel searchViewModel;
@@ -46,14 +55,38 @@ public class SearchView {
         this.searchViewModel = searchViewModel;
         this.searchController = searchController;
         this.viewStockController = viewStockController;
-        searchResultButtons = new ArrayList<JButton>();
-        // Response to clicking searchButton
-        searchButton.addActionListener(new ActionListener() {
+        resultList = new VirtualResultList(Constants.MAX_STOCK_PER_PAGE,
+                symbol -> this.viewStockController.execute(symbol));
+        // Response to clicking searchButton or pressing enter
+        final ActionListener searchNow = new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
                 // executes search use case with input from searchField
+                searchTimer.stop();
                 searchController.execute(searchField.getText());
             }
+        };
+        searchButton.addActionListener(searchNow);
+        searchField.addActionListener(searchNow);
+
+        // Response to typing: search once the user pauses
+        searchTimer = new Timer(Constants.SEARCH_DEBOUNCE_DELAY, event -> searchTyped());
+        searchTimer.setRepeats(false);
+        searchField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                searchTimer.restart();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                searchTimer.restart();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                searchTimer.restart();
+            }
         });
 
         // initializes panel
@@ -63,9 +96,15 @@ public class SearchView {
 
         // sets dimensions and stuff of panel
         mainPanel.setLayout(new BoxLayout(mainPanel, BoxLayout.Y_AXIS));
-        mainPanel.setSize(Constants.SEARCH_RESULT_FRAME_DIMENSION);
-        pagesPanel.setPreferredSize(Constants.PAGE_DIMENSION);
-        pagesPanel.setMaximumSize(Constants.PAGE_DIMENSION);
+        mainPanel.setSize(ViewConstants.SEARCH_RESULT_FRAME_DIMENSION);
+        pagesPanel.setPreferredSize(ViewConstants.PAGE_DIMENSION);
+        pagesPanel.setMaximumSize(ViewConstants.PAGE_DIMENSION);
+        pagesPanel.add(resultList.getPanel(), RESULTS);
+        final JPanel noResultsPanel = new JPanel(new GridBagLayout());
+        final JLabel noResultsLabel = new JLabel("No results found");
+        noResultsLabel.setFont(ViewConstants.NO_RESULTS_FONT);
+        noResultsPanel.add(noResultsLabel);
+        pagesPanel.add(noResultsPanel, NO_RESULTS);
 
         // panel for changing page number
         final JPanel buttonPanel = initiateButtonPanel();
@@ -73,8 +112,8 @@ public class SearchView {
         // panel for displaying page number information
         final JPanel infoPanel = new JPanel();
         infoPanel.setLayout(new GridBagLayout());
-        infoPanel.setPreferredSize(Constants.BUTTON_DIMENSION);
-        infoPanel.setMaximumSize(Constants.BUTTON_DIMENSION);
+        infoPanel.setPreferredSize(ViewConstants.BUTTON_DIMENSION);
+        infoPanel.setMaximumSize(ViewConstants.BUTTON_DIMENSION);
         info = new JLabel();
         infoPanel.add(info);
 
@@ -98,11 +137,11 @@ public class SearchView {
 
     private JPanel initiateButtonPanel() {
         final JPanel buttonPanel = new JPanel(new FlowLayout());
-        buttonPanel.setMaximumSize(Constants.BUTTON_PANEL_DIMENSION);
+        buttonPanel.setMaximumSize(ViewConstants.BUTTON_PANEL_DIMENSION);
 
         // fills button panel with buttons
         final JButton leftPage = new JButton("<");
-        leftPage.setBackground(Constants.BUTTON_COLOUR);
+        leftPage.setBackground(ViewConstants.BUTTON_COLOUR);
         leftPage.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
@@ -110,22 +149,20 @@ public class SearchView {
                 if (!(searchViewModel.getState().getIntPageNumber() == 0)) {
                     final SearchState currentState = searchViewModel.getState();
                     currentState.minusPageNumber();
-                    pagesCardLayout.show(pagesPanel, currentState.getStringPageNumber());
-                    updatePageInfoLabel();
+                    showCurrentPage();
                 }
             }
         });
         final JButton rightPage = new JButton(">");
-        rightPage.setBackground(Constants.BUTTON_COLOUR);
+        rightPage.setBackground(ViewConstants.BUTTON_COLOUR);
         rightPage.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
                 // checks if not at last page
-                if (!(searchViewModel.getState().getIntPageNumber() == getNumberOfPages() - 1)) {
+                if (searchViewModel.getState().getIntPageNumber() < getNumberOfPages() - 1) {
                     final SearchState currentState = searchViewModel.getState();
                     currentState.addPageNumber();
-                    pagesCardLayout.show(pagesPanel, currentState.getStringPageNumber());
-                    updatePageInfoLabel();
+                    showCurrentPage();
                 }
             }
         });
@@ -136,11 +173,22 @@ public class SearchView {
     }
 
     /**
-     * Get the number of pages there are currently. Requires searchResultButtons to be updated first.
+     * Searches the text in the search field, unless it is blank or was searched already.
+     */
+    private void searchTyped() {
+        final String text = searchField.getText();
+        if (!text.isBlank() && !text.equals(searchViewModel.getState().getInput())) {
+            searchController.execute(text);
+        }
+    }
+
+    /**
+     * Get the number of pages there are currently.
      * @return total number of pages
      */
     private int getNumberOfPages() {
-        return (searchResultButtons.size() + Constants.MAX_STOCK_PER_PAGE - 1) / Constants.MAX_STOCK_PER_PAGE;
+        final int resultCount = searchViewModel.getState().getSymbols().size();
+        return (resultCount + Constants.MAX_STOCK_PER_PAGE - 1) / Constants.MAX_STOCK_PER_PAGE;
     }
 
     /**
@@ -173,52 +221,21 @@ public class SearchView {
      * Updates display with search result in searchViewModel.getState().
      */
     public void updateSearchResult() {
-        // empties previous search result
-        searchResultButtons.clear();
-        pagesPanel.removeAll();
-        // fills searchResult
-        for (int i = 0; i < searchViewModel.getState().getSymbols().size(); i++) {
-            // creates new button for a stock
-            final JButton stockButton = new JButton(searchViewModel.getState().getSymbols().get(i));
-            // sets size and stuff of button
-            stockButton.setPreferredSize(Constants.BUTTON_DIMENSION);
-            stockButton.setMaximumSize(Constants.BUTTON_DIMENSION);
-            stockButton.setAlignmentX(Component.CENTER_ALIGNMENT);
-            stockButton.setBackground(Constants.BUTTON_COLOUR);
-            // adds action listener to button
-            stockButton.addActionListener(new ActionListener() {
-                @Override
-                public void actionPerformed(ActionEvent e) {
-                    viewStockController.execute(((JButton) e.getSource()).getText());
-                }
-            });
-            searchResultButtons.add(stockButton);
-        }
+        resultList.setItems(searchViewModel.getState().getSymbols());
+        showCurrentPage();
+    }
 
-        for (int pageNumber = 0; pageNumber < getNumberOfPages(); pageNumber++) {
-            // create a new panel for this page
-            final JPanel page = new JPanel();
-            page.setLayout(new BoxLayout(page, BoxLayout.Y_AXIS));
-            page.setPreferredSize(Constants.PAGE_DIMENSION);
-            // fills this page with buttons (up to the MAX_STOCK_PER_PAGE)
-            for (int i = 0; i < Constants.MAX_STOCK_PER_PAGE; i++) {
-                // checks if current index is in range of searchResultButtons
-                if (pageNumber * Constants.MAX_STOCK_PER_PAGE + i < searchResultButtons.size()) {
-                    page.add(searchResultButtons.get(pageNumber * Constants.MAX_STOCK_PER_PAGE + i));
-                    page.add(Box.createVerticalStrut(Constants.BUTTON_SPACING));
-                }
-            }
-            // container panel for centering page
-            final JPanel centeringPanel = new JPanel(new GridBagLayout());
-            centeringPanel.add(page);
-            pagesPanel.add(centeringPanel, String.valueOf(pageNumber));
+    /**
+     * Shows the current page of the search result, or a message if there are no results.
+     */
+    private void showCurrentPage() {
+        final SearchState state = searchViewModel.getState();
+        if (state.getSymbols().isEmpty()) {
+            pagesCardLayout.show(pagesPanel, NO_RESULTS);
         }
-        if (getNumberOfPages() <= 0) {
-            final JPanel centeringPanel = new JPanel(new GridBagLayout());
-            final JLabel noResultsLabel = new JLabel("No results found");
-            noResultsLabel.setFont(Constants.NO_RESULTS_FONT);
-            centeringPanel.add(noResultsLabel);
-            pagesPanel.add(centeringPanel, "0");
+        else {
+            resultList.showWindow(state.getIntPageNumber() * Constants.MAX_STOCK_PER_PAGE);
+            pagesCardLayout.show(pagesPanel, RESULTS);
         }
         updatePageInfoLabel();
     }
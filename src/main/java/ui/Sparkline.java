@@ -0,0 +1,67 @@
+package ui;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.util.Collections;
+import java.util.List;
+
+import javax.swing.JComponent;
+
+/**
+ * A small line of closing prices, scaled to fill the component, without axes or labels.
+ */
+final class Sparkline extends JComponent {
+    private List<Double> prices = Collections.emptyList();
+    private Color lineColor = Color.GRAY;
+
+    Sparkline() {
+        setPreferredSize(ViewConstants.SPARKLINE_DIMENSION);
+    }
+
+    /**
+     * Shows the given prices.
+     * @param newPrices the prices, oldest first
+     * @param newLineColor the color of the line
+     */
+    void setPrices(List<Double> newPrices, Color newLineColor) {
+        this.prices = newPrices;
+        this.lineColor = newLineColor;
+        repaint();
+    }
+
+    @Override
+    protected void paintComponent(Graphics graphics) {
+        super.paintComponent(graphics);
+        if (prices.size() >= 2) {
+            double min = Double.MAX_VALUE;
+            double max = -Double.MAX_VALUE;
+            for (double price : prices) {
+                min = Math.min(min, price);
+                max = Math.max(max, price);
+            }
+            final int width = getWidth() - 2;
+            final int height = getHeight() - 2;
+            final int[] xs = new int[prices.size()];
+            final int[] ys = new int[prices.size()];
+            for (int i = 0; i < prices.size(); i++) {
+                xs[i] = 1 + (int) Math.round((double) i * width / (prices.size() - 1));
+                if (max > min) {
+                    ys[i] = 1 + (int) Math.round((max - prices.get(i)) / (max - min) * height);
+                }
+                else {
+                    // a flat line is drawn through the middle
+                    ys[i] = 1 + height / 2;
+                }
+            }
+            final Graphics2D graphics2D = (Graphics2D) graphics.create();
+            graphics2D.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics2D.setColor(lineColor);
+            graphics2D.setStroke(new BasicStroke(1.2f));
+            graphics2D.drawPolyline(xs, ys, xs.length);
+            graphics2D.dispose();
+        }
+    }
+}
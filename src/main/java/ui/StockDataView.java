@@ -1,10 +1,5 @@
 package ui;
 
-import java.awt.BasicStroke;
-import java.awt.Color;
-import java.awt.Graphics;
-import java.awt.Graphics2D;
-import java.awt.RenderingHints;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -12,8 +7,6 @@ import javax.swing.BoxLayout;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 
-import app.Constants;
-
 /**
  * The view the user sees when checking the information of a stock (view_stock use case).
  */
@@ -29,10 +22,10 @@ public class StockDataView {
     public StockDataView() {
         this.symbol = "";
         this.symbolLabel = new JLabel(String.format("Symbol: %s", symbol));
-        symbolLabel.setFont(Constants.METRICS_FONT);
+        symbolLabel.setFont(ViewConstants.METRICS_FONT);
         this.company = "";
         this.companyLabel = new JLabel(String.format("Company: %s", company));
-        companyLabel.setFont(Constants.METRICS_FONT);
+        companyLabel.setFont(ViewConstants.METRICS_FONT);
         this.sharePrices = new ArrayList<>();
         // Add some sample data
         for (int i = 0; i < 10; i++) {
@@ -40,6 +33,7 @@ public class StockDataView {
         }
         this.stockView = new JPanel();
         this.graphPanel = new StockGraphPanel();
+        graphPanel.setPrices(sharePrices);
     }
 
     /**
@@ -60,7 +54,7 @@ public class StockDataView {
         stockView.add(labelPanel);
 
         // Add graph panel
-        graphPanel.setPreferredSize(Constants.GRAPH_DIMENSION);
+        graphPanel.setPreferredSize(ViewConstants.GRAPH_DIMENSION);
         stockView.add(graphPanel);
     }
 
@@ -93,89 +87,9 @@ public class StockDataView {
     public void setSharePrices(List<Double> sharePrices) {
         this.sharePrices = sharePrices;
         // Refresh the graph when new data is set
-        graphPanel.repaint();
+        graphPanel.setPrices(sharePrices);
     }
     public JPanel getStockView() {
         return stockView;
     }
-
-    /**
-     * Custom panel for drawing the stock price graph.
-     */
-    private final class StockGraphPanel extends JPanel {
-        private static final int PADDING = 50;
-        private static final int POINT_SIZE = 4;
-
-        @Override
-        protected void paintComponent(Graphics g) {
-            super.paintComponent(g);
-            if (!(sharePrices == null || sharePrices.isEmpty())) {
-                paintComponentHelper((Graphics2D) g);
-            }
-        }
-
-        private void paintComponentHelper(Graphics2D g) {
-            final Graphics2D g2d = g;
-            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-            // Calculate dimensions
-            final int width = getWidth() - 2 * PADDING;
-            final int height = getHeight() - 2 * PADDING;
-
-            // Find min and max values
-            final double minPrice = sharePrices.stream().mapToDouble(Double::doubleValue).min().getAsDouble();
-            final double maxPrice = sharePrices.stream().mapToDouble(Double::doubleValue).max().getAsDouble();
-            final double priceRange = maxPrice - minPrice;
-
-            // Draw axes
-            g2d.setColor(Color.BLACK);
-            // Y-axis
-            g2d.drawLine(PADDING, PADDING, PADDING, height + PADDING);
-            // X-axis
-            g2d.drawLine(PADDING, height + PADDING, width + PADDING, height + PADDING);
-
-            // Draw price labels
-            g2d.setFont(Constants.GRAPH_VALUE_FONT);
-            for (int i = 0; i <= 5; i++) {
-                final double price = minPrice + (priceRange * i / 5);
-                final int y = height + PADDING - (int) ((price - minPrice) * height / priceRange);
-                g2d.drawString(String.format("%.2f", price), 5, y);
-                // Draw horizontal grid lines
-                g2d.setColor(Color.LIGHT_GRAY);
-                g2d.drawLine(PADDING, y, width + PADDING, y);
-                g2d.setColor(Color.BLACK);
-            }
-
-            // Draw time labels
-            for (int i = 0; i < sharePrices.size(); i++) {
-                if (i % 2 == 0) {
-                    // Draw every other label to avoid crowding
-                    final int x = PADDING + (i * width / (sharePrices.size() - 1));
-                    g2d.drawString("t" + i, x - 5, height + PADDING + 20);
-                }
-            }
-
-            // Draw the line graph
-            g2d.setColor(Constants.GRAPH_COLOR);
-            g2d.setStroke(new BasicStroke(2f));
-
-            for (int i = 0; i < sharePrices.size() - 1; i++) {
-                final int x1 = PADDING + (i * width / (sharePrices.size() - 1));
-                final int y1 = height + PADDING - (int) ((sharePrices.get(i) - minPrice) * height / priceRange);
-                final int x2 = PADDING + ((i + 1) * width / (sharePrices.size() - 1));
-                final int y2 = height + PADDING - (int) ((sharePrices.get(i + 1) - minPrice) * height / priceRange);
-
-                // Draw line segment
-                g2d.drawLine(x1, y1, x2, y2);
-
-                // Draw points
-                g2d.fillOval(x1 - POINT_SIZE / 2, y1 - POINT_SIZE / 2, POINT_SIZE, POINT_SIZE);
-            }
-            // Draw the last point
-            final int lastX = PADDING + width;
-            final int lastY = height + PADDING
-                    - (int) ((sharePrices.get(sharePrices.size() - 1) - minPrice) * height / priceRange);
-            g2d.fillOval(lastX - POINT_SIZE / 2, lastY - POINT_SIZE / 2, POINT_SIZE, POINT_SIZE);
-        }
-    }
 }
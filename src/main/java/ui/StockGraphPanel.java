@@ -0,0 +1,127 @@
+package ui;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+import javax.swing.JPanel;
+
+/**
+ * Custom panel for drawing the stock price graph.
+ *
+ * <p>Long series are downsampled to about one point per horizontal pixel. The chart is laid out
+ * into an immutable {@link ChartRenderModel} and rendered into a cached image only when the
+ * prices or the size of the panel change; every other repaint just copies the image. The
+ * crosshair that follows the mouse is drawn on top of the image without invalidating it.</p>
+ */
+final class StockGraphPanel extends JPanel {
+    private static final int NO_CROSSHAIR = -1;
+
+    private double[] prices = new double[0];
+    private double minPrice;
+    private double maxPrice;
+    private int[] sampledIndices = new int[0];
+    private int sampledWidth = -1;
+    private ChartRenderModel renderModel;
+    private BufferedImage chartImage;
+    private double chartImageScale;
+    private int crosshairX = NO_CROSSHAIR;
+
+    StockGraphPanel() {
+        final MouseAdapter crosshairListener = new MouseAdapter() {
+            @Override
+            public void mouseMoved(MouseEvent event) {
+                crosshairX = event.getX();
+                repaint();
+            }
+
+            @Override
+            public void mouseExited(MouseEvent event) {
+                crosshairX = NO_CROSSHAIR;
+                repaint();
+            }
+        };
+        addMouseMotionListener(crosshairListener);
+        addMouseListener(crosshairListener);
+    }
+
+    /**
+     * Replaces the prices shown by the graph.
+     * @param sharePrices the new prices, may be null or empty
+     */
+    void setPrices(List<Double> sharePrices) {
+        if (sharePrices == null) {
+            prices = new double[0];
+        }
+        else {
+            prices = new double[sharePrices.size()];
+            minPrice = Double.POSITIVE_INFINITY;
+            maxPrice = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < prices.length; i++) {
+                prices[i] = sharePrices.get(i);
+                minPrice = Math.min(minPrice, prices[i]);
+                maxPrice = Math.max(maxPrice, prices[i]);
+            }
+        }
+        sampledWidth = -1;
+        renderModel = null;
+        repaint();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        if (prices.length > 0) {
+            final Graphics2D g2d = (Graphics2D) g;
+            final double scale = g2d.getTransform().getScaleX();
+            if (renderModel == null || !renderModel.fits(getWidth(), getHeight())) {
+                updateSamples(getWidth() - 2 * ChartRenderModel.PADDING);
+                renderModel = ChartRenderModel.build(prices, minPrice, maxPrice, sampledIndices,
+                        getWidth(), getHeight());
+                chartImage = null;
+            }
+            if (chartImage == null || chartImageScale != scale) {
+                chartImage = renderChartImage(scale);
+                chartImageScale = scale;
+            }
+            g2d.drawImage(chartImage, 0, 0, getWidth(), getHeight(), null);
+
+            if (crosshairX != NO_CROSSHAIR) {
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                renderModel.paintCrosshair(g2d, crosshairX);
+            }
+        }
+    }
+
+    private void updateSamples(int width) {
+        if (sampledWidth != width) {
+            sampledIndices = LttbDownsampler.downsample(prices, Math.max(width, 1));
+            sampledWidth = width;
+        }
+    }
+
+    /**
+     * Renders the chart into an image at the resolution of the screen, so that it stays sharp on
+     * scaled displays.
+     */
+    private BufferedImage renderChartImage(double scale) {
+        final int imageWidth = Math.max((int) Math.ceil(getWidth() * scale), 1);
+        final int imageHeight = Math.max((int) Math.ceil(getHeight() * scale), 1);
+        final BufferedImage image = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_ARGB_PRE);
+        final Graphics2D imageGraphics = image.createGraphics();
+        try {
+            imageGraphics.setTransform(AffineTransform.getScaleInstance(scale, scale));
+            imageGraphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            renderModel.paintChart(imageGraphics);
+        }
+        finally {
+            imageGraphics.dispose();
+        }
+        return image;
+    }
+}
@@ -0,0 +1,205 @@
+package ui;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.accessibility.Accessible;
+import javax.swing.AbstractListModel;
+import javax.swing.ComboBoxModel;
+import javax.swing.JComboBox;
+import javax.swing.SwingUtilities;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.plaf.basic.ComboPopup;
+import javax.swing.text.JTextComponent;
+
+/**
+ * A combo box model over a list of symbols that filters by the prefix typed into the combo box.
+ *
+ * <p>The symbol list is not copied into the model: the model is a window onto it, from the first
+ * to the last symbol with the typed prefix, found by binary search. Symbols are only read when the
+ * combo box shows them, so a model over tens of thousands of symbols is as quick to create as one
+ * over ten. The list should be sorted, as {@link interface_adapters.gateways.StockSymbolsLoader}
+ * lists it; otherwise it is copied and sorted once, on the first filter.</p>
+ *
+ * <p>Use {@link #install} to put a model on a combo box.</p>
+ */
+public final class SymbolComboBoxModel extends AbstractListModel<String> implements ComboBoxModel<String> {
+    private static final String PROTOTYPE = "WWWWWWWW";
+
+    private final String placeholder;
+    private List<String> symbols;
+    private boolean checkedSorted;
+    private int from;
+    private int to;
+    private Object selected;
+
+    /**
+     * Creates a model listing all symbols.
+     * @param symbols the symbols, preferably sorted
+     */
+    public SymbolComboBoxModel(List<String> symbols) {
+        this(null, symbols);
+    }
+
+    /**
+     * Creates a model listing an item such as "Select stock" followed by all symbols.
+     * @param placeholder the first item, always listed and selected initially, or {@code null}
+     * @param symbols the symbols, preferably sorted
+     */
+    public SymbolComboBoxModel(String placeholder, List<String> symbols) {
+        this.placeholder = placeholder;
+        this.symbols = symbols;
+        this.to = symbols.size();
+        this.selected = placeholder;
+        if (placeholder == null && !symbols.isEmpty()) {
+            this.selected = symbols.get(0);
+        }
+    }
+
+    /**
+     * Makes the combo box editable, filters the model as the user types into it, and fixes the
+     * size of its items so that Swing does not measure every symbol.
+     * @param comboBox the combo box
+     * @param model the model to set on it
+     */
+    public static void install(JComboBox<String> comboBox, SymbolComboBoxModel model) {
+        comboBox.setModel(model);
+        comboBox.setPrototypeDisplayValue(PROTOTYPE);
+        comboBox.setEditable(true);
+        final Accessible popup = comboBox.getUI().getAccessibleChild(comboBox, 0);
+        if (popup instanceof ComboPopup) {
+            ((ComboPopup) popup).getList().setPrototypeCellValue(PROTOTYPE);
+        }
+        final JTextComponent editor = (JTextComponent) comboBox.getEditor().getEditorComponent();
+        editor.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent event) {
+                typed();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent event) {
+                typed();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent event) {
+                typed();
+            }
+
+            private void typed() {
+                // the document cannot be changed while it notifies, and filtering may change it
+                SwingUtilities.invokeLater(() -> {
+                    // selecting an item writes it into the editor, which is not typing
+                    if (editor.isFocusOwner() && !editor.getText().equals(String.valueOf(model.selected))) {
+                        model.setFilter(editor.getText());
+                        if (comboBox.isShowing()) {
+                            comboBox.showPopup();
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Lists only the symbols starting with a prefix, ignoring case. The placeholder stays listed.
+     * @param prefix the prefix, or an empty string to list all symbols
+     */
+    public void setFilter(String prefix) {
+        ensureSorted();
+        final String key = prefix.strip().toUpperCase();
+        final int oldSize = getSize();
+        from = firstAtLeast(key);
+        to = firstAtLeast(key + Character.MAX_VALUE);
+        fireContentsChanged(this, 0, Math.max(oldSize, getSize()));
+    }
+
+    @Override
+    public int getSize() {
+        int size = to - from;
+        if (placeholder != null) {
+            size++;
+        }
+        return size;
+    }
+
+    @Override
+    public String getElementAt(int index) {
+        final String result;
+        if (placeholder == null) {
+            result = symbols.get(from + index);
+        }
+        else if (index == 0) {
+            result = placeholder;
+        }
+        else {
+            result = symbols.get(from + index - 1);
+        }
+        return result;
+    }
+
+    /**
+     * Selects an item. Text typed by the user selects the symbol it names, or else the first symbol
+     * listed by the filter; text matching nothing leaves the selection as it was.
+     * @param anItem the item to select
+     */
+    @Override
+    public void setSelectedItem(Object anItem) {
+        Object newSelection = selected;
+        if (anItem != null && anItem.equals(placeholder)) {
+            newSelection = placeholder;
+        }
+        else if (anItem != null) {
+            ensureSorted();
+            final String key = anItem.toString().strip().toUpperCase();
+            final int index = firstAtLeast(key);
+            if (index < symbols.size() && symbols.get(index).equals(key)) {
+                newSelection = symbols.get(index);
+            }
+            else if (from < to) {
+                newSelection = symbols.get(from);
+            }
+        }
+        selected = newSelection;
+        // also tells an editable combo box to show the selection instead of the typed text
+        fireContentsChanged(this, -1, -1);
+    }
+
+    @Override
+    public Object getSelectedItem() {
+        return selected;
+    }
+
+    private void ensureSorted() {
+        if (!checkedSorted) {
+            boolean sorted = true;
+            for (int i = 1; i < symbols.size() && sorted; i++) {
+                sorted = symbols.get(i - 1).compareTo(symbols.get(i)) <= 0;
+            }
+            if (!sorted) {
+                final List<String> copy = new ArrayList<>(symbols);
+                Collections.sort(copy);
+                symbols = copy;
+            }
+            checkedSorted = true;
+        }
+    }
+
+    private int firstAtLeast(String key) {
+        int low = 0;
+        int high = symbols.size();
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (symbols.get(middle).compareTo(key) < 0) {
+                low = middle + 1;
+            }
+            else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
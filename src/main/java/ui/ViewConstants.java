@@ -0,0 +1,42 @@
+package ui;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+
+import app.Constants;
+
+/**
+ * Sizes, colours and fonts of the Swing views. They are kept apart from {@link Constants} so that
+ * the use cases can read their constants without loading AWT.
+ */
+public final class ViewConstants {
+    // view_stock view related constants
+    public static final Dimension MAIN_FRAME_DIMENSION = new Dimension(800, 600);
+    public static final Dimension MAIN_FRAME_MIN_DIMENSION = new Dimension(600, 400);
+    public static final Dimension STOCK_VIEW_DIMENSION = new Dimension(700, 500);
+    public static final Dimension VIEWS_MIN_DIMENSION = new Dimension(300, 100);
+    public static final Dimension GRAPH_DIMENSION = new Dimension(600, 400);
+    public static final Color GRAPH_COLOR = new Color(0, 123, 255);
+    public static final Font GRAPH_VALUE_FONT = new Font(Constants.FONT, Font.PLAIN, 12);
+    public static final Font PLACEHOLDER_FONT = new Font(Constants.FONT, Font.BOLD, 24);
+    public static final Font METRICS_FONT = new Font(Constants.FONT, Font.PLAIN, 16);
+
+    // search view constants
+    public static final Dimension SEARCH_RESULT_FRAME_DIMENSION = new Dimension(400, 600);
+    public static final Dimension BUTTON_DIMENSION = new Dimension(150, 30);
+    public static final Dimension BUTTON_PANEL_DIMENSION = new Dimension(350, BUTTON_DIMENSION.height);
+    public static final Dimension PAGE_DIMENSION = new Dimension(BUTTON_DIMENSION.width,
+                    Constants.MAX_STOCK_PER_PAGE * (BUTTON_DIMENSION.height + Constants.BUTTON_SPACING));
+    public static final Color BUTTON_COLOUR = new Color(220, 220, 245);
+    public static final Font NO_RESULTS_FONT = new Font(Constants.FONT, Font.PLAIN, 16);
+
+    // watchlist of the favorites
+    public static final Dimension WATCHLIST_DIMENSION = new Dimension(260, 300);
+    public static final Dimension SPARKLINE_DIMENSION = new Dimension(60, 18);
+
+    // prevents instantiation
+    private ViewConstants() {
+
+    }
+}
@@ -21,12 +21,13 @@ import javax.swing.JComboBox;
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
+import javax.swing.JProgressBar;
 import javax.swing.SwingConstants;
 
 import app.Constants;
 import interface_adapters.ViewManagerModel;
+import interface_adapters.favoritesIA.FavoriteStockState;
 import interface_adapters.favoritesIA.FavoritesController;
-import interface_adapters.gateways.StockSymbolsLoader;
 import interface_adapters.loading_hub.LoadingHubController;
 import interface_adapters.view_stock.ViewStockController;
 import interface_adapters.view_stock.ViewStockState;
@@ -62,9 +63,21 @@ public class ViewStockView {
     /** Manager for favorites functionality. */
     private final FavoritesController favoritesController;
 
+    /** Favorites with their recent prices, shown next to the stock. */
+    private final WatchlistView watchlistView;
+
     /** Panel to hold stock and favorites. */
     private final JPanel stockWithFavorites;
 
+    /** Runs the loads off the event dispatch thread, cancelling superseded ones. */
+    private final LatestTaskRunner loadRunner = new LatestTaskRunner("stock-loader");
+
+    /** The symbol last picked in or synced to the dropdown. */
+    private String selectedSymbol = Constants.NO_STOCKS_SELECTED;
+
+    /** Shows the progress of the current load. */
+    private final JProgressBar loadProgressBar;
+
     /**
      * Constructs the ViewStockView with the specified ViewModel and Controller.
      *
@@ -73,18 +86,24 @@ public class ViewStockView {
      * @param viewStockController the Controller handling business logic for the stock view
      * @param injectedSearchView the view for search result
      * @param loadingHubController the controller for loading hub use case
+     * @param loadingHubViewModel the ViewModel the loading hub reports its progress to
+     * @param watchlistView the view of the favorites and their recent prices
+     * @param symbolDataAccessObject the symbols the dropdown offers
      */
     public ViewStockView(ViewManagerModel viewManagerModel,
                          ViewStockViewModel viewStockViewModel,
                          ViewStockController viewStockController,
                          SearchView injectedSearchView,
-                         LoadingHubController loadingHubController) {
+                         LoadingHubController loadingHubController,
+                         ViewStockViewModel loadingHubViewModel,
+                         WatchlistView watchlistView,
+                         SymbolNameDataAccessInterface symbolDataAccessObject) {
         this.viewStockViewModel = viewStockViewModel;
         this.viewStockController = viewStockController;
         this.searchView = injectedSearchView;
         this.loadingHubController = loadingHubController;
         this.favoritesController = new FavoritesController();
-        final SymbolNameDataAccessInterface symbolDataAccessObject = new StockSymbolsLoader();
+        this.watchlistView = watchlistView;
 
         // Initialize the main panel
         mainPanel = new JPanel();
@@ -92,9 +111,9 @@ public class ViewStockView {
 
         // Placeholder panel for when no stock is selected
         final JPanel defaultBox = new JPanel(new BorderLayout());
-        defaultBox.setPreferredSize(new Dimension(Constants.STOCK_VIEW_DIMENSION.width, Constants.STOCK_VIEW_DIMENSION.height));
+        defaultBox.setPreferredSize(new Dimension(ViewConstants.STOCK_VIEW_DIMENSION.width, ViewConstants.STOCK_VIEW_DIMENSION.height));
         final JLabel placeholderLabel = new JLabel(Constants.PLACEHOLDER_TEXT, SwingConstants.CENTER);
-        placeholderLabel.setFont(Constants.PLACEHOLDER_FONT);
+        placeholderLabel.setFont(ViewConstants.PLACEHOLDER_FONT);
         defaultBox.add(placeholderLabel, BorderLayout.CENTER);
 
         // Initialize StockDataView with sample data
@@ -123,18 +142,16 @@ public class ViewStockView {
         final JPanel rightPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 10));
 
         // Make sure the stock view panel has a preferred size
-        stockViewObject.getMainPanel().setPreferredSize(Constants.STOCK_VIEW_DIMENSION);
+        stockViewObject.getMainPanel().setPreferredSize(ViewConstants.STOCK_VIEW_DIMENSION);
 
         // Bottom panel to hold buttons and dropdown
         final JPanel bottomPanel = new JPanel();
         bottomPanel.setLayout(new FlowLayout());
 
-        // Dropdown menu for selecting stocks
-        final List<String> stocksList = new ArrayList<>();
-        stocksList.add(Constants.NO_STOCKS_SELECTED);
-        stocksList.addAll(symbolDataAccessObject.getSymbols());
-        final String[] stocksArray = stocksList.toArray(new String[0]);
-        stockDropdown = new JComboBox<>(stocksArray);
+        // Dropdown menu for selecting stocks, filtered as the user types a symbol into it
+        stockDropdown = new JComboBox<>();
+        SymbolComboBoxModel.install(stockDropdown,
+                new SymbolComboBoxModel(Constants.NO_STOCKS_SELECTED, symbolDataAccessObject.getSymbols()));
         bottomPanel.add(stockDropdown);
 
         // Favorite button is added to the bottom panel
@@ -149,8 +166,13 @@ public class ViewStockView {
             @Override
             public void actionPerformed(ActionEvent e) {
                 final String symbol = Objects.requireNonNull(stockDropdown.getSelectedItem()).toString();
+                if (symbol.equals(selectedSymbol)) {
+                    // already shown or loading, e.g. the dropdown was synced to a loaded stock
+                    return;
+                }
+                selectedSymbol = symbol;
                 if (!symbol.equals(Constants.NO_STOCKS_SELECTED)) {
-                    viewStockController.execute(symbol);
+                    startLoad(() -> viewStockController.execute(symbol));
                 }
                 else {
                     // No stock is selected
@@ -160,18 +182,19 @@ public class ViewStockView {
                 }
             }
         });
-        viewStockViewModel.addPropertyChangeListener(new PropertyChangeListener() {
+        final PropertyChangeListener showStockListener = new EdtPropertyChangeListener(new PropertyChangeListener() {
             @Override
             public void propertyChange(PropertyChangeEvent evt) {
                 // updates data
-                final ViewStockState currentState = viewStockViewModel.getState();
+                final ViewStockState currentState = (ViewStockState) evt.getNewValue();
                 stockViewObject.setSymbol(currentState.getSymbol());
                 stockViewObject.setCompany(currentState.getCompany());
                 stockViewObject.setSharePrices(currentState.getSharePrices().getHighPrices());
                 stockViewObject.getStockView().revalidate();
                 stockViewObject.getStockView().repaint();
 
-                // changes dropdown menu item to current stock
+                // changes dropdown menu item to current stock, without loading it again
+                selectedSymbol = currentState.getSymbol();
                 stockDropdown.setSelectedItem(currentState.getSymbol());
 
                 // Update favorite button state
@@ -179,12 +202,26 @@ public class ViewStockView {
 
                 // Add favorites panel to the right side when a stock is selected
                 rightPanel.removeAll();
-                rightPanel.add(favoritesController.getFavoritesPanel());
+                rightPanel.add(watchlistView.getPanel());
                 stockWithFavorites.add(rightPanel, BorderLayout.EAST);
             }
         });
+        viewStockViewModel.addPropertyChangeListener(showStockListener);
+        // the loading hub streams partial results while a range loads, then the complete one
+        loadingHubViewModel.addPropertyChangeListener(evt -> {
+            if ("partial".equals(evt.getPropertyName()) || "state".equals(evt.getPropertyName())) {
+                showStockListener.propertyChange(evt);
+            }
+        });
 
 
+        // the watchlist follows the favorites, whichever view changes them
+        watchlistView.setSymbols(favoritesController.getFavoritedStocks());
+        favoritesController.addFavoritesListener(evt -> {
+            final FavoriteStockState favoritesState = (FavoriteStockState) evt.getNewValue();
+            watchlistView.setSymbols(favoritesState.getFavoriteStocks());
+        });
+
         // Favorite button action listener
         favoritesController.getFavoriteButton().addActionListener(new ActionListener() {
             @Override
@@ -283,6 +320,21 @@ public class ViewStockView {
         final JButton updateButton = new JButton("Update");
         datePanel.add(updateButton, BorderLayout.EAST);
 
+        loadProgressBar = new JProgressBar();
+        loadProgressBar.setStringPainted(true);
+        loadProgressBar.setVisible(false);
+        datePanel.add(loadProgressBar);
+        loadingHubViewModel.addPropertyChangeListener(new EdtPropertyChangeListener(evt -> {
+            if ("progress".equals(evt.getPropertyName())) {
+                final ViewStockState progressState = loadingHubViewModel.getState();
+                loadProgressBar.setIndeterminate(false);
+                loadProgressBar.setMaximum(progressState.getTotalDaysToLoad());
+                loadProgressBar.setValue(progressState.getLoadedDays());
+                loadProgressBar.setString(progressState.getLoadedDays() + " / "
+                        + progressState.getTotalDaysToLoad() + " days");
+            }
+        }));
+
         updateButton.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
@@ -332,9 +384,8 @@ public class ViewStockView {
                 // Replace with actual logic to get stock symbol
                 final String stockSymbol = stockDropdown.getSelectedItem().toString();
                 if (!stockSymbol.equals(Constants.NO_STOCKS_SELECTED)) {
-                    // Execute business logic
-                    loadingHubController.execute(stockSymbol, startDate, endDate);
-                    viewStockController.execute(stockSymbol);
+                    // Execute business logic in the background, the chart fills in as the range loads
+                    startLoad(() -> loadingHubController.execute(stockSymbol, startDate, endDate));
                 }
             }
         });
@@ -355,6 +406,19 @@ public class ViewStockView {
         mainPanel.add(datePanel, BorderLayout.NORTH);
     }
 
+    /**
+     * Runs a load in the background, cancelling the load it replaces, and shows the progress bar
+     * until it finishes.
+     * @param load the use case calls to run
+     */
+    private void startLoad(Runnable load) {
+        loadProgressBar.setIndeterminate(true);
+        loadProgressBar.setString("Loading...");
+        loadProgressBar.setVisible(true);
+        mainPanel.revalidate();
+        loadRunner.submit(load, () -> loadProgressBar.setVisible(false));
+    }
+
     private void yearBoxEvent(JComboBox<Integer> yearBox1, JComboBox<Integer> monthBox1) {
         final int selectedYear = (int) yearBox1.getSelectedItem();
         final ActionListener[] monthListeners = monthBox1.getActionListeners();
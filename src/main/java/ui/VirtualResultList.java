@@ -0,0 +1,83 @@
+package ui;
+
+import java.awt.Component;
+import java.awt.GridBagLayout;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.swing.Box;
+import javax.swing.BoxLayout;
+import javax.swing.JButton;
+import javax.swing.JPanel;
+
+import app.Constants;
+
+/**
+ * A list of results that only has components for the rows on screen.
+ *
+ * <p>There is one button per visible row, created once. Showing another window of the results
+ * relabels these buttons with the symbols of that window, read from the result list on demand,
+ * and hides the buttons left over at the end. The result list itself is never copied, so the
+ * cost of a page change does not depend on how many results there are.</p>
+ */
+final class VirtualResultList {
+    private final JPanel panel = new JPanel(new GridBagLayout());
+    private final List<JButton> cells = new ArrayList<>();
+    private List<String> items = List.of();
+
+    /**
+     * Creates the list.
+     * @param rows the number of visible rows
+     * @param onSelect called with the symbol of a row when it is clicked
+     */
+    VirtualResultList(int rows, Consumer<String> onSelect) {
+        final JPanel column = new JPanel();
+        column.setLayout(new BoxLayout(column, BoxLayout.Y_AXIS));
+        column.setPreferredSize(ViewConstants.PAGE_DIMENSION);
+        for (int row = 0; row < rows; row++) {
+            final JButton cell = new JButton();
+            // sets size and stuff of button
+            cell.setPreferredSize(ViewConstants.BUTTON_DIMENSION);
+            cell.setMaximumSize(ViewConstants.BUTTON_DIMENSION);
+            cell.setAlignmentX(Component.CENTER_ALIGNMENT);
+            cell.setBackground(ViewConstants.BUTTON_COLOUR);
+            // the label is read when clicked, so the listener holds for whatever the row shows
+            cell.addActionListener(event -> onSelect.accept(cell.getText()));
+            cell.setVisible(false);
+            cells.add(cell);
+            column.add(cell);
+            column.add(Box.createVerticalStrut(Constants.BUTTON_SPACING));
+        }
+        // container panel for centering the rows
+        panel.add(column);
+    }
+
+    /**
+     * Replaces the results. Call {@link #showWindow} afterwards to display them.
+     * @param newItems the results, which are read but not copied
+     */
+    void setItems(List<String> newItems) {
+        this.items = newItems;
+    }
+
+    /**
+     * Shows the results starting at an index, one per row.
+     * @param first the index of the result in the top row
+     */
+    void showWindow(int first) {
+        for (int row = 0; row < cells.size(); row++) {
+            final JButton cell = cells.get(row);
+            final int index = first + row;
+            final boolean used = index < items.size();
+            if (used && !items.get(index).equals(cell.getText())) {
+                cell.setText(items.get(index));
+            }
+            cell.setVisible(used);
+        }
+    }
+
+    JPanel getPanel() {
+        return panel;
+    }
+}
@@ -0,0 +1,170 @@
+package ui;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.FlowLayout;
+import java.awt.event.HierarchyEvent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+import javax.swing.BorderFactory;
+import javax.swing.Box;
+import javax.swing.BoxLayout;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+
+import app.Constants;
+import interface_adapters.ViewModel;
+import interface_adapters.watchlist.WatchlistController;
+import interface_adapters.watchlist.WatchlistPresenter;
+import interface_adapters.watchlist.WatchlistState;
+
+/**
+ * View of the favorite stocks as a watchlist: one row per symbol with its last close, its daily
+ * change and a sparkline of the last {@link Constants#WATCHLIST_DAYS} days.
+ *
+ * <p>All symbols are loaded at once when the watchlist is shown, and each row fills in as soon as
+ * its symbol arrives, first from the cache and then with the days that were missing.</p>
+ */
+public class WatchlistView {
+    private static final Color UP = new Color(0, 140, 0);
+    private static final Color DOWN = new Color(200, 0, 0);
+
+    private final JPanel rowsPanel;
+    private final JScrollPane mainPanel;
+    private final ViewModel<WatchlistState> watchlistViewModel;
+    private final WatchlistController watchlistController;
+    private final Map<String, Cell> cells = new LinkedHashMap<>();
+
+    /** Whether the symbols changed since they were last loaded. */
+    private boolean stale;
+
+    /**
+     * Constructor.
+     * @param watchlistViewModel the view model the watchlist presenter fills in
+     * @param watchlistController the controller loading the watchlist
+     */
+    public WatchlistView(ViewModel<WatchlistState> watchlistViewModel, WatchlistController watchlistController) {
+        this.watchlistViewModel = watchlistViewModel;
+        this.watchlistController = watchlistController;
+
+        rowsPanel = new JPanel();
+        rowsPanel.setLayout(new BoxLayout(rowsPanel, BoxLayout.Y_AXIS));
+        final JPanel top = new JPanel(new BorderLayout());
+        top.add(rowsPanel, BorderLayout.NORTH);
+        mainPanel = new JScrollPane(top);
+        mainPanel.setBorder(BorderFactory.createTitledBorder("Favorites"));
+        mainPanel.setPreferredSize(ViewConstants.WATCHLIST_DIMENSION);
+
+        watchlistViewModel.addPropertyChangeListener(new EdtPropertyChangeListener(evt -> {
+            if (WatchlistPresenter.ROW.equals(evt.getPropertyName())) {
+                fillCells();
+            }
+        }));
+        // nothing is loaded while the watchlist is hidden, e.g. before the first stock is shown
+        mainPanel.addHierarchyListener(evt -> {
+            if ((evt.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0 && mainPanel.isShowing() && stale) {
+                refresh();
+            }
+        });
+    }
+
+    /**
+     * Shows the given symbols, keeping the rows of the ones already shown, and loads them all.
+     * @param symbols the symbols on the watchlist
+     */
+    public void setSymbols(Collection<String> symbols) {
+        final Map<String, Cell> kept = new LinkedHashMap<>();
+        for (String symbol : new TreeSet<>(symbols)) {
+            Cell cell = cells.get(symbol);
+            if (cell == null) {
+                cell = new Cell(symbol);
+            }
+            kept.put(symbol, cell);
+        }
+        cells.clear();
+        cells.putAll(kept);
+
+        rowsPanel.removeAll();
+        for (Cell cell : cells.values()) {
+            rowsPanel.add(cell.panel);
+            rowsPanel.add(Box.createVerticalStrut(2));
+        }
+        rowsPanel.revalidate();
+        rowsPanel.repaint();
+        fillCells();
+
+        stale = true;
+        if (mainPanel.isShowing()) {
+            refresh();
+        }
+    }
+
+    /**
+     * Loads every symbol on the watchlist again.
+     */
+    public void refresh() {
+        stale = false;
+        watchlistController.execute(new ArrayList<>(cells.keySet()));
+    }
+
+    public JScrollPane getPanel() {
+        return mainPanel;
+    }
+
+    private void fillCells() {
+        final WatchlistState state = watchlistViewModel.getState();
+        for (Cell cell : cells.values()) {
+            final WatchlistState.Row row = state.getRow(cell.symbol);
+            if (row != null) {
+                cell.show(row);
+            }
+        }
+    }
+
+    /**
+     * The row of one symbol.
+     */
+    private static final class Cell {
+        private final String symbol;
+        private final JPanel panel = new JPanel(new FlowLayout(FlowLayout.LEFT, 6, 0));
+        private final JLabel lastClose = new JLabel("...");
+        private final JLabel dailyChange = new JLabel();
+        private final Sparkline sparkline = new Sparkline();
+        private WatchlistState.Row shown;
+
+        Cell(String symbol) {
+            this.symbol = symbol;
+            final JLabel symbolLabel = new JLabel(symbol);
+            symbolLabel.setPreferredSize(new Dimension(48, symbolLabel.getPreferredSize().height));
+            panel.add(symbolLabel);
+            panel.add(lastClose);
+            panel.add(dailyChange);
+            panel.add(sparkline);
+        }
+
+        void show(WatchlistState.Row row) {
+            if (row != shown) {
+                shown = row;
+                Color color = Color.GRAY;
+                if (row.getDirection() > 0) {
+                    color = UP;
+                }
+                else if (row.getDirection() < 0) {
+                    color = DOWN;
+                }
+                lastClose.setText(row.getLastClose());
+                dailyChange.setText(row.getDailyChange());
+                dailyChange.setForeground(color);
+                sparkline.setPrices(row.getClosePrices(), color);
+                // a row still loading is greyed out until its missing days arrive
+                lastClose.setEnabled(!row.isLoading());
+            }
+        }
+    }
+}
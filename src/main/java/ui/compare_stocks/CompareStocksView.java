@@ -4,34 +4,51 @@ import java.awt.Dimension;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.time.ZoneId;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 
 import javax.swing.BoxLayout;
+import javax.swing.DefaultListModel;
 import javax.swing.JButton;
 import javax.swing.JComboBox;
 import javax.swing.JLabel;
+import javax.swing.JList;
 import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
 import javax.swing.JTextArea;
+import javax.swing.table.DefaultTableModel;
 
 import com.github.lgooddatepicker.components.DatePicker;
 import interface_adapters.ViewModel;
 import interface_adapters.compare_stocks.CompareStocksController;
 import interface_adapters.compare_stocks.CompareStocksState;
+import ui.SymbolComboBoxModel;
 import use_cases.compare_stocks.CompareStocksInputData;
 
 /**
  * A user interface component for comparing stocks.
- * This class allows users to select stocks, specify a date range,
- * and view the comparison results.
+ * This class allows users to select any number of stocks, specify a date range,
+ * and view the comparison results as a table of metrics and a summary.
  */
 public class CompareStocksView extends JPanel implements PropertyChangeListener {
     private static final int DATE_PANEL_HEIGHT = 60;
+    private static final int CHOSEN_STOCKS_ROWS = 4;
+    private static final Dimension METRICS_TABLE_DIMENSION = new Dimension(560, 120);
 
     private final ViewModel<CompareStocksState> viewModel;
     private final CompareStocksController controller;
 
-    private JComboBox<String> firstStockDropdown;
-    private JComboBox<String> secondStockDropdown;
+    private JComboBox<String> stockDropdown;
+    private final DefaultListModel<String> chosenStocks = new DefaultListModel<>();
+    private final DefaultTableModel metricsTable =
+            new DefaultTableModel(CompareStocksState.COLUMNS.toArray(), 0) {
+                @Override
+                public boolean isCellEditable(int row, int column) {
+                    return false;
+                }
+            };
     private DatePicker startDatePicker;
     private DatePicker endDatePicker;
     private JTextArea comparisonSummaryDisplay;
@@ -53,9 +70,12 @@ public class CompareStocksView extends JPanel implements PropertyChangeListener
         final JPanel pickTimeIntervalPanel = pickTimeIntervalPanel();
         final JTextArea comparisonSummary = comparisonSummaryComponent();
         final JButton compareButton = new JButton("Compare");
+        final JTable metrics = new JTable(metricsTable);
+        metrics.setPreferredScrollableViewportSize(METRICS_TABLE_DIMENSION);
 
         this.add(chooseStocksPanel);
         this.add(pickTimeIntervalPanel);
+        this.add(new JScrollPane(metrics));
         this.add(comparisonSummary);
         this.add(compareButton);
 
@@ -63,15 +83,37 @@ public class CompareStocksView extends JPanel implements PropertyChangeListener
     }
 
     private JPanel chooseStocksPanel() {
-        final JLabel chooseStocksInstruction = new JLabel("Choose two stocks:");
-        firstStockDropdown = new JComboBox<>(controller.getStockNames().toArray(new String[0]));
-        secondStockDropdown = new JComboBox<>(controller.getStockNames().toArray(new String[0]));
+        final JLabel chooseStocksInstruction = new JLabel("Choose the stocks to compare:");
+        stockDropdown = new JComboBox<>();
+        SymbolComboBoxModel.install(stockDropdown, new SymbolComboBoxModel(controller.getStockNames()));
+        final JButton addButton = new JButton("Add");
+        final JButton removeButton = new JButton("Remove");
+        final JList<String> chosenStocksList = new JList<>(chosenStocks);
+        chosenStocksList.setVisibleRowCount(CHOSEN_STOCKS_ROWS);
+
+        addButton.addActionListener(event -> {
+            final Object symbol = stockDropdown.getSelectedItem();
+            if (symbol != null && !chosenStocks.contains(symbol.toString())) {
+                chosenStocks.addElement(symbol.toString());
+            }
+        });
+        removeButton.addActionListener(event -> {
+            for (String symbol : chosenStocksList.getSelectedValuesList()) {
+                chosenStocks.removeElement(symbol);
+            }
+        });
+
+        final JPanel pickPanel = new JPanel();
+        pickPanel.setLayout(new BoxLayout(pickPanel, BoxLayout.X_AXIS));
+        pickPanel.add(stockDropdown);
+        pickPanel.add(addButton);
+        pickPanel.add(removeButton);
 
         final JPanel panel = new JPanel();
         panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
         panel.add(chooseStocksInstruction);
-        panel.add(firstStockDropdown);
-        panel.add(secondStockDropdown);
+        panel.add(pickPanel);
+        panel.add(new JScrollPane(chosenStocksList));
 
         return panel;
     }
@@ -121,19 +163,21 @@ public class CompareStocksView extends JPanel implements PropertyChangeListener
     }
 
     private void getNewComparisonSummary() {
-        final String stock1Name = firstStockDropdown.getSelectedItem().toString();
-        final String stock2Name = secondStockDropdown.getSelectedItem().toString();
+        final List<String> symbols = Collections.list(chosenStocks.elements());
         final Date start = Date.from(startDatePicker.getDate().atStartOfDay(ZoneId.systemDefault()).toInstant());
         final Date end = Date.from(endDatePicker.getDate().atStartOfDay(ZoneId.systemDefault()).toInstant());
 
-        final CompareStocksInputData inputData = new CompareStocksInputData(
-                stock1Name, stock2Name, start, end
-        );
+        final CompareStocksInputData inputData = new CompareStocksInputData(symbols, start, end);
         controller.execute(inputData);
     }
 
     @Override
     public void propertyChange(PropertyChangeEvent evt) {
-        comparisonSummaryDisplay.setText(viewModel.getState().getSummary());
+        final CompareStocksState state = viewModel.getState();
+        metricsTable.setRowCount(0);
+        for (List<String> row : state.getMetricRows()) {
+            metricsTable.addRow(row.toArray());
+        }
+        comparisonSummaryDisplay.setText(state.getSummary());
     }
 }
@@ -4,8 +4,8 @@ import interface_adapters.ViewModel;
 import interface_adapters.compare_stocks.CompareStocksController;
 import interface_adapters.compare_stocks.CompareStocksPresenter;
 import interface_adapters.compare_stocks.CompareStocksState;
-import interface_adapters.gateways.StockDataLoader;
 import use_cases.StockDataInterface;
+import use_cases.SymbolNameDataAccessInterface;
 import use_cases.compare_stocks.CompareStocksInteractor;
 
 import javax.swing.*;
@@ -14,10 +14,10 @@ import java.awt.*;
 public class CompareStocksViewDisplayer {
     private CompareStocksViewDisplayer() {}
 
-    public static void showDialog(JFrame parentFrame) {
+    public static void showDialog(JFrame parentFrame, StockDataInterface dai, SymbolNameDataAccessInterface symbols) {
         final ViewModel<CompareStocksState> vm = new ViewModel<>("Compare Stocks");
         vm.setState(new CompareStocksState());
-        final CompareStocksController controller = makeController(vm);
+        final CompareStocksController controller = makeController(vm, dai, symbols);
         final CompareStocksView view = new CompareStocksView(controller, vm);
 
         final JDialog dialog = new JDialog(parentFrame, "Compare Stocks", true);
@@ -27,10 +27,11 @@ public class CompareStocksViewDisplayer {
         dialog.setVisible(true);
     }
 
-    private static CompareStocksController makeController(ViewModel<CompareStocksState> vm) {
+    private static CompareStocksController makeController(ViewModel<CompareStocksState> vm,
+                                                          StockDataInterface dai,
+                                                          SymbolNameDataAccessInterface symbols) {
         final CompareStocksPresenter presenter = new CompareStocksPresenter(vm);
-        final StockDataInterface dai = new StockDataLoader();
-        final CompareStocksInteractor interactor = new CompareStocksInteractor(presenter, dai);
+        final CompareStocksInteractor interactor = new CompareStocksInteractor(presenter, dai, symbols);
         return new CompareStocksController(interactor);
     }
 }
@@ -6,16 +6,18 @@ import java.beans.PropertyChangeListener;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.List;
 
 import javax.swing.JFrame;
 import javax.swing.JLabel;
 
 import app.Constants;
-import interface_adapters.gateways.StockDataLoader;
 import interface_adapters.text_analyze_stock.StockController;
 import interface_adapters.text_analyze_stock.StockViewModel;
-import interface_adapters.view_stock.ViewStockState;
 import interface_adapters.view_stock.ViewStockViewModel;
+import ui.EdtPropertyChangeListener;
+import ui.LatestTaskRunner;
+import use_cases.StockDataInterface;
 
 /**
  * The class for the main Stock View.
@@ -24,24 +26,27 @@ public class StockAnalysisView {
     private final StockViewModel predictViewModel;
     private final ViewStockViewModel viewModel;
     private final StockController predictController;
+    private final StockDataInterface stockDataAccessObject;
     private JLabel label = new JLabel();
+    private final LatestTaskRunner analysisRunner = new LatestTaskRunner("stock-analysis");
 
     public StockAnalysisView(StockViewModel predictViewModel, ViewStockViewModel viewModel,
-                              StockController predictController) {
+                              StockController predictController, StockDataInterface stockDataAccessObject) {
         this.predictViewModel = predictViewModel;
+        this.stockDataAccessObject = stockDataAccessObject;
         this.viewModel = viewModel;
         this.predictController = predictController;
-        this.viewModel.addPropertyChangeListener(new PropertyChangeListener() {
+        this.viewModel.addPropertyChangeListener(new EdtPropertyChangeListener(new PropertyChangeListener() {
 
             @Override
             public void propertyChange(PropertyChangeEvent evt) {
                 updateData();
             }
-        });
+        }));
         // Create a new frame to display the result
         final JFrame frame = new JFrame("Stock Analysis Result");
         frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        frame.setSize(Constants.FOUR_HUNDRED, Constants.THREE_HUNDRED);
+        frame.setSize(Constants.FIVE_HUNDRED, Constants.FOUR_HUNDRED);
 
         // Create a label to display the result
         label.setFont(new Font("Arial", Font.PLAIN, Constants.SIZE));
@@ -57,16 +62,25 @@ public class StockAnalysisView {
 
     }
 
+    /**
+     * Runs the analysis for the current stock in the background; a newer stock cancels it.
+     */
     private void updateData() {
-        final ViewStockState currentState = viewModel.getState();
-        final StockDataLoader stockDataLoader = new StockDataLoader();
+        final String symbol = viewModel.getState().getSymbol();
+        analysisRunner.submit(() -> analyze(symbol), this::showResult);
+    }
+
+    private void analyze(String symbol) {
         final Calendar myCalendarStart = new GregorianCalendar(2023, 10, 6);
         final Calendar myCalendarCurrent = new GregorianCalendar(2024, 10, 5);
         final Date myDateCurrent = myCalendarCurrent.getTime();
         final Date myDateInitial = myCalendarStart.getTime();
-        predictController.execute(currentState.getSymbol(),
-                stockDataLoader.getSharePrice(currentState.getSymbol(), myDateCurrent).getHighPrices().get(0),
-                stockDataLoader.getSharePrice(currentState.getSymbol(), myDateInitial).getHighPrices().get(0));
+        predictController.execute(symbol,
+                stockDataAccessObject.getSharePrice(symbol, myDateCurrent).getHighPrices().get(0),
+                stockDataAccessObject.getSharePrice(symbol, myDateInitial).getHighPrices().get(0), myDateCurrent);
+    }
+
+    private void showResult() {
         // Set variable breaks to the value of <br>
         final String breaks = "<br>";
         // Format the result text
@@ -84,7 +98,24 @@ public class StockAnalysisView {
                 +
                 "<b>Action:</b> " + predictViewModel.getAction()
                 +
+                priceRanges(breaks)
+                +
                 "</html>");
 
     }
+
+    /**
+     * Formats the simulated price range of every year: the median, and the prices that 90% of the
+     * simulated paths fall between.
+     */
+    private String priceRanges(String breaks) {
+        final StringBuilder ranges = new StringBuilder();
+        final List<double[]> bands = predictViewModel.getPriceBands();
+        for (int year = 0; year < bands.size(); year++) {
+            final double[] band = bands.get(year);
+            ranges.append(breaks).append(String.format("<b>Year %d Range:</b> %.2f to %.2f (median %.2f)",
+                    year + 1, band[0], band[band.length - 1], band[band.length / 2]));
+        }
+        return ranges.toString();
+    }
 }
@@ -0,0 +1,38 @@
+package use_cases;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import app.Constants;
+
+/**
+ * The threads that load stock data for the use cases, shared by all of them.
+ *
+ * <p>A load mostly waits on the API, so several run at once to overlap the waits. The pool is
+ * bounded at {@link Constants#LOADER_THREADS} threads so that however many comparisons, watchlist
+ * refreshes and batch commands run together, the number of loads against the API's rate limit
+ * stays the same; further loads wait in the queue.</p>
+ */
+public final class DataLoaders {
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final ExecutorService SHARED = Executors.newFixedThreadPool(Constants.LOADER_THREADS,
+        runnable -> {
+            final Thread thread = new Thread(runnable, "data-loader-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    // prevents instantiation
+    private DataLoaders() {
+
+    }
+
+    /**
+     * Returns the shared pool. Tasks on it must not wait for other tasks on it.
+     * @return the pool the use cases load stock data on
+     */
+    public static ExecutorService shared() {
+        return SHARED;
+    }
+}
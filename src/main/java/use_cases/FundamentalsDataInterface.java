@@ -0,0 +1,49 @@
+package use_cases;
+
+import entities.MetricValues;
+
+/**
+ * Data access interface for the fundamentals of stocks: earnings and dividends per share,
+ * reported per period. A period is a label such as {@code 2024} for a fiscal year or
+ * {@code 2024Q3} for a quarter.
+ */
+public interface FundamentalsDataInterface {
+    /**
+     * Returns the latest earnings per share of a stock.
+     * @param stockSymbol the stock symbol
+     * @return the earnings per share of the latest period that has them, or null if unknown
+     */
+    Double getEps(String stockSymbol);
+
+    /**
+     * Returns the earnings per share of a stock in a period.
+     * @param stockSymbol the stock symbol
+     * @param period the period
+     * @return the earnings per share, or null if unknown
+     */
+    Double getEps(String stockSymbol, String period);
+
+    /**
+     * Returns the dividends per share of a stock in a period.
+     * @param stockSymbol the stock symbol
+     * @param period the period
+     * @return the dividends per share, or null if unknown
+     */
+    Double getDividendsPerShare(String stockSymbol, String period);
+
+    /**
+     * Returns the earnings per share of a stock in every period, dated by the end of the period.
+     * This is the earnings series a {@link entities.Metrics} is built from.
+     * @param stockSymbol the stock symbol
+     * @return the earnings per share from past to present; empty if unknown
+     */
+    MetricValues getEarnings(String stockSymbol);
+
+    /**
+     * Returns the dividends per share of a stock in every period, dated by the end of the period.
+     * This is the dividends series a {@link entities.Metrics} is built from.
+     * @param stockSymbol the stock symbol
+     * @return the dividends per share from past to present; empty if unknown
+     */
+    MetricValues getDividends(String stockSymbol);
+}
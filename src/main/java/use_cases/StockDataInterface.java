@@ -166,4 +166,20 @@ public interface StockDataInterface {
      *         is {@code null}).
      */
     SharePrices getSharePrices(String stockSymbol, Date startDate, Date endDate);
+
+    /**
+     * Retrieves the share prices of a date range that are already stored locally, without contacting the API.
+     *
+     * <p>Days that are not cached, or have no trading data, are left out. Callers use this to show
+     * what is available straight away while {@link #getSharePrices(String, Date, Date)} fills in the rest.</p>
+     *
+     * @param stockSymbol the stock symbol representing the company (e.g., "AAPL" for Apple Inc.).
+     * @param startDate   the start date of the date range (inclusive).
+     * @param endDate     the end date of the date range (inclusive).
+     * @return the cached share prices in date order, or {@code null} if this data source has no local cache
+     *         or the date range is invalid.
+     */
+    default SharePrices getCachedSharePrices(String stockSymbol, Date startDate, Date endDate) {
+        return null;
+    }
 }
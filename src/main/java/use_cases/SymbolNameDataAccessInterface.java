@@ -1,5 +1,6 @@
 package use_cases;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -28,4 +29,17 @@ public interface SymbolNameDataAccessInterface {
      */
     String getSymbol(String company);
 
+    /**
+     * Retrieves the company names of all symbols, in the same order as {@link #getSymbols()}.
+     *
+     * @return a list with the company name of each symbol
+     */
+    default List<String> getCompanies() {
+        final List<String> companies = new ArrayList<>();
+        for (String symbol : getSymbols()) {
+            companies.add(getCompany(symbol));
+        }
+        return companies;
+    }
+
 }
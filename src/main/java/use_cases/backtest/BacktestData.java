@@ -0,0 +1,126 @@
+package use_cases.backtest;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import entities.AlignedSeries;
+import entities.FillPolicy;
+import entities.MetricValues;
+import entities.SeriesAligner;
+import entities.SharePrices;
+import use_cases.FundamentalsDataInterface;
+import use_cases.StockDataInterface;
+
+/**
+ * The daily bars a backtest replays, as primitive columns.
+ *
+ * <p>The closes of every symbol are aligned on one calendar of days, with a day a symbol did not
+ * trade carrying its previous close forward; days before a symbol's first bar are NaN. The
+ * earnings per share are a column parallel to the closes: each day has the earnings of the last
+ * period that ended on or before it, so a backtest never trades on earnings from its future. A
+ * period counts from the day it ended rather than the later day its earnings were published.
+ * The columns are never changed after loading, so any number of backtests can read them at
+ * once.</p>
+ */
+public final class BacktestData {
+    private final List<String> symbols;
+    private final long[] days;
+    private final double[][] closes;
+    private final double[][] eps;
+
+    /**
+     * Creates the data from columns.
+     * @param symbols the symbols, one per row of {@code closes}
+     * @param days the days as epoch days, sorted ascending
+     * @param closes one row of closes per symbol, parallel to {@code days}; NaN where unknown
+     * @param eps one row of earnings per share per symbol, parallel to {@code days}; NaN where unknown
+     */
+    public BacktestData(List<String> symbols, long[] days, double[][] closes, double[][] eps) {
+        this.symbols = List.copyOf(symbols);
+        this.days = days;
+        this.closes = closes;
+        this.eps = eps;
+    }
+
+    /**
+     * Loads the cached bars of the symbols between two dates. Days that are not cached are left
+     * out rather than requested from the API.
+     * @param dataLoader the stock data
+     * @param fundamentals the reported earnings per share of the symbols
+     * @param symbols the symbols
+     * @param startDate the first day
+     * @param endDate the last day
+     * @return the aligned bars
+     */
+    public static BacktestData load(StockDataInterface dataLoader, FundamentalsDataInterface fundamentals,
+                                    List<String> symbols, Date startDate, Date endDate) {
+        final List<SharePrices> prices = new ArrayList<>();
+        for (String symbol : symbols) {
+            prices.add(dataLoader.getCachedSharePrices(symbol, startDate, endDate));
+        }
+        final AlignedSeries aligned = SeriesAligner.align(prices, FillPolicy.FORWARD_FILL);
+        final long[] days = aligned.getDays();
+        final double[][] eps = new double[symbols.size()][];
+        for (int s = 0; s < symbols.size(); s++) {
+            eps[s] = epsAsOf(fundamentals.getEarnings(symbols.get(s)), days);
+        }
+        return new BacktestData(symbols, days, aligned.getValues(), eps);
+    }
+
+    /**
+     * Lines the earnings of the reported periods up with the days, each day taking the earnings of
+     * the last period that ended on or before it.
+     */
+    private static double[] epsAsOf(MetricValues earnings, long[] days) {
+        final double[] column = new double[days.length];
+        final List<Date> periodEnds = earnings.getDates();
+        final List<Double> values = earnings.getValues();
+        double current = Double.NaN;
+        int next = 0;
+        for (int t = 0; t < days.length; t++) {
+            while (next < periodEnds.size() && SeriesAligner.toEpochDay(periodEnds.get(next)) <= days[t]) {
+                current = values.get(next);
+                next++;
+            }
+            column[t] = current;
+        }
+        return column;
+    }
+
+    public List<String> getSymbols() {
+        return symbols;
+    }
+
+    public int getSymbolCount() {
+        return closes.length;
+    }
+
+    public int getLength() {
+        return days.length;
+    }
+
+    /**
+     * The days as epoch days.
+     * @return the days, shared with this object
+     */
+    public long[] getDays() {
+        return days;
+    }
+
+    /**
+     * The closes, one row per symbol.
+     * @return the closes, shared with this object
+     */
+    public double[][] getCloses() {
+        return closes;
+    }
+
+    /**
+     * The earnings per share known on each day, one row per symbol.
+     * @return the earnings per share, NaN where unknown, shared with this object
+     */
+    public double[][] getEps() {
+        return eps;
+    }
+}
@@ -0,0 +1,89 @@
+package use_cases.backtest;
+
+/**
+ * The outcome of one backtest: the value of the portfolio on every day, the trades made, and the
+ * profit and final position of every symbol.
+ */
+public final class BacktestResult {
+    private final double initialCapital;
+    private final double[] equity;
+    private final double maxDrawdown;
+    private final int trades;
+    private final double[] profits;
+    private final double[] positions;
+
+    /**
+     * Constructor.
+     * @param initialCapital the capital the backtest started with
+     * @param equity the value of the portfolio at the close of every day
+     * @param maxDrawdown the largest fall from a peak of the portfolio, as a fraction of the peak
+     * @param trades the number of buys and sells
+     * @param profits the profit of every symbol, marked at its last close
+     * @param positions the shares of every symbol held at the end
+     */
+    public BacktestResult(double initialCapital, double[] equity, double maxDrawdown, int trades,
+                          double[] profits, double[] positions) {
+        this.initialCapital = initialCapital;
+        this.equity = equity;
+        this.maxDrawdown = maxDrawdown;
+        this.trades = trades;
+        this.profits = profits;
+        this.positions = positions;
+    }
+
+    public double getInitialCapital() {
+        return initialCapital;
+    }
+
+    /**
+     * The value of the portfolio at the close of every day of the backtest.
+     * @return the equity curve, shared with this object
+     */
+    public double[] getEquity() {
+        return equity;
+    }
+
+    /**
+     * The value of the portfolio at the end.
+     * @return the final equity, or the initial capital if no day was replayed
+     */
+    public double getFinalEquity() {
+        double finalEquity = initialCapital;
+        if (equity.length > 0) {
+            finalEquity = equity[equity.length - 1];
+        }
+        return finalEquity;
+    }
+
+    /**
+     * The return over the whole backtest.
+     * @return the return as a fraction of the initial capital
+     */
+    public double getTotalReturn() {
+        return getFinalEquity() / initialCapital - 1;
+    }
+
+    public double getMaxDrawdown() {
+        return maxDrawdown;
+    }
+
+    public int getTrades() {
+        return trades;
+    }
+
+    /**
+     * The profit of every symbol, in the order of the backtest data.
+     * @return the profits, shared with this object
+     */
+    public double[] getProfits() {
+        return profits;
+    }
+
+    /**
+     * The shares of every symbol held at the end, in the order of the backtest data.
+     * @return the positions, shared with this object
+     */
+    public double[] getPositions() {
+        return positions;
+    }
+}
@@ -0,0 +1,94 @@
+package use_cases.backtest;
+
+import java.util.Arrays;
+
+import app.Constants;
+import use_cases.text_analyze_stock.Recommendation;
+import use_cases.text_analyze_stock.RecommendationRule;
+
+/**
+ * Replays daily bars and trades every symbol on the buy/hold/sell recommendation.
+ *
+ * <p>The capital is split evenly between the symbols. Each day, for every symbol that has a
+ * close, the rule projects the price a year ahead from the close, the close a year earlier and
+ * the earnings known that day, and recommends an action. A buy invests all of the symbol's cash at the close and a sell sells
+ * the whole position at the close; a symbol is never shorted or leveraged. The portfolio is then
+ * marked at the closes.</p>
+ *
+ * <p>The replay walks the primitive columns of {@link BacktestData} with a cursor on the day a
+ * year back, so the bar loop allocates nothing and reads the data without changing it. A
+ * backtester holds no state, so one can run any number of backtests at once.</p>
+ */
+public final class Backtester {
+
+    /**
+     * Runs a backtest.
+     * @param data the bars to replay
+     * @param rule the rule to trade on
+     * @param initialCapital the capital to start with, split evenly between the symbols
+     * @return the result
+     */
+    public BacktestResult run(BacktestData data, RecommendationRule rule, double initialCapital) {
+        final int symbolCount = data.getSymbolCount();
+        final int length = data.getLength();
+        final long[] days = data.getDays();
+        final double[][] closes = data.getCloses();
+        final double[][] eps = data.getEps();
+
+        final double[] cash = new double[symbolCount];
+        final double[] shares = new double[symbolCount];
+        final double[] lastCloses = new double[symbolCount];
+        Arrays.fill(cash, initialCapital / symbolCount);
+        final double[] equity = new double[length];
+        int trades = 0;
+        double peak = initialCapital;
+        double maxDrawdown = 0;
+        int yearAgo = 0;
+
+        for (int t = 0; t < length; t++) {
+            // the last day at least a year before today
+            final long yearBefore = days[t] - Constants.ONE_YEAR;
+            while (yearAgo + 1 < t && days[yearAgo + 1] <= yearBefore) {
+                yearAgo++;
+            }
+            final boolean hasYearAgo = days[yearAgo] <= yearBefore;
+
+            double total = 0;
+            for (int s = 0; s < symbolCount; s++) {
+                final double close = closes[s][t];
+                if (!Double.isNaN(close)) {
+                    double startingPrice = Double.NaN;
+                    if (hasYearAgo) {
+                        startingPrice = closes[s][yearAgo];
+                    }
+                    final double projected = rule.projectPrice(eps[s][t], close, startingPrice);
+                    if (!Double.isNaN(projected)) {
+                        final Recommendation recommendation = rule.recommend(projected, close);
+                        if (recommendation == Recommendation.BUY && shares[s] == 0 && cash[s] > 0 && close > 0) {
+                            shares[s] = cash[s] / close;
+                            cash[s] = 0;
+                            trades++;
+                        }
+                        else if (recommendation == Recommendation.SELL && shares[s] > 0) {
+                            cash[s] = shares[s] * close;
+                            shares[s] = 0;
+                            trades++;
+                        }
+                    }
+                    lastCloses[s] = close;
+                }
+                total += cash[s] + shares[s] * lastCloses[s];
+            }
+
+            equity[t] = total;
+            peak = Math.max(peak, total);
+            maxDrawdown = Math.max(maxDrawdown, (peak - total) / peak);
+        }
+
+        final double[] profits = new double[symbolCount];
+        for (int s = 0; s < symbolCount; s++) {
+            profits[s] = cash[s] + shares[s] * lastCloses[s] - initialCapital / symbolCount;
+        }
+        return new BacktestResult(initialCapital, equity, maxDrawdown, trades, profits, shares);
+    }
+}
@@ -0,0 +1,102 @@
+package use_cases.backtest;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import use_cases.text_analyze_stock.RecommendationRule;
+
+/**
+ * Backtests every combination of a grid of rule thresholds on a fork-join pool and ranks them.
+ *
+ * <p>The grid is the cross product of the wanted differences, the negative wanted differences and
+ * the Graham multipliers. Combinations are numbered and the range of numbers is split between
+ * tasks; every task backtests its combinations against the same {@link BacktestData}, which is
+ * only ever read, and writes each result into its own slot of one array.</p>
+ */
+public final class ParameterSweep {
+    /** Combinations backtested by one task before it stops splitting. */
+    private static final int EVALUATIONS_PER_TASK = 4;
+
+    private final ForkJoinPool pool;
+    private final Backtester backtester;
+
+    public ParameterSweep() {
+        this(ForkJoinPool.commonPool(), new Backtester());
+    }
+
+    public ParameterSweep(ForkJoinPool pool, Backtester backtester) {
+        this.pool = pool;
+        this.backtester = backtester;
+    }
+
+    /**
+     * Backtests every combination of the given thresholds.
+     * @param data the bars to replay, shared by every backtest
+     * @param wantedDifferences the wanted differences to try
+     * @param wantedDifferencesNegative the negative wanted differences to try
+     * @param grahamNumbers the Graham multipliers to try
+     * @param initialCapital the capital every backtest starts with
+     * @return the ranked results
+     */
+    public SweepResult run(BacktestData data, double[] wantedDifferences, double[] wantedDifferencesNegative,
+                           double[] grahamNumbers, double initialCapital) {
+        final RecommendationRule[] rules = new RecommendationRule[wantedDifferences.length
+                * wantedDifferencesNegative.length * grahamNumbers.length];
+        int index = 0;
+        for (double wantedDifference : wantedDifferences) {
+            for (double wantedDifferenceNegative : wantedDifferencesNegative) {
+                for (double grahamNumber : grahamNumbers) {
+                    rules[index] = new RecommendationRule(wantedDifference, wantedDifferenceNegative, grahamNumber);
+                    index++;
+                }
+            }
+        }
+
+        final SweepResult.Entry[] entries = new SweepResult.Entry[rules.length];
+        final long start = System.nanoTime();
+        pool.invoke(new SweepTask(data, rules, entries, initialCapital, 0, rules.length));
+        final long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(entries, Comparator.comparingDouble(SweepResult.Entry::getTotalReturn).reversed()
+                .thenComparingDouble(SweepResult.Entry::getMaxDrawdown));
+        return new SweepResult(Arrays.asList(entries), elapsed);
+    }
+
+    /**
+     * Backtests the rules in {@code [from, to)}, splitting the range while it is large.
+     */
+    private final class SweepTask extends RecursiveAction {
+        private final BacktestData data;
+        private final RecommendationRule[] rules;
+        private final SweepResult.Entry[] entries;
+        private final double initialCapital;
+        private final int from;
+        private final int to;
+
+        private SweepTask(BacktestData data, RecommendationRule[] rules, SweepResult.Entry[] entries,
+                          double initialCapital, int from, int to) {
+            this.data = data;
+            this.rules = rules;
+            this.entries = entries;
+            this.initialCapital = initialCapital;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= EVALUATIONS_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    entries[i] = new SweepResult.Entry(rules[i], backtester.run(data, rules[i], initialCapital));
+                }
+            }
+            else {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new SweepTask(data, rules, entries, initialCapital, from, middle),
+                        new SweepTask(data, rules, entries, initialCapital, middle, to));
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package use_cases.backtest;
+
+/**
+ * Input boundary for the parameter sweep use case.
+ */
+public interface SweepInputBoundary {
+
+    /**
+     * Executes the use case.
+     * @param inputData the symbols and dates to sweep over
+     */
+    void execute(SweepInputData inputData);
+}
@@ -0,0 +1,37 @@
+package use_cases.backtest;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Input data for sweeping the thresholds of the recommendation rule over a range of days.
+ */
+public class SweepInputData {
+    private final List<String> symbols;
+    private final Date startDate;
+    private final Date endDate;
+
+    /**
+     * Constructor.
+     * @param symbols the symbols to backtest on, or none for the whole symbol universe
+     * @param startDate the first day, inclusive
+     * @param endDate the last day, inclusive
+     */
+    public SweepInputData(List<String> symbols, Date startDate, Date endDate) {
+        this.symbols = List.copyOf(symbols);
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    public List<String> getSymbols() {
+        return symbols;
+    }
+
+    public Date getStartDate() {
+        return startDate;
+    }
+
+    public Date getEndDate() {
+        return endDate;
+    }
+}
@@ -0,0 +1,77 @@
+package use_cases.backtest;
+
+import java.util.List;
+
+import app.Constants;
+import use_cases.FundamentalsDataInterface;
+import use_cases.StockDataInterface;
+import use_cases.SymbolNameDataAccessInterface;
+
+/**
+ * Interactor of the parameter sweep use case: backtests a grid of thresholds around the ones in
+ * {@link Constants} on the cached bars of the symbols and ranks them.
+ *
+ * <p>Each threshold is tried at half, three quarters, once, one and a half and twice its value in
+ * {@link Constants}, so the grid has 125 rules. The bars are read from the cache only, so a sweep
+ * over the whole universe makes no API requests; symbols with nothing cached are replayed as
+ * never trading.</p>
+ */
+public class SweepInteractor implements SweepInputBoundary {
+    private static final double[] SCALES = {0.5, 0.75, 1, 1.5, 2};
+
+    private final SweepOutputBoundary presenter;
+    private final StockDataInterface dataAccess;
+    private final FundamentalsDataInterface fundamentals;
+    private final SymbolNameDataAccessInterface symbolsLoader;
+    private final ParameterSweep sweep;
+
+    public SweepInteractor(SweepOutputBoundary presenter, StockDataInterface dataAccess,
+                           FundamentalsDataInterface fundamentals, SymbolNameDataAccessInterface symbolsLoader) {
+        this(presenter, dataAccess, fundamentals, symbolsLoader, new ParameterSweep());
+    }
+
+    public SweepInteractor(SweepOutputBoundary presenter, StockDataInterface dataAccess,
+                           FundamentalsDataInterface fundamentals, SymbolNameDataAccessInterface symbolsLoader,
+                           ParameterSweep sweep) {
+        this.presenter = presenter;
+        this.dataAccess = dataAccess;
+        this.fundamentals = fundamentals;
+        this.symbolsLoader = symbolsLoader;
+        this.sweep = sweep;
+    }
+
+    @Override
+    public void execute(SweepInputData inputData) {
+        List<String> symbols = inputData.getSymbols();
+        if (symbols.isEmpty()) {
+            symbols = symbolsLoader.getSymbols();
+        }
+
+        if (inputData.getStartDate().after(inputData.getEndDate())) {
+            presenter.displaySweepError("The end date must be after the start date!");
+        }
+        else if (symbols.isEmpty()) {
+            presenter.displaySweepError("There are no symbols to backtest.");
+        }
+        else {
+            final BacktestData data = BacktestData.load(dataAccess, fundamentals, symbols,
+                    inputData.getStartDate(), inputData.getEndDate());
+            if (data.getLength() == 0) {
+                presenter.displaySweepError("No cached prices in the selected range.");
+            }
+            else {
+                presenter.displaySweep(data, sweep.run(data, scaled(Constants.WANTED_DIFFERENCE),
+                        scaled(Constants.WANTED_DIFFERENCE_NEGATIVE), scaled(Constants.GRAHAM_NUMBER),
+                        Constants.SWEEP_CAPITAL));
+            }
+        }
+    }
+
+    private static double[] scaled(double value) {
+        final double[] values = new double[SCALES.length];
+        for (int i = 0; i < SCALES.length; i++) {
+            values[i] = value * SCALES[i];
+        }
+        return values;
+    }
+}
@@ -0,0 +1,20 @@
+package use_cases.backtest;
+
+/**
+ * Output boundary for the parameter sweep use case.
+ */
+public interface SweepOutputBoundary {
+
+    /**
+     * Displays the ranked backtests of a sweep.
+     * @param data the bars that were replayed
+     * @param result the ranked results and the throughput
+     */
+    void displaySweep(BacktestData data, SweepResult result);
+
+    /**
+     * Displays why the sweep could not be run.
+     * @param message the reason
+     */
+    void displaySweepError(String message);
+}
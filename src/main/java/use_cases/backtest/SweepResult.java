@@ -0,0 +1,89 @@
+package use_cases.backtest;
+
+import java.util.List;
+
+import use_cases.text_analyze_stock.RecommendationRule;
+
+/**
+ * The outcome of a parameter sweep: every evaluated rule, best first, and how fast they were
+ * evaluated.
+ */
+public final class SweepResult {
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final List<Entry> entries;
+    private final long elapsedNanos;
+
+    /**
+     * Constructor.
+     * @param entries the evaluated rules, ranked
+     * @param elapsedNanos the wall-clock time the evaluations took
+     */
+    public SweepResult(List<Entry> entries, long elapsedNanos) {
+        this.entries = List.copyOf(entries);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * The evaluated rules, by total return from highest to lowest and, at equal return, by
+     * drawdown from lowest to highest.
+     * @return the ranked entries
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    public int getEvaluations() {
+        return entries.size();
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * The throughput of the sweep.
+     * @return the backtests run per second of wall-clock time
+     */
+    public double getEvaluationsPerSecond() {
+        return entries.size() * NANOS_PER_SECOND / Math.max(elapsedNanos, 1);
+    }
+
+    /**
+     * The backtest of one combination of parameters.
+     */
+    public static final class Entry {
+        private final RecommendationRule rule;
+        private final double totalReturn;
+        private final double maxDrawdown;
+        private final int trades;
+
+        /**
+         * Constructor.
+         * @param rule the rule that was backtested
+         * @param result the result of its backtest
+         */
+        public Entry(RecommendationRule rule, BacktestResult result) {
+            this.rule = rule;
+            this.totalReturn = result.getTotalReturn();
+            this.maxDrawdown = result.getMaxDrawdown();
+            this.trades = result.getTrades();
+        }
+
+        public RecommendationRule getRule() {
+            return rule;
+        }
+
+        public double getTotalReturn() {
+            return totalReturn;
+        }
+
+        public double getMaxDrawdown() {
+            return maxDrawdown;
+        }
+
+        public int getTrades() {
+            return trades;
+        }
+    }
+}
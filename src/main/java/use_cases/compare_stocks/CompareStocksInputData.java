@@ -1,19 +1,31 @@
 package use_cases.compare_stocks;
 
 import java.util.Date;
+import java.util.List;
 
 /**
  * Contains the data inputted into the compare stocks use case when
  * the use case is executed.
  */
 public class CompareStocksInputData {
-    private final String stock1Name;
-    private final String stock2Name;
+    private final List<String> symbols;
     private final Date beginDate;
     private final Date endDate;
 
     /**
      * Initialize the compare stock use case input data.
+     * @param symbols the symbols of the stocks to compare, in the order they are shown
+     * @param beginDate the beginning of the time period of comparison
+     * @param endDate the end of the time period of comparison
+     */
+    public CompareStocksInputData(List<String> symbols, Date beginDate, Date endDate) {
+        this.symbols = List.copyOf(symbols);
+        this.beginDate = beginDate;
+        this.endDate = endDate;
+    }
+
+    /**
+     * Initialize the compare stock use case input data for two stocks.
      * @param stock1Name name of the first stock to compare
      * @param stock2Name name of the second stock to compare
      * @param beginDate the beginning of the time period of comparison
@@ -24,18 +36,19 @@ public class CompareStocksInputData {
             String stock2Name,
             Date beginDate,
             Date endDate) {
-        this.stock1Name = stock1Name;
-        this.stock2Name = stock2Name;
-        this.beginDate = beginDate;
-        this.endDate = endDate;
+        this(List.of(stock1Name, stock2Name), beginDate, endDate);
+    }
+
+    public List<String> getSymbols() {
+        return symbols;
     }
 
     public String getFirstStockSymbol() {
-        return stock1Name;
+        return symbols.get(0);
     }
 
     public String getSecondStockSymbol() {
-        return stock2Name;
+        return symbols.get(1);
     }
 
     public Date getStartDate() {
@@ -1,82 +1,272 @@
 package use_cases.compare_stocks;
 
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
+import entities.AlignedSeries;
+import entities.FillPolicy;
+import entities.MetricValues;
+import entities.SeriesAligner;
 import entities.SharePrices;
 import interface_adapters.gateways.StockSymbolsLoader;
+import use_cases.DataLoaders;
 import use_cases.StockDataInterface;
+import use_cases.SymbolNameDataAccessInterface;
 
 /**
- * The use case to compare stocks using earnings per share, dividends, and
- * the growth percentage.
+ * The use case to compare any number of stocks by their growth, volume, price range and
+ * volatility over the same period.
+ *
+ * <p>The stocks are loaded at the same time on the {@link DataLoaders#shared() shared loader pool},
+ * so comparing a few stocks takes about as long as loading the slowest one. The loaded series are
+ * then aligned on their trading days, and all metrics are computed in a single pass over the
+ * aligned days. A stock whose load fails is compared without data rather than failing the whole
+ * comparison, and is reported in the output data and the summary.</p>
  */
 public class CompareStocksInteractor implements CompareStocksInputBoundary {
     private final CompareStocksOutputBoundary presenter;
     private final StockDataInterface dataAccess;
-    private final StockSymbolsLoader symbolsLoader;
+    private final SymbolNameDataAccessInterface symbolsLoader;
 
     public CompareStocksInteractor(CompareStocksOutputBoundary presenter, StockDataInterface dataAccess) {
+        this(presenter, dataAccess, new StockSymbolsLoader());
+    }
+
+    public CompareStocksInteractor(CompareStocksOutputBoundary presenter, StockDataInterface dataAccess,
+                                   SymbolNameDataAccessInterface symbolsLoader) {
         this.presenter = presenter;
         this.dataAccess = dataAccess;
-        symbolsLoader = new StockSymbolsLoader();
+        this.symbolsLoader = symbolsLoader;
     }
 
     @Override
     public void execute(CompareStocksInputData inputData) {
-        final String summary = getComparisonSummary(
-                inputData.getFirstStockSymbol(),
-                inputData.getSecondStockSymbol(),
-                inputData.getStartDate(),
-                inputData.getEndDate()
-                );
-        presenter.displayComparisonSummary(summary);
+        if (inputData.getStartDate().after(inputData.getEndDate())) {
+            presenter.displayComparisonSummary("The end date must be after the start date!");
+        }
+        else if (inputData.getSymbols().isEmpty()) {
+            presenter.displayComparisonSummary("Choose at least one stock to compare!");
+        }
+        else {
+            presenter.displayComparison(compare(inputData.getSymbols(),
+                    inputData.getStartDate(), inputData.getEndDate()));
+        }
     }
 
     public List<String> getStockSymbols() {
         return symbolsLoader.getSymbols();
     }
 
-    private String getComparisonSummary(String symbol1, String symbol2, Date start, Date end) {
-        final String result;
+    private CompareStocksOutputData compare(List<String> symbols, Date start, Date end) {
+        // a stock picked twice is loaded once
+        final Map<String, Future<StockData>> loads = new LinkedHashMap<>();
+        for (String symbol : symbols) {
+            loads.computeIfAbsent(symbol, key -> DataLoaders.shared().submit(() -> load(key, start, end)));
+        }
+        final List<String> distinctSymbols = new ArrayList<>(loads.keySet());
+        final List<StockData> loaded = new ArrayList<>();
+        final List<String> failedSymbols = new ArrayList<>();
+        for (Map.Entry<String, Future<StockData>> load : loads.entrySet()) {
+            final StockData stockData = await(load.getKey(), load.getValue());
+            if (stockData.failed) {
+                failedSymbols.add(load.getKey());
+            }
+            loaded.add(stockData);
+        }
 
-        if (start.after(end)) {
-            result = "The end date must be after the start date!";
+        final List<CompareStocksOutputData.StockMetrics> metrics = computeMetrics(distinctSymbols, loaded);
+        String summary = summarize(metrics, start, end);
+        if (!failedSymbols.isEmpty()) {
+            summary += "\nCould not load " + joinSentence(failedSymbols) + ".";
         }
-        else {
-            // Compare stock volumes
-            final Double stock1Volumes = dataAccess.getVolume(symbol1, end);
-            final Double stock2Volumes = dataAccess.getVolume(symbol2, end);
-            // Compare growth percentages
-            final SharePrices stock1SharePrices = dataAccess.getSharePrices(symbol1, start, end);
-            final SharePrices stock2SharePrices = dataAccess.getSharePrices(symbol2, start, end);
-
-            final String volumesSummary = String.format(
-                    "At the end of %s, the volume of %s is %.1f shares and the volume of %s is %.1f shares.",
-                    formattedDateString(end),
-                    symbol1, stock1Volumes,
-                    symbol2, stock2Volumes
-            );
-
-            final String growthSummary = String.format(
-                    "From %s to %s, %s changed from $%.1f per share to $%.1f per share and "
-                            +
-                            "%s changed from $%.1f per share to $%.1f per share.",
-                    formattedDateString(start), formattedDateString(end),
-                    symbol1, stock1SharePrices.getValue(start), stock1SharePrices.getValue(end),
-                    symbol2, stock2SharePrices.getValue(start), stock2SharePrices.getValue(end)
-            );
-
-            result = volumesSummary + "\n" + growthSummary;
+        return new CompareStocksOutputData(metrics, summary, failedSymbols);
+    }
+
+    private StockData load(String symbol, Date start, Date end) {
+        final SharePrices sharePrices = dataAccess.getSharePrices(symbol, start, end);
+        // the prices just cached the end date, so this does not go to the API again
+        final Double volume = dataAccess.getVolume(symbol, end);
+        return new StockData(sharePrices, volume, false);
+    }
+
+    private StockData await(String symbol, Future<StockData> load) {
+        StockData stockData = new StockData(null, Double.NaN, false);
+        try {
+            stockData = load.get();
         }
+        catch (InterruptedException exception) {
+            load.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+        catch (ExecutionException exception) {
+            // the stock is shown without data rather than failing the whole comparison
+            System.err.println("Error loading " + symbol + " to compare: " + exception.getCause());
+            stockData = new StockData(null, Double.NaN, true);
+        }
+        return stockData;
+    }
+
+    /**
+     * Aligns the closes, highs and lows of every stock on their trading days and computes the
+     * metrics of all stocks in one pass over the days.
+     */
+    private List<CompareStocksOutputData.StockMetrics> computeMetrics(List<String> symbols,
+                                                                       List<StockData> loaded) {
+        final int count = symbols.size();
+        // rows 0..count-1 are the closes, then the highs, then the lows
+        final List<MetricValues> series = new ArrayList<>();
+        for (StockData stockData : loaded) {
+            series.add(stockData.sharePrices);
+        }
+        for (StockData stockData : loaded) {
+            series.add(priceSeries(stockData.sharePrices, true));
+        }
+        for (StockData stockData : loaded) {
+            series.add(priceSeries(stockData.sharePrices, false));
+        }
+        final AlignedSeries aligned = SeriesAligner.align(series, FillPolicy.NAN);
+        final double[][] values = aligned.getValues();
+
+        final double[] first = filled(count, Double.NaN);
+        final double[] previous = filled(count, Double.NaN);
+        final double[] high = filled(count, Double.NaN);
+        final double[] low = filled(count, Double.NaN);
+        final int[] returns = new int[count];
+        final double[] meanReturn = new double[count];
+        final double[] squaredDeviations = new double[count];
+        for (int day = 0; day < aligned.getLength(); day++) {
+            for (int s = 0; s < count; s++) {
+                final double close = values[s][day];
+                if (!Double.isNaN(close)) {
+                    if (Double.isNaN(first[s])) {
+                        first[s] = close;
+                    }
+                    else {
+                        // Welford's update, so the volatility needs no second pass
+                        final double dailyReturn = close / previous[s] - 1;
+                        returns[s]++;
+                        final double delta = dailyReturn - meanReturn[s];
+                        meanReturn[s] += delta / returns[s];
+                        squaredDeviations[s] += delta * (dailyReturn - meanReturn[s]);
+                    }
+                    previous[s] = close;
+                }
+                high[s] = max(high[s], values[count + s][day]);
+                low[s] = min(low[s], values[2 * count + s][day]);
+            }
+        }
+
+        final List<CompareStocksOutputData.StockMetrics> metrics = new ArrayList<>();
+        for (int s = 0; s < count; s++) {
+            double volatility = Double.NaN;
+            if (returns[s] > 1) {
+                volatility = Math.sqrt(squaredDeviations[s] / (returns[s] - 1));
+            }
+            metrics.add(new CompareStocksOutputData.StockMetrics(symbols.get(s), first[s], previous[s],
+                    loaded.get(s).volume, high[s], low[s], volatility));
+        }
+        return metrics;
+    }
 
+    private static MetricValues priceSeries(SharePrices sharePrices, boolean highs) {
+        MetricValues prices = null;
+        if (sharePrices != null && highs) {
+            prices = new MetricValues(sharePrices.getHighPrices(), sharePrices.getDates());
+        }
+        else if (sharePrices != null) {
+            prices = new MetricValues(sharePrices.getLowPrices(), sharePrices.getDates());
+        }
+        return prices;
+    }
+
+    private static double[] filled(int length, double value) {
+        final double[] array = new double[length];
+        Arrays.fill(array, value);
+        return array;
+    }
+
+    /**
+     * The larger value, where NaN counts as unknown rather than winning.
+     */
+    private static double max(double current, double candidate) {
+        double result = current;
+        if (Double.isNaN(current) || candidate > current) {
+            result = candidate;
+        }
+        return result;
+    }
+
+    /**
+     * The smaller value, where NaN counts as unknown rather than winning.
+     */
+    private static double min(double current, double candidate) {
+        double result = current;
+        if (Double.isNaN(current) || candidate < current) {
+            result = candidate;
+        }
         return result;
     }
 
+    private String summarize(List<CompareStocksOutputData.StockMetrics> metrics, Date start, Date end) {
+        final List<String> volumes = new ArrayList<>();
+        final List<String> growths = new ArrayList<>();
+        for (CompareStocksOutputData.StockMetrics stock : metrics) {
+            volumes.add(String.format("the volume of %s is %.1f shares", stock.getSymbol(), stock.getVolume()));
+            growths.add(String.format("%s changed from $%.1f per share to $%.1f per share",
+                    stock.getSymbol(), stock.getFirstClose(), stock.getLastClose()));
+        }
+
+        final String volumesSummary = String.format("At the end of %s, %s.",
+                formattedDateString(end), joinSentence(volumes));
+        final String growthSummary = String.format("From %s to %s, %s.",
+                formattedDateString(start), formattedDateString(end), joinSentence(growths));
+        return volumesSummary + "\n" + growthSummary;
+    }
+
+    /**
+     * Joins clauses as "a, b and c".
+     */
+    private static String joinSentence(List<String> clauses) {
+        final String sentence;
+        if (clauses.size() <= 1) {
+            sentence = String.join("", clauses);
+        }
+        else {
+            sentence = String.join(", ", clauses.subList(0, clauses.size() - 1))
+                    + " and " + clauses.get(clauses.size() - 1);
+        }
+        return sentence;
+    }
+
     private String formattedDateString(Date date) {
         final String pattern = "dd/MM/yyyy";
         final SimpleDateFormat dateFormat = new SimpleDateFormat(pattern);
         return dateFormat.format(date);
     }
+
+    /**
+     * What was loaded for one stock.
+     */
+    private static final class StockData {
+        private final SharePrices sharePrices;
+        private final double volume;
+        private final boolean failed;
+
+        private StockData(SharePrices sharePrices, Double volume, boolean failed) {
+            this.sharePrices = sharePrices;
+            this.failed = failed;
+            double knownVolume = Double.NaN;
+            if (volume != null) {
+                knownVolume = volume;
+            }
+            this.volume = knownVolume;
+        }
+    }
 }
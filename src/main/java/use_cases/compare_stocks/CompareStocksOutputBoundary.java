@@ -14,4 +14,13 @@ public interface CompareStocksOutputBoundary {
      *                (can be null if the implementation supports it)
      */
     void displayComparisonSummary(String summary);
+
+    /**
+     * Displays the metrics of every compared stock. Shows only the summary unless overridden.
+     *
+     * @param outputData the metrics and their summary
+     */
+    default void displayComparison(CompareStocksOutputData outputData) {
+        displayComparisonSummary(outputData.getSummary());
+    }
 }
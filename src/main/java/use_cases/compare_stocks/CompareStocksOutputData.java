@@ -0,0 +1,116 @@
+package use_cases.compare_stocks;
+
+import java.util.List;
+
+/**
+ * The output data of the compare stocks use case: the metrics of every compared stock over the
+ * same trading days, a summary of them in words, and the stocks that could not be loaded.
+ */
+public class CompareStocksOutputData {
+    private final List<StockMetrics> metrics;
+    private final String summary;
+    private final List<String> failedSymbols;
+
+    /**
+     * Constructor for a comparison where every stock was loaded.
+     * @param metrics the metrics of every compared stock, in the order the stocks were given
+     * @param summary the comparison in words
+     */
+    public CompareStocksOutputData(List<StockMetrics> metrics, String summary) {
+        this(metrics, summary, List.of());
+    }
+
+    /**
+     * Constructor.
+     * @param metrics the metrics of every compared stock, in the order the stocks were given
+     * @param summary the comparison in words
+     * @param failedSymbols the stocks whose load failed, which have no data in the metrics
+     */
+    public CompareStocksOutputData(List<StockMetrics> metrics, String summary, List<String> failedSymbols) {
+        this.metrics = List.copyOf(metrics);
+        this.summary = summary;
+        this.failedSymbols = List.copyOf(failedSymbols);
+    }
+
+    public List<StockMetrics> getMetrics() {
+        return metrics;
+    }
+
+    public String getSummary() {
+        return summary;
+    }
+
+    public List<String> getFailedSymbols() {
+        return failedSymbols;
+    }
+
+    /**
+     * The metrics of one stock over the compared period. Prices a stock has no data for are NaN.
+     */
+    public static final class StockMetrics {
+        private final String symbol;
+        private final double firstClose;
+        private final double lastClose;
+        private final double volume;
+        private final double high;
+        private final double low;
+        private final double volatility;
+
+        /**
+         * Constructor.
+         * @param symbol the stock symbol
+         * @param firstClose the first close of the period
+         * @param lastClose the last close of the period
+         * @param volume the volume at the end of the period
+         * @param high the highest price of the period
+         * @param low the lowest price of the period
+         * @param volatility the standard deviation of the daily returns, as a fraction
+         */
+        public StockMetrics(String symbol, double firstClose, double lastClose, double volume,
+                            double high, double low, double volatility) {
+            this.symbol = symbol;
+            this.firstClose = firstClose;
+            this.lastClose = lastClose;
+            this.volume = volume;
+            this.high = high;
+            this.low = low;
+            this.volatility = volatility;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+
+        public double getFirstClose() {
+            return firstClose;
+        }
+
+        public double getLastClose() {
+            return lastClose;
+        }
+
+        /**
+         * The change from the first to the last close.
+         * @return the growth as a fraction, or NaN if a close is unknown
+         */
+        public double getGrowth() {
+            return lastClose / firstClose - 1;
+        }
+
+        public double getVolume() {
+            return volume;
+        }
+
+        public double getHigh() {
+            return high;
+        }
+
+        public double getLow() {
+            return low;
+        }
+
+        public double getVolatility() {
+            return volatility;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package use_cases.correlation;
+
+/**
+ * Input boundary for the correlation matrix use case.
+ */
+public interface CorrelationInputBoundary {
+
+    /**
+     * Executes the use case.
+     * @param correlationInputData input data for the use case.
+     */
+    void execute(CorrelationInputData correlationInputData);
+}
@@ -0,0 +1,47 @@
+package use_cases.correlation;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Input data for computing the correlation matrix of a set of stocks.
+ */
+public class CorrelationInputData {
+    private final List<String> symbols;
+    private final Date startDate;
+    private final Date endDate;
+
+    /**
+     * Constructor. Symbols are stripped, upper-cased, de-duplicated and sorted so that
+     * the same set of symbols always yields the same matrix layout.
+     * @param symbols the symbols to correlate, for example the whole symbol list or the favorites
+     * @param startDate the start of the range, inclusive
+     * @param endDate the end of the range, inclusive
+     */
+    public CorrelationInputData(Collection<String> symbols, Date startDate, Date endDate) {
+        final TreeSet<String> normalized = new TreeSet<>();
+        for (String symbol : symbols) {
+            final String cleaned = symbol.strip().toUpperCase();
+            if (!cleaned.isEmpty()) {
+                normalized.add(cleaned);
+            }
+        }
+        this.symbols = List.copyOf(normalized);
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    List<String> getSymbols() {
+        return symbols;
+    }
+
+    Date getStartDate() {
+        return startDate;
+    }
+
+    Date getEndDate() {
+        return endDate;
+    }
+}
@@ -0,0 +1,196 @@
+package use_cases.correlation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import entities.AlignedSeries;
+import entities.FillPolicy;
+import entities.SeriesAligner;
+import entities.SharePrices;
+import use_cases.DataLoaders;
+import use_cases.StockDataInterface;
+import use_cases.SymbolNameDataAccessInterface;
+
+/**
+ * Interactor of the correlation matrix use case. Aligns the daily returns of every
+ * requested symbol on the trading days they share, then computes the full covariance
+ * and correlation matrices. Results are cached by symbol set and date range.
+ *
+ * <p>The symbols are loaded at the same time on the {@link DataLoaders#shared() shared loader
+ * pool}, so a matrix of cached symbols is read in parallel and a missing range is requested only
+ * once per symbol. Given the symbol universe, a request without symbols correlates all of them.</p>
+ */
+public class CorrelationInteractor implements CorrelationInputBoundary {
+    private static final int CACHE_SIZE = 16;
+
+    private final CorrelationOutputBoundary correlationPresenter;
+    private final StockDataInterface stockDataAccessObject;
+    private final CovarianceMatrixCalculator calculator;
+    private final SymbolNameDataAccessInterface symbolsLoader;
+    private final Map<String, CorrelationOutputData> cache;
+
+    public CorrelationInteractor(CorrelationOutputBoundary correlationPresenter,
+                                 StockDataInterface stockDataAccessObject) {
+        this(correlationPresenter, stockDataAccessObject, new CovarianceMatrixCalculator());
+    }
+
+    public CorrelationInteractor(CorrelationOutputBoundary correlationPresenter,
+                                 StockDataInterface stockDataAccessObject,
+                                 CovarianceMatrixCalculator calculator) {
+        this(correlationPresenter, stockDataAccessObject, calculator, null);
+    }
+
+    /**
+     * Creates the interactor.
+     * @param correlationPresenter the presenter of the matrices
+     * @param stockDataAccessObject the stock data
+     * @param calculator the calculator of the matrices
+     * @param symbolsLoader the symbol universe, correlated when no symbols are given, or
+     *                      {@code null} if the symbols are always given
+     */
+    public CorrelationInteractor(CorrelationOutputBoundary correlationPresenter,
+                                 StockDataInterface stockDataAccessObject,
+                                 CovarianceMatrixCalculator calculator,
+                                 SymbolNameDataAccessInterface symbolsLoader) {
+        this.correlationPresenter = correlationPresenter;
+        this.stockDataAccessObject = stockDataAccessObject;
+        this.calculator = calculator;
+        this.symbolsLoader = symbolsLoader;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CorrelationOutputData> eldest) {
+                return size() > CACHE_SIZE;
+            }
+        });
+    }
+
+    /**
+     * Executes the use case.
+     *
+     * @param inputData input data for the use case.
+     */
+    @Override
+    public void execute(CorrelationInputData inputData) {
+        CorrelationInputData request = inputData;
+        if (request.getSymbols().isEmpty() && symbolsLoader != null) {
+            request = new CorrelationInputData(symbolsLoader.getSymbols(), inputData.getStartDate(),
+                    inputData.getEndDate());
+        }
+        final List<String> symbols = request.getSymbols();
+        final CorrelationOutputData outputData;
+
+        if (request.getStartDate().after(request.getEndDate())) {
+            outputData = failure(symbols, "The end date must be after the start date!");
+        }
+        else if (symbols.size() < 2) {
+            outputData = failure(symbols, "At least two stocks are needed to compute a correlation.");
+        }
+        else {
+            final String key = cacheKey(request);
+            CorrelationOutputData cached = cache.get(key);
+            if (cached == null) {
+                cached = compute(symbols, request.getStartDate(), request.getEndDate());
+                if (cached.getError() == null) {
+                    cache.put(key, cached);
+                }
+            }
+            outputData = cached;
+        }
+
+        correlationPresenter.displayCorrelation(outputData);
+    }
+
+    private CorrelationOutputData compute(List<String> symbols, Date start, Date end) {
+        final List<String> failedSymbols = new ArrayList<>();
+        final List<SharePrices> sharePrices = load(symbols, start, end, failedSymbols);
+        final CorrelationOutputData outputData;
+        if (Thread.currentThread().isInterrupted()) {
+            outputData = failure(symbols, "The correlation was cancelled.");
+        }
+        else if (!failedSymbols.isEmpty()) {
+            outputData = failure(symbols, "Could not load " + String.join(", ", failedSymbols) + ".");
+        }
+        else {
+            outputData = correlate(symbols, alignedReturns(symbols, sharePrices));
+        }
+        return outputData;
+    }
+
+    private CorrelationOutputData correlate(List<String> symbols, double[][] returns) {
+        final CorrelationOutputData outputData;
+        if (returns[0].length < 2) {
+            outputData = failure(symbols, "Not enough common trading days in the selected range.");
+        }
+        else {
+            final double[][] covariance = calculator.covariance(returns);
+            final double[][] correlation = calculator.correlation(covariance);
+            outputData = new CorrelationOutputData(symbols, correlation, covariance, returns[0].length, null);
+        }
+        return outputData;
+    }
+
+    /**
+     * Loads the share prices of every symbol at the same time. A symbol whose load fails is
+     * added to {@code failedSymbols}; if the thread is interrupted, the loads still running are
+     * cancelled.
+     */
+    private List<SharePrices> load(List<String> symbols, Date start, Date end, List<String> failedSymbols) {
+        final List<Future<SharePrices>> loads = new ArrayList<>();
+        for (String symbol : symbols) {
+            loads.add(DataLoaders.shared().submit(() -> stockDataAccessObject.getSharePrices(symbol, start, end)));
+        }
+        final List<SharePrices> sharePrices = new ArrayList<>();
+        for (int i = 0; i < loads.size() && !Thread.currentThread().isInterrupted(); i++) {
+            SharePrices loaded = null;
+            try {
+                loaded = loads.get(i).get();
+            }
+            catch (InterruptedException exception) {
+                for (Future<SharePrices> load : loads) {
+                    load.cancel(true);
+                }
+                Thread.currentThread().interrupt();
+            }
+            catch (ExecutionException exception) {
+                System.err.println("Error loading " + symbols.get(i) + " to correlate: " + exception.getCause());
+                failedSymbols.add(symbols.get(i));
+            }
+            sharePrices.add(loaded);
+        }
+        return sharePrices;
+    }
+
+    /**
+     * Builds one row of daily returns per symbol, keeping only the days on which every
+     * symbol has a closing price.
+     */
+    private double[][] alignedReturns(List<String> symbols, List<SharePrices> sharePrices) {
+        final AlignedSeries closes = SeriesAligner.align(sharePrices, FillPolicy.DROP);
+
+        final int observations = Math.max(closes.getLength() - 1, 0);
+        final double[][] returns = new double[symbols.size()][observations];
+        for (int i = 0; i < symbols.size(); i++) {
+            final double[] row = closes.getSeries(i);
+            for (int t = 0; t < observations; t++) {
+                returns[i][t] = row[t + 1] / row[t] - 1;
+            }
+        }
+        return returns;
+    }
+
+    private static String cacheKey(CorrelationInputData inputData) {
+        return String.join(",", inputData.getSymbols())
+                + "|" + SeriesAligner.toEpochDay(inputData.getStartDate())
+                + "|" + SeriesAligner.toEpochDay(inputData.getEndDate());
+    }
+
+    private static CorrelationOutputData failure(List<String> symbols, String error) {
+        return new CorrelationOutputData(symbols, new double[0][0], new double[0][0], 0, error);
+    }
+}
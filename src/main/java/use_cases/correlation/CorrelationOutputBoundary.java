@@ -0,0 +1,12 @@
+package use_cases.correlation;
+
+/**
+ * Output boundary for the correlation matrix use case.
+ */
+public interface CorrelationOutputBoundary {
+    /**
+     * Display the correlation and covariance matrices of a set of stocks.
+     * @param outputData the output data
+     */
+    void displayCorrelation(CorrelationOutputData outputData);
+}
@@ -0,0 +1,52 @@
+package use_cases.correlation;
+
+import java.util.List;
+
+/**
+ * Output data for the correlation matrix use case. Row and column {@code i} of both
+ * matrices belong to {@code getSymbols().get(i)}.
+ */
+public class CorrelationOutputData {
+    private final List<String> symbols;
+    private final double[][] correlation;
+    private final double[][] covariance;
+    private final int observations;
+    private final String error;
+
+    public CorrelationOutputData(List<String> symbols, double[][] correlation, double[][] covariance,
+                                 int observations, String error) {
+        this.symbols = symbols;
+        this.correlation = correlation;
+        this.covariance = covariance;
+        this.observations = observations;
+        this.error = error;
+    }
+
+    public List<String> getSymbols() {
+        return symbols;
+    }
+
+    public double[][] getCorrelation() {
+        return correlation;
+    }
+
+    public double[][] getCovariance() {
+        return covariance;
+    }
+
+    /**
+     * The number of daily returns every symbol had in common.
+     * @return number of aligned observations
+     */
+    public int getObservations() {
+        return observations;
+    }
+
+    /**
+     * A message describing why no matrix could be computed, or null on success.
+     * @return the error message
+     */
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,183 @@
+package use_cases.correlation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes covariance and correlation matrices of return series on a fork-join pool.
+ *
+ * <p>Each return series is one row of a row-major matrix. The upper triangle of the
+ * covariance matrix is split into square tiles of symbols, and every tile walks the
+ * time axis in blocks so that only a handful of rows are streamed through the cache
+ * at any moment. Tiles never write to the same cells, so no locking is needed.</p>
+ */
+public class CovarianceMatrixCalculator {
+    private static final int TILE_SIZE = 32;
+    private static final int TIME_BLOCK = 1024;
+    private static final int ROWS_PER_TASK = 16;
+
+    private final ForkJoinPool pool;
+
+    public CovarianceMatrixCalculator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public CovarianceMatrixCalculator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Computes the sample covariance matrix of the given series.
+     * @param returns one row per symbol, every row with the same number of observations (at least 2)
+     * @return a symmetric n by n covariance matrix
+     */
+    public double[][] covariance(double[][] returns) {
+        final int symbolCount = returns.length;
+        final double[][] covariance = new double[symbolCount][symbolCount];
+        if (symbolCount > 0) {
+            final double[][] centered = new double[symbolCount][];
+            pool.invoke(new CenterTask(returns, centered, 0, symbolCount));
+
+            final List<int[]> tiles = new ArrayList<>();
+            for (int rowStart = 0; rowStart < symbolCount; rowStart += TILE_SIZE) {
+                for (int colStart = rowStart; colStart < symbolCount; colStart += TILE_SIZE) {
+                    tiles.add(new int[] {rowStart, colStart});
+                }
+            }
+            pool.invoke(new TileTask(centered, covariance, tiles, 0, tiles.size()));
+        }
+        return covariance;
+    }
+
+    /**
+     * Normalizes a covariance matrix into a correlation matrix. A series with no variance
+     * has an undefined correlation, reported as {@link Double#NaN}.
+     * @param covariance a symmetric covariance matrix
+     * @return the correlation matrix
+     */
+    public double[][] correlation(double[][] covariance) {
+        final int symbolCount = covariance.length;
+        final double[] deviations = new double[symbolCount];
+        for (int i = 0; i < symbolCount; i++) {
+            deviations[i] = Math.sqrt(covariance[i][i]);
+        }
+        final double[][] correlation = new double[symbolCount][symbolCount];
+        for (int i = 0; i < symbolCount; i++) {
+            for (int j = i; j < symbolCount; j++) {
+                double value = Double.NaN;
+                if (deviations[i] > 0 && deviations[j] > 0) {
+                    value = covariance[i][j] / (deviations[i] * deviations[j]);
+                }
+                correlation[i][j] = value;
+                correlation[j][i] = value;
+            }
+        }
+        return correlation;
+    }
+
+    /**
+     * Subtracts the mean of every row, splitting the rows across the pool.
+     */
+    private static final class CenterTask extends RecursiveAction {
+        private final double[][] source;
+        private final double[][] target;
+        private final int from;
+        private final int to;
+
+        CenterTask(double[][] source, double[][] target, int from, int to) {
+            this.source = source;
+            this.target = target;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= ROWS_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    final double[] row = source[i];
+                    double sum = 0;
+                    for (double value : row) {
+                        sum += value;
+                    }
+                    final double mean = sum / row.length;
+                    final double[] centeredRow = new double[row.length];
+                    for (int k = 0; k < row.length; k++) {
+                        centeredRow[k] = row[k] - mean;
+                    }
+                    target[i] = centeredRow;
+                }
+            }
+            else {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new CenterTask(source, target, from, middle),
+                        new CenterTask(source, target, middle, to));
+            }
+        }
+    }
+
+    /**
+     * Computes a range of covariance tiles, splitting the range in half until a single tile is left.
+     */
+    private static final class TileTask extends RecursiveAction {
+        private final double[][] centered;
+        private final double[][] covariance;
+        private final List<int[]> tiles;
+        private final int from;
+        private final int to;
+
+        TileTask(double[][] centered, double[][] covariance, List<int[]> tiles, int from, int to) {
+            this.centered = centered;
+            this.covariance = covariance;
+            this.tiles = tiles;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                final int[] tile = tiles.get(from);
+                computeTile(tile[0], tile[1]);
+            }
+            else {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new TileTask(centered, covariance, tiles, from, middle),
+                        new TileTask(centered, covariance, tiles, middle, to));
+            }
+        }
+
+        private void computeTile(int rowStart, int colStart) {
+            final int rowEnd = Math.min(rowStart + TILE_SIZE, centered.length);
+            final int colEnd = Math.min(colStart + TILE_SIZE, centered.length);
+            final int observations = centered[0].length;
+            final double[][] sums = new double[rowEnd - rowStart][colEnd - colStart];
+
+            for (int timeStart = 0; timeStart < observations; timeStart += TIME_BLOCK) {
+                final int timeEnd = Math.min(timeStart + TIME_BLOCK, observations);
+                for (int i = rowStart; i < rowEnd; i++) {
+                    final double[] rowI = centered[i];
+                    for (int j = Math.max(i, colStart); j < colEnd; j++) {
+                        final double[] rowJ = centered[j];
+                        double dot = 0;
+                        for (int k = timeStart; k < timeEnd; k++) {
+                            dot += rowI[k] * rowJ[k];
+                        }
+                        sums[i - rowStart][j - colStart] += dot;
+                    }
+                }
+            }
+
+            final double denominator = observations - 1;
+            for (int i = rowStart; i < rowEnd; i++) {
+                for (int j = Math.max(i, colStart); j < colEnd; j++) {
+                    final double value = sums[i - rowStart][j - colStart] / denominator;
+                    covariance[i][j] = value;
+                    covariance[j][i] = value;
+                }
+            }
+        }
+    }
+}
@@ -1,10 +1,5 @@
 package use_cases.favorites;
 
-import java.util.HashSet;
-import java.util.Set;
-
-import frameworks.FavoriteStockData;
-
 /**
  * Implements the business logic for favorite stock operations.
  * This interactor manages the favorite status of stocks and communicates
@@ -15,61 +10,56 @@ public class FavoriteStockInteractor implements FavoriteStockInputBoundary {
     /** Presenter for handling output operations. */
     private final FavoriteStockOutputBoundary favoriteStockPresenter;
 
-    /** File storage for persisting favorite stocks. */
-    private final FavoriteStockData fileStorage;
-
-    /** In-memory storage of favorited stock symbols. */
-    private final Set<String> favoritedStocks;
+    /** The favorites shared by every view. */
+    private final FavoritesService favoritesService;
 
     /**
-     * Constructs a new FavoriteStockInteractor.
+     * Constructs a new FavoriteStockInteractor over the favorites of this process.
      *
      * @param favoriteStockPresenter The presenter responsible for handling output operations
      * @throws IllegalArgumentException if favoriteStockPresenter is null
      */
     public FavoriteStockInteractor(FavoriteStockOutputBoundary favoriteStockPresenter) {
+        this(favoriteStockPresenter, FavoritesService.getInstance());
+    }
+
+    /**
+     * Constructs a new FavoriteStockInteractor. The presenter is subscribed to the service, so it
+     * also hears about favorites toggled by other views.
+     *
+     * @param favoriteStockPresenter The presenter responsible for handling output operations
+     * @param favoritesService The favorites to work on
+     * @throws IllegalArgumentException if favoriteStockPresenter is null
+     */
+    public FavoriteStockInteractor(FavoriteStockOutputBoundary favoriteStockPresenter,
+                                   FavoritesService favoritesService) {
         if (favoriteStockPresenter == null) {
             throw new IllegalArgumentException("Favorite stock presenter cannot be null");
         }
         this.favoriteStockPresenter = favoriteStockPresenter;
-        this.fileStorage = new FavoriteStockData();
-        this.favoritedStocks = new HashSet<>(fileStorage.loadFavoriteStocks());
+        this.favoritesService = favoritesService;
+        favoritesService.subscribe(favoriteStockPresenter);
     }
 
     /**
-     * Toggles the favorite status of a stock and notifies the presenter of the change.
+     * Toggles the favorite status of a stock. The service notifies the presenter of the change.
      * If the stock is not in favorites, it will be added.
      * If the stock is already in favorites, it will be removed.
-     * Changes are persisted to file storage.
+     * Changes are persisted to file storage in the background.
      *
      * @param inputData The input data containing the stock symbol to toggle
      */
     @Override
     public void toggleFavorite(FavoriteStockInputData inputData) {
-        final String symbol = inputData.getStockSymbol();
-        final boolean isFavorited = !favoritedStocks.contains(symbol);
-
-        if (isFavorited) {
-            favoritedStocks.add(symbol);
-            fileStorage.addFavoriteStock(symbol);
-        }
-        else {
-            favoritedStocks.remove(symbol);
-            fileStorage.removeFavoriteStock(symbol);
-        }
-
-        favoriteStockPresenter.presentFavoriteToggled(symbol, isFavorited);
+        favoritesService.toggle(inputData.getStockSymbol());
     }
 
     /**
-     * Retrieves all favorited stocks from file storage and presents them through the output boundary.
-     * Creates a defensive copy of the favorited stocks set to prevent external modification.
+     * Presents all favorited stocks through the output boundary. They are kept in memory by the
+     * service, so this does not touch the disk.
      */
     @Override
     public void getFavorites() {
-        // Refresh from file storage in case of external changes
-        favoritedStocks.clear();
-        favoritedStocks.addAll(fileStorage.loadFavoriteStocks());
-        favoriteStockPresenter.presentFavorites(new HashSet<>(favoritedStocks));
+        favoriteStockPresenter.presentFavorites(favoritesService.getFavorites());
     }
 }
@@ -0,0 +1,103 @@
+package use_cases.favorites;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import frameworks.FavoriteStockData;
+
+/**
+ * The favorite stocks of the application, shared by every view.
+ *
+ * <p>There is one service per process, from {@link #getInstance()}; tests and other callers can
+ * also construct one over their own storage and inject it. The favorites are read from storage
+ * once and kept in a concurrent set, so checking a stock never waits on a lock or the disk.
+ * Changes go to every subscribed output boundary, whichever view made them.</p>
+ */
+public final class FavoritesService {
+    private static FavoritesService instance;
+
+    private final FavoriteStockData storage;
+    private final Set<String> favorites = ConcurrentHashMap.newKeySet();
+    private final List<FavoriteStockOutputBoundary> subscribers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a service over the given storage.
+     * @param storage where the favorites are read from and written to
+     */
+    public FavoritesService(FavoriteStockData storage) {
+        this.storage = storage;
+        favorites.addAll(storage.loadFavoriteStocks());
+    }
+
+    /**
+     * Returns the service of this process, over the default favorites file.
+     * @return the shared service
+     */
+    public static synchronized FavoritesService getInstance() {
+        if (instance == null) {
+            instance = new FavoritesService(new FavoriteStockData());
+        }
+        return instance;
+    }
+
+    /**
+     * Registers an output boundary to be told about every change of a favorite.
+     * @param subscriber the output boundary
+     */
+    public void subscribe(FavoriteStockOutputBoundary subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Stops telling an output boundary about changes.
+     * @param subscriber the output boundary
+     */
+    public void unsubscribe(FavoriteStockOutputBoundary subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    /**
+     * Adds the stock to the favorites if it is not one, or removes it, and tells the subscribers.
+     * @param symbol the stock symbol
+     * @return whether the stock is now a favorite
+     */
+    public boolean toggle(String symbol) {
+        final boolean isFavorited;
+        // keeps the set and the storage changing in the same order
+        synchronized (this) {
+            isFavorited = favorites.add(symbol);
+            if (isFavorited) {
+                storage.addFavoriteStock(symbol);
+            }
+            else {
+                favorites.remove(symbol);
+                storage.removeFavoriteStock(symbol);
+            }
+        }
+        for (FavoriteStockOutputBoundary subscriber : subscribers) {
+            subscriber.presentFavoriteToggled(symbol, isFavorited);
+        }
+        return isFavorited;
+    }
+
+    /**
+     * Checks whether a stock is a favorite.
+     * @param symbol the stock symbol
+     * @return true if the stock is a favorite
+     */
+    public boolean isFavorite(String symbol) {
+        return favorites.contains(symbol);
+    }
+
+    /**
+     * Returns the favorites.
+     * @return a read-only copy of the favorites
+     */
+    public Set<String> getFavorites() {
+        return Collections.unmodifiableSet(new HashSet<>(favorites));
+    }
+}
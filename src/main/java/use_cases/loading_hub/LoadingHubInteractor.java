@@ -1,5 +1,10 @@
 package use_cases.loading_hub;
 
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+
 import app.Constants;
 import entities.MetricValues;
 import entities.SharePrices;
@@ -8,8 +13,16 @@ import use_cases.SymbolNameDataAccessInterface;
 
 /**
  * Interactor of the use case. [Logic of the Use Case]
+ *
+ * <p>The range is loaded a chunk of days at a time. The days already in the local cache are
+ * presented first as a partial result; after every chunk, progress and a partial result made of
+ * the loaded days followed by the cached days after them are presented, so the chart grows as data
+ * arrives. A load whose thread has been interrupted stops at the next chunk boundary without
+ * presenting a result.</p>
  */
 public class LoadingHubInteractor implements LoadingHubInputBoundary {
+    private static final int CHUNK_DAYS = 7;
+
     private final LoadingHubOutputBoundary loadingHubPresenter;
     private final StockDataInterface loadingHubAccessObject;
     private final SymbolNameDataAccessInterface symbolNameDataAccess;
@@ -28,26 +41,170 @@ public class LoadingHubInteractor implements LoadingHubInputBoundary {
      */
     @Override
     public void execute(LoadingHubInputData loadingHubInputData) {
-        final String companyName = symbolNameDataAccess.getCompany(loadingHubInputData.getStockSymbol());
-
-        final SharePrices sharePrices = loadingHubAccessObject.getSharePrices(loadingHubInputData.getStockSymbol(),
-                loadingHubInputData.getStartDate(),
-                loadingHubInputData.getEndDate());
-        final MetricValues volumes = loadingHubAccessObject.getVolumes(loadingHubInputData.getStockSymbol(),
-                loadingHubInputData.getStartDate(),
-                loadingHubInputData.getEndDate());
-        final MetricValues afterHours = loadingHubAccessObject.getAfterHours(loadingHubInputData.getStockSymbol(),
-                loadingHubInputData.getStartDate(),
-                loadingHubInputData.getEndDate());
-        final MetricValues premarkets = loadingHubAccessObject.getPremarkets(loadingHubInputData.getStockSymbol(),
-                loadingHubInputData.getStartDate(),
-                loadingHubInputData.getEndDate());
-
-        Constants.HALF_MONTH += 1;
-
-        // output data
-        final LoadingHubOutputData outputData = new LoadingHubOutputData(loadingHubInputData.getStockSymbol(),
-                companyName, sharePrices, volumes, afterHours, premarkets);
-        loadingHubPresenter.displayResult(outputData);
+        final String stockSymbol = loadingHubInputData.getStockSymbol();
+        final Date startDate = loadingHubInputData.getStartDate();
+        final Date endDate = loadingHubInputData.getEndDate();
+        final String companyName = symbolNameDataAccess.getCompany(stockSymbol);
+
+        final LoadingHubOutputData outputData;
+        if (startDate == null || endDate == null || startDate.after(endDate)) {
+            // the data access object reports an invalid range, keep its answer
+            outputData = new LoadingHubOutputData(stockSymbol, companyName,
+                    loadingHubAccessObject.getSharePrices(stockSymbol, startDate, endDate),
+                    loadingHubAccessObject.getVolumes(stockSymbol, startDate, endDate),
+                    loadingHubAccessObject.getAfterHours(stockSymbol, startDate, endDate),
+                    loadingHubAccessObject.getPremarkets(stockSymbol, startDate, endDate));
+        }
+        else {
+            outputData = loadInChunks(stockSymbol, companyName, startDate, endDate);
+        }
+
+        if (outputData != null) {
+            Constants.HALF_MONTH += 1;
+            loadingHubPresenter.displayResult(outputData);
+        }
+    }
+
+    /**
+     * Loads the range one chunk at a time.
+     * @return the combined data, or null if the load was interrupted
+     */
+    private LoadingHubOutputData loadInChunks(String stockSymbol, String companyName, Date startDate, Date endDate) {
+        final int totalDays = countDays(startDate, endDate);
+        final List<Date> priceDates = new ArrayList<>();
+        final List<Double> openPrices = new ArrayList<>();
+        final List<Double> closePrices = new ArrayList<>();
+        final List<Double> highPrices = new ArrayList<>();
+        final List<Double> lowPrices = new ArrayList<>();
+        final Series volumes = new Series();
+        final Series afterHours = new Series();
+        final Series premarkets = new Series();
+
+        final SharePrices cachedPrices = loadingHubAccessObject.getCachedSharePrices(stockSymbol, startDate, endDate);
+        if (cachedPrices != null && !cachedPrices.getDates().isEmpty()) {
+            loadingHubPresenter.displayPartialResult(new LoadingHubOutputData(stockSymbol, companyName,
+                    cachedPrices, volumes.toMetricValues(), afterHours.toMetricValues(), premarkets.toMetricValues()));
+        }
+
+        final Calendar calendar = startOfDay(startDate);
+        int completedDays = 0;
+        boolean interrupted = false;
+        while (!interrupted && completedDays < totalDays) {
+            final Date chunkStart = calendar.getTime();
+            calendar.add(Calendar.DATE, CHUNK_DAYS - 1);
+            Date chunkEnd = calendar.getTime();
+            if (chunkEnd.after(endDate)) {
+                chunkEnd = endDate;
+            }
+
+            final SharePrices chunkPrices = loadingHubAccessObject.getSharePrices(stockSymbol, chunkStart, chunkEnd);
+            priceDates.addAll(chunkPrices.getDates());
+            openPrices.addAll(chunkPrices.getOpenPrices());
+            closePrices.addAll(chunkPrices.getClosePrices());
+            highPrices.addAll(chunkPrices.getHighPrices());
+            lowPrices.addAll(chunkPrices.getLowPrices());
+            volumes.append(loadingHubAccessObject.getVolumes(stockSymbol, chunkStart, chunkEnd));
+            afterHours.append(loadingHubAccessObject.getAfterHours(stockSymbol, chunkStart, chunkEnd));
+            premarkets.append(loadingHubAccessObject.getPremarkets(stockSymbol, chunkStart, chunkEnd));
+
+            completedDays = Math.min(completedDays + CHUNK_DAYS, totalDays);
+            calendar.add(Calendar.DATE, 1);
+            interrupted = Thread.currentThread().isInterrupted();
+            if (!interrupted) {
+                loadingHubPresenter.displayProgress(completedDays, totalDays);
+                if (completedDays < totalDays) {
+                    final SharePrices loadedPrices = new SharePrices(priceDates, openPrices, closePrices,
+                            highPrices, lowPrices);
+                    final SharePrices partialPrices = withCachedAfter(loadedPrices, cachedPrices, chunkEnd);
+                    loadingHubPresenter.displayPartialResult(new LoadingHubOutputData(stockSymbol, companyName,
+                            partialPrices, volumes.toMetricValues(), afterHours.toMetricValues(),
+                            premarkets.toMetricValues()));
+                }
+            }
+        }
+
+        LoadingHubOutputData outputData = null;
+        if (!interrupted) {
+            final SharePrices sharePrices = new SharePrices(priceDates, openPrices, closePrices, highPrices,
+                    lowPrices);
+            outputData = new LoadingHubOutputData(stockSymbol, companyName, sharePrices,
+                    volumes.toMetricValues(), afterHours.toMetricValues(), premarkets.toMetricValues());
+        }
+        return outputData;
+    }
+
+    /**
+     * Copies the loaded prices followed by the cached days that come after them, so a partial
+     * result never shows less than the cache already had.
+     */
+    private static SharePrices withCachedAfter(SharePrices loadedPrices, SharePrices cachedPrices,
+                                               Date loadedUntil) {
+        final SharePrices result;
+        if (cachedPrices == null) {
+            result = join(loadedPrices, loadedPrices, loadedPrices.getDates().size());
+        }
+        else {
+            int firstAfter = 0;
+            while (firstAfter < cachedPrices.getDates().size()
+                    && !cachedPrices.getDates().get(firstAfter).after(loadedUntil)) {
+                firstAfter++;
+            }
+            result = join(loadedPrices, cachedPrices, firstAfter);
+        }
+        return result;
+    }
+
+    /**
+     * Copies all days of {@code head} followed by the days of {@code tail} from {@code tailFrom} on.
+     */
+    private static SharePrices join(SharePrices head, SharePrices tail, int tailFrom) {
+        return new SharePrices(join(head.getDates(), tail.getDates(), tailFrom),
+                join(head.getOpenPrices(), tail.getOpenPrices(), tailFrom),
+                join(head.getClosePrices(), tail.getClosePrices(), tailFrom),
+                join(head.getHighPrices(), tail.getHighPrices(), tailFrom),
+                join(head.getLowPrices(), tail.getLowPrices(), tailFrom));
+    }
+
+    private static <T> List<T> join(List<T> head, List<T> tail, int tailFrom) {
+        final List<T> joined = new ArrayList<>(head);
+        joined.addAll(tail.subList(tailFrom, tail.size()));
+        return joined;
+    }
+
+    private static int countDays(Date startDate, Date endDate) {
+        final Calendar calendar = startOfDay(startDate);
+        int days = 0;
+        while (!calendar.getTime().after(endDate)) {
+            days++;
+            calendar.add(Calendar.DATE, 1);
+        }
+        return days;
+    }
+
+    private static Calendar startOfDay(Date date) {
+        final Calendar calendar = Calendar.getInstance();
+        calendar.setTime(date);
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MILLISECOND, 0);
+        return calendar;
+    }
+
+    /**
+     * Values and dates of one metric, collected chunk by chunk.
+     */
+    private static final class Series {
+        private final List<Double> values = new ArrayList<>();
+        private final List<Date> dates = new ArrayList<>();
+
+        void append(MetricValues chunk) {
+            values.addAll(chunk.getValues());
+            dates.addAll(chunk.getDates());
+        }
+
+        MetricValues toMetricValues() {
+            return new MetricValues(values, dates);
+        }
     }
 }
@@ -9,4 +9,22 @@ public interface LoadingHubOutputBoundary {
      * @param outputData the output data
      */
     void displayResult(LoadingHubOutputData outputData);
+
+    /**
+     * Reports how far a load has progressed. Called after every chunk of days has been loaded.
+     * @param completedDays the number of days loaded so far
+     * @param totalDays the number of days in the requested range
+     */
+    default void displayProgress(int completedDays, int totalDays) {
+        // Presenters that do not show progress ignore it
+    }
+
+    /**
+     * Shows the data loaded so far while the rest of the range is still loading. Called with
+     * the cached days first and again after every chunk, each time with everything known so far.
+     * @param partialData the share prices loaded so far; the other metrics may be incomplete
+     */
+    default void displayPartialResult(LoadingHubOutputData partialData) {
+        // Presenters that only show the final result ignore it
+    }
 }
@@ -0,0 +1,29 @@
+package use_cases.search;
+
+/**
+ * Remembers which symbols contained the last query, so that the next query can narrow them down
+ * instead of filtering the index postings again. While the user types, every query extends the
+ * previous one, and anything containing the longer query contains the shorter one too.
+ */
+final class Narrowing {
+    private String input = "";
+    private int[] positions;
+
+    /**
+     * The positions of the symbols containing the last query, if the input contains it.
+     * @param newInput the query about to be searched
+     * @return the sorted candidate positions, or {@code null} if they cannot narrow this query
+     */
+    synchronized int[] candidatesFor(String newInput) {
+        int[] result = null;
+        if (positions != null && !input.isEmpty() && newInput.contains(input)) {
+            result = positions;
+        }
+        return result;
+    }
+
+    synchronized void remember(String newInput, int[] newPositions) {
+        this.input = newInput;
+        this.positions = newPositions;
+    }
+}
@@ -0,0 +1,31 @@
+package use_cases.search;
+
+import java.util.Arrays;
+
+/**
+ * A growable list of ints, used while building the search index. {@link #add} keeps positions
+ * listed once per key by ignoring the position that was added last; {@link #append} always adds.
+ */
+final class PostingList {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] positions = new int[INITIAL_CAPACITY];
+    private int size;
+
+    void add(int position) {
+        if (size == 0 || positions[size - 1] != position) {
+            append(position);
+        }
+    }
+
+    void append(int value) {
+        if (size == positions.length) {
+            positions = Arrays.copyOf(positions, size * 2);
+        }
+        positions[size++] = value;
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(positions, size);
+    }
+}
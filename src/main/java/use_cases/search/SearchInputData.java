@@ -1,16 +1,28 @@
 package use_cases.search;
 
+import app.Constants;
+
 /**
  * Input data for searching stocks.
  */
 public class SearchInputData {
     private final String input;
+    private final int limit;
 
     public SearchInputData(String typed_string) {
+        this(typed_string, Constants.MAX_SEARCH_RESULTS);
+    }
+
+    public SearchInputData(String typed_string, int limit) {
         this.input = typed_string;
+        this.limit = limit;
     }
 
     String getInput() {
         return input;
     }
+
+    int getLimit() {
+        return limit;
+    }
 }
@@ -0,0 +1,366 @@
+package use_cases.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable search index over a list of stock symbols and their company names.
+ *
+ * <p>Results are ranked in tiers, best first:</p>
+ * <ol>
+ *     <li>the symbol is the query,</li>
+ *     <li>the symbol starts with the query,</li>
+ *     <li>the symbol contains the query, or the query contains the symbol,</li>
+ *     <li>a word of the company name starts with the query,</li>
+ *     <li>the symbol shares at least one character with the query.</li>
+ * </ol>
+ * <p>Within a tier symbols keep the order of the list they were indexed from, duplicates included.
+ * Symbols and queries are compared stripped and in upper case; blank symbols are never returned.</p>
+ *
+ * <p>Each tier is answered from a prebuilt structure instead of a scan: the symbols sorted for
+ * exact and prefix lookups, the words of the company names sorted for prefix lookups, and an
+ * inverted index from every character and every pair of adjacent characters to the symbols
+ * containing it. All of them are flat arrays, and the tiers are merged lazily in list order, so a
+ * query only touches as many entries as it returns, whatever the size of the universe.</p>
+ */
+public final class SymbolSearchIndex {
+    private static final int[] NONE = new int[0];
+
+    /** Normalized symbols by position, i.e. in list order with blanks removed. */
+    private final String[] symbols;
+    /** Positions sorted by symbol, ties in position order. */
+    private final int[] bySymbol;
+    private final Map<String, int[]> gramPositions;
+    /** Upper-case company names, one after the other. */
+    private final String words;
+    /** Company name words sorted by text: where each starts and ends in {@link #words}, and its symbol. */
+    private final int[] wordStarts;
+    private final int[] wordEnds;
+    private final int[] wordOwners;
+
+    private SymbolSearchIndex(String[] symbols, int[] bySymbol, Map<String, int[]> gramPositions,
+                              String words, int[] wordStarts, int[] wordEnds, int[] wordOwners) {
+        this.symbols = symbols;
+        this.bySymbol = bySymbol;
+        this.gramPositions = gramPositions;
+        this.words = words;
+        this.wordStarts = wordStarts;
+        this.wordEnds = wordEnds;
+        this.wordOwners = wordOwners;
+    }
+
+    /**
+     * Builds the index.
+     * @param symbolList the symbols, in the order results should keep within a tier
+     * @param companyNames the company name of each symbol, or an empty list to search symbols only
+     * @return the index
+     */
+    public static SymbolSearchIndex build(List<String> symbolList, List<String> companyNames) {
+        final List<String> kept = new ArrayList<>(symbolList.size());
+        final Map<String, PostingList> grams = new HashMap<>();
+        final StringBuilder words = new StringBuilder();
+        final PostingList wordStarts = new PostingList();
+        final PostingList wordEnds = new PostingList();
+        final PostingList wordOwners = new PostingList();
+
+        for (int i = 0; i < symbolList.size(); i++) {
+            final String symbol = normalize(symbolList.get(i));
+            if (!symbol.isEmpty()) {
+                final int position = kept.size();
+                kept.add(symbol);
+                for (int start = 0; start < symbol.length(); start++) {
+                    grams.computeIfAbsent(symbol.substring(start, start + 1), key -> new PostingList())
+                            .add(position);
+                    if (start + 2 <= symbol.length()) {
+                        grams.computeIfAbsent(symbol.substring(start, start + 2), key -> new PostingList())
+                                .add(position);
+                    }
+                }
+                if (i < companyNames.size() && companyNames.get(i) != null) {
+                    addWords(normalize(companyNames.get(i)), position, words, wordStarts, wordEnds, wordOwners);
+                }
+            }
+        }
+
+        final String[] symbols = kept.toArray(new String[0]);
+        final String packedWords = words.toString();
+        final int[] starts = wordStarts.toArray();
+        final int[] ends = wordEnds.toArray();
+        final int[] wordOrder = sortedOrder(starts.length, (first, second) -> compareRegions(packedWords,
+                starts[first], ends[first], packedWords, starts[second], ends[second]));
+        final int[] owners = wordOwners.toArray();
+
+        final Map<String, int[]> gramArrays = new HashMap<>(grams.size() * 2);
+        for (Map.Entry<String, PostingList> entry : grams.entrySet()) {
+            gramArrays.put(entry.getKey(), entry.getValue().toArray());
+        }
+        return new SymbolSearchIndex(symbols,
+                sortedOrder(symbols.length, (first, second) -> symbols[first].compareTo(symbols[second])),
+                gramArrays, packedWords, permute(starts, wordOrder), permute(ends, wordOrder),
+                permute(owners, wordOrder));
+    }
+
+    /**
+     * Searches the index.
+     * @param query the text typed by the user
+     * @param limit the maximum number of results
+     * @return at most {@code limit} symbols, best match first
+     */
+    public List<String> search(String query, int limit) {
+        return search(query, limit, null);
+    }
+
+    /**
+     * Searches the index, narrowing the symbols that contained the previous query when this one
+     * extends it.
+     * @param query the text typed by the user
+     * @param limit the maximum number of results
+     * @param narrowing the state kept between the searches of one user, or {@code null}
+     * @return at most {@code limit} symbols, best match first
+     */
+    List<String> search(String query, int limit, Narrowing narrowing) {
+        final String input = normalize(query);
+        final List<String> result = new ArrayList<>();
+        final BitSet taken = new BitSet(symbols.length);
+
+        if (input.isEmpty()) {
+            // every symbol contains the empty string
+            for (int position = 0; position < symbols.length && result.size() < limit; position++) {
+                result.add(symbols[position]);
+            }
+        }
+        else {
+            final int prefixStart = firstSymbolAtLeast(input);
+            final int prefixEnd = firstSymbolAtLeast(input + Character.MAX_VALUE);
+            int exactEnd = prefixStart;
+            while (exactEnd < prefixEnd && symbols[bySymbol[exactEnd]].length() == input.length()) {
+                exactEnd++;
+            }
+
+            take(List.of(sortedSlice(bySymbol, prefixStart, exactEnd)), taken, result, limit);
+            take(List.of(sortedSlice(bySymbol, exactEnd, prefixEnd)), taken, result, limit);
+            if (result.size() < limit) {
+                take(List.of(containing(input, narrowing), contained(input)), taken, result, limit);
+            }
+            if (result.size() < limit) {
+                take(List.of(companyWordPrefix(input)), taken, result, limit);
+            }
+            if (result.size() < limit) {
+                final List<int[]> sharing = new ArrayList<>();
+                for (int i = 0; i < input.length(); i++) {
+                    sharing.add(gramPositions.getOrDefault(input.substring(i, i + 1), NONE));
+                }
+                take(sharing, taken, result, limit);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return symbols.length;
+    }
+
+    /**
+     * Adds the symbols of a tier, merging its sorted position lists so they come out in list order,
+     * and skipping symbols already taken by a better tier.
+     */
+    private void take(List<int[]> tier, BitSet taken, List<String> result, int limit) {
+        final int[] cursors = new int[tier.size()];
+        boolean exhausted = false;
+        while (!exhausted && result.size() < limit) {
+            int next = Integer.MAX_VALUE;
+            for (int i = 0; i < cursors.length; i++) {
+                if (cursors[i] < tier.get(i).length) {
+                    next = Math.min(next, tier.get(i)[cursors[i]]);
+                }
+            }
+            exhausted = next == Integer.MAX_VALUE;
+            if (!exhausted) {
+                for (int i = 0; i < cursors.length; i++) {
+                    if (cursors[i] < tier.get(i).length && tier.get(i)[cursors[i]] == next) {
+                        cursors[i]++;
+                    }
+                }
+                if (!taken.get(next)) {
+                    taken.set(next);
+                    result.add(symbols[next]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the symbols that contain the input, from the postings of its rarest character pair or
+     * the symbols that contained the previous query, whichever is shorter.
+     */
+    private int[] containing(String input, Narrowing narrowing) {
+        int[] result;
+        if (input.length() == 1) {
+            result = gramPositions.getOrDefault(input, NONE);
+        }
+        else {
+            int[] candidates = null;
+            if (narrowing != null) {
+                candidates = narrowing.candidatesFor(input);
+            }
+            for (int i = 0; i + 2 <= input.length() && candidates != NONE; i++) {
+                final int[] positions = gramPositions.getOrDefault(input.substring(i, i + 2), NONE);
+                if (candidates == null || positions.length < candidates.length) {
+                    candidates = positions;
+                }
+            }
+            final PostingList matches = new PostingList();
+            for (int position : candidates) {
+                if (symbols[position].contains(input)) {
+                    matches.add(position);
+                }
+            }
+            result = matches.toArray();
+        }
+        if (narrowing != null) {
+            narrowing.remember(input, result);
+        }
+        return result;
+    }
+
+    /**
+     * Finds the symbols the input contains, by looking up every substring of the input.
+     */
+    private int[] contained(String input) {
+        final Set<String> seen = new HashSet<>();
+        final PostingList found = new PostingList();
+        for (int start = 0; start < input.length(); start++) {
+            for (int end = start + 1; end <= input.length(); end++) {
+                final String part = input.substring(start, end);
+                if (seen.add(part)) {
+                    final int from = firstSymbolAtLeast(part);
+                    for (int i = from; i < bySymbol.length && symbols[bySymbol[i]].equals(part); i++) {
+                        found.add(bySymbol[i]);
+                    }
+                }
+            }
+        }
+        final int[] positions = found.toArray();
+        Arrays.sort(positions);
+        return positions;
+    }
+
+    /**
+     * Finds the symbols with a company name word starting with the input.
+     */
+    private int[] companyWordPrefix(String input) {
+        int low = 0;
+        int high = wordStarts.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (compareRegions(words, wordStarts[middle], wordEnds[middle], input, 0, input.length()) < 0) {
+                low = middle + 1;
+            }
+            else {
+                high = middle;
+            }
+        }
+        final PostingList owners = new PostingList();
+        for (int i = low; i < wordStarts.length
+                && words.startsWith(input, wordStarts[i]) && wordStarts[i] + input.length() <= wordEnds[i]; i++) {
+            owners.add(wordOwners[i]);
+        }
+        final int[] positions = owners.toArray();
+        Arrays.sort(positions);
+        return positions;
+    }
+
+    /**
+     * Index into {@link #bySymbol} of the first symbol not less than the key.
+     */
+    private int firstSymbolAtLeast(String key) {
+        int low = 0;
+        int high = bySymbol.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (symbols[bySymbol[middle]].compareTo(key) < 0) {
+                low = middle + 1;
+            }
+            else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Compares two regions of strings, like {@link String#compareTo} on the substrings.
+     */
+    private static int compareRegions(String first, int firstStart, int firstEnd,
+                                      String second, int secondStart, int secondEnd) {
+        final int common = Math.min(firstEnd - firstStart, secondEnd - secondStart);
+        int comparison = 0;
+        for (int i = 0; i < common && comparison == 0; i++) {
+            comparison = first.charAt(firstStart + i) - second.charAt(secondStart + i);
+        }
+        if (comparison == 0) {
+            comparison = (firstEnd - firstStart) - (secondEnd - secondStart);
+        }
+        return comparison;
+    }
+
+    private static int[] sortedSlice(int[] positions, int from, int to) {
+        final int[] slice = Arrays.copyOfRange(positions, from, to);
+        Arrays.sort(slice);
+        return slice;
+    }
+
+    private static void addWords(String name, int position, StringBuilder words, PostingList starts,
+                                 PostingList ends, PostingList owners) {
+        final int offset = words.length();
+        words.append(name).append(' ');
+        int start = -1;
+        for (int i = 0; i <= name.length(); i++) {
+            final boolean wordCharacter = i < name.length() && Character.isLetterOrDigit(name.charAt(i));
+            if (wordCharacter && start < 0) {
+                start = i;
+            }
+            else if (!wordCharacter && start >= 0) {
+                starts.append(offset + start);
+                ends.append(offset + i);
+                owners.append(position);
+                start = -1;
+            }
+        }
+    }
+
+    /**
+     * The indices {@code 0..size-1} sorted by the comparator (stable).
+     */
+    private static int[] sortedOrder(int size, Comparator<Integer> comparator) {
+        final Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, comparator);
+        final int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = order[i];
+        }
+        return result;
+    }
+
+    private static int[] permute(int[] values, int[] order) {
+        final int[] result = new int[values.length];
+        for (int i = 0; i < order.length; i++) {
+            result[i] = values[order[i]];
+        }
+        return result;
+    }
+
+    private static String normalize(String text) {
+        return text.strip().toUpperCase();
+    }
+}
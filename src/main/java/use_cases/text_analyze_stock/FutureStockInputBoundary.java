@@ -1,6 +1,19 @@
 package use_cases.text_analyze_stock;
 
+import java.util.Date;
+
 public interface FutureStockInputBoundary {
     void execute(String stockName,
                  double currentPrice, double startingPrice);
+
+    /**
+     * Analyzes a stock as of the day its current price is from.
+     * @param stockName the name of the stock
+     * @param currentPrice the price of the stock on the given day
+     * @param startingPrice the price of the stock one year before
+     * @param priceDate the day of the current price; the price history used for projections ends there
+     */
+    default void execute(String stockName, double currentPrice, double startingPrice, Date priceDate) {
+        execute(stockName, currentPrice, startingPrice);
+    }
 }
@@ -1,12 +1,13 @@
 package use_cases.text_analyze_stock;
 
-import app.Constants;
-
 /**
  * A utility class for analyzing stock-related data and predicting future stock behavior.
  * This class includes methods for financial calculations, such as the Graham number.
+ * The formula itself is {@link RecommendationRule#grahamPrice(double, double)}.
  */
 public final class FutureStockPredict {
+    private static final RecommendationRule RULE = new RecommendationRule();
+
     // Private constructor to prevent instantiation
     private FutureStockPredict() {
         throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
@@ -22,7 +23,7 @@ public final class FutureStockPredict {
     public static Double calculateGrahamNumber(double eps, double currentprice) {
         Double detect = null;
         if (currentprice >= 0) {
-            detect = Math.sqrt(Constants.GRAHAM_NUMBER * eps * currentprice);
+            detect = RULE.grahamPrice(eps, currentprice);
         }
         return detect;
     }
@@ -1,11 +1,12 @@
 package use_cases.text_analyze_stock;
 
-import app.Constants;
-
 /**
- * The class predicts the future stock using a compounded formula.
+ * The class predicts the future stock using a compounded formula, which is
+ * {@link RecommendationRule#compoundedPrice(double, double)}.
  */
 public final class FutureStockPredictAlt {
+    private static final RecommendationRule RULE = new RecommendationRule();
+
     // Private constructor to prevent instantiation
     private FutureStockPredictAlt() {
         throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
@@ -21,7 +22,7 @@ public final class FutureStockPredictAlt {
         Double priceInOneYear = null;
         // Formula: P1 = P0 * (1 + (E1 - E0) / E0)
         if (current >= 0 && initial >= 0) {
-            priceInOneYear = current * (1 + (current - initial) / Constants.ONE_HUNDRED);
+            priceInOneYear = RULE.compoundedPrice(current, initial);
         }
         return priceInOneYear;
     }
@@ -4,7 +4,11 @@ package use_cases.text_analyze_stock;
  * Provides functionality to retrieve the Earnings Per Share (EPS) value for a specific stock ticker.
  * This class maintains a predefined list of stock tickers and their corresponding EPS values.
  * It includes a method to look up the EPS value for a given stock ticker.
+ *
+ * @deprecated the use cases are given a {@link use_cases.FundamentalsDataInterface}, which keeps the
+ *     earnings of every reported period; this table is what the fundamentals file was seeded from.
  */
+@Deprecated
 public class GetStockeps {
 
     // Create an array to store stock tickers and their EPS values
@@ -0,0 +1,165 @@
+package use_cases.text_analyze_stock;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import app.Constants;
+import entities.SeriesAligner;
+
+/**
+ * Projects a stock price with geometric Brownian motion.
+ *
+ * <p>The drift and volatility are estimated from the log returns of the price history.
+ * Every path then takes one step per year, {@code S(t + 1) = S(t) exp(mu - sigma^2 / 2 + sigma Z)}
+ * with yearly {@code mu} and {@code sigma} and a standard normal {@code Z}, and the prices of all
+ * paths at each year are reduced to percentiles.</p>
+ *
+ * <p>The paths are split between the tasks of a fork-join pool. Each task draws from its own
+ * {@link SplittableRandom}, split from its parent's, so tasks share no state and the result
+ * for a given seed does not depend on how the tasks were scheduled. Prices are written into one
+ * primitive array per year, each task filling its own slice.</p>
+ */
+public final class MonteCarloSimulator {
+    /** The percentiles reported for every year. */
+    public static final double[] PERCENTILES = {5, 25, 50, 75, 95};
+
+    /** Paths simulated by one task before it stops splitting. */
+    private static final int PATHS_PER_TASK = 8_192;
+
+    private final ForkJoinPool pool;
+
+    public MonteCarloSimulator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public MonteCarloSimulator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Estimates the yearly drift and volatility of a price history from its log returns.
+     *
+     * <p>Each return is weighed by the time between its two closes, so weekends, holidays and
+     * days missing from the cache widen the step instead of being taken for one day.</p>
+     *
+     * @param dates the dates of the closes, oldest first
+     * @param closePrices the closes, parallel to {@code dates}
+     * @return the yearly drift and volatility, or {@code null} if there are fewer than three
+     *         positive closes on distinct days
+     */
+    public static double[] estimateDriftAndVolatility(List<Date> dates, List<Double> closePrices) {
+        final int size = Math.min(dates.size(), closePrices.size());
+        final double[] logReturns = new double[size];
+        final double[] years = new double[size];
+        int returns = 0;
+        double totalLogReturn = 0;
+        double totalYears = 0;
+        double previousClose = Double.NaN;
+        long previousDay = 0;
+        for (int i = 0; i < size; i++) {
+            final Double close = closePrices.get(i);
+            final long day = SeriesAligner.toEpochDay(dates.get(i));
+            if (close != null && close > 0 && (Double.isNaN(previousClose) || day > previousDay)) {
+                if (previousClose > 0) {
+                    logReturns[returns] = Math.log(close / previousClose);
+                    years[returns] = (double) (day - previousDay) / Constants.ONE_YEAR;
+                    totalLogReturn += logReturns[returns];
+                    totalYears += years[returns];
+                    returns++;
+                }
+                previousClose = close;
+                previousDay = day;
+            }
+        }
+
+        double[] estimate = null;
+        if (returns >= 2) {
+            // the log price drifts by mu - sigma^2 / 2 a year, so the variance is added back for mu
+            final double logDrift = totalLogReturn / totalYears;
+            double squaredDeviations = 0;
+            for (int i = 0; i < returns; i++) {
+                final double deviation = logReturns[i] - logDrift * years[i];
+                squaredDeviations += deviation * deviation / years[i];
+            }
+            final double variance = squaredDeviations / (returns - 1);
+            estimate = new double[] {logDrift + variance / 2, Math.sqrt(variance)};
+        }
+        return estimate;
+    }
+
+    /**
+     * Simulates price paths and returns the percentiles of the price at the end of every year.
+     *
+     * @param currentPrice the price today
+     * @param drift the yearly drift
+     * @param volatility the yearly volatility
+     * @param paths the number of paths
+     * @param years the number of years to project
+     * @param seed the seed of the random numbers; the same seed gives the same bands
+     * @return one row of {@link #PERCENTILES} per year, from the first year on
+     */
+    public double[][] simulate(double currentPrice, double drift, double volatility, int paths, int years,
+                               long seed) {
+        final double[][] prices = new double[years][paths];
+        pool.invoke(new PathsTask(prices, 0, paths, currentPrice, drift - volatility * volatility / 2,
+                volatility, new SplittableRandom(seed)));
+
+        final double[][] bands = new double[years][PERCENTILES.length];
+        for (int year = 0; year < years; year++) {
+            Arrays.parallelSort(prices[year]);
+            for (int p = 0; p < PERCENTILES.length; p++) {
+                final int index = (int) Math.round(PERCENTILES[p] / Constants.PERCENTAGE * (paths - 1));
+                bands[year][p] = prices[year][index];
+            }
+        }
+        return bands;
+    }
+
+    /**
+     * Simulates the paths in {@code [from, to)}, splitting the range while it is large.
+     */
+    private static final class PathsTask extends RecursiveAction {
+        private final double[][] prices;
+        private final int from;
+        private final int to;
+        private final double startPrice;
+        private final double logDrift;
+        private final double volatility;
+        private final SplittableRandom random;
+
+        private PathsTask(double[][] prices, int from, int to, double startPrice, double logDrift,
+                          double volatility, SplittableRandom random) {
+            this.prices = prices;
+            this.from = from;
+            this.to = to;
+            this.startPrice = startPrice;
+            this.logDrift = logDrift;
+            this.volatility = volatility;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PATHS_PER_TASK) {
+                for (int path = from; path < to; path++) {
+                    double logPrice = Math.log(startPrice);
+                    for (int year = 0; year < prices.length; year++) {
+                        logPrice += logDrift + volatility * random.nextGaussian();
+                        prices[year][path] = Math.exp(logPrice);
+                    }
+                }
+            }
+            else {
+                final int middle = (from + to) >>> 1;
+                // the split happens before either half runs, so it is the same on every run
+                final SplittableRandom rightRandom = random.split();
+                invokeAll(new PathsTask(prices, from, middle, startPrice, logDrift, volatility, random),
+                        new PathsTask(prices, middle, to, startPrice, logDrift, volatility, rightRandom));
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package use_cases.text_analyze_stock;
+
+/**
+ * What the analysis recommends doing with a stock.
+ */
+public enum Recommendation {
+    BUY("buy"),
+    HOLD("hold"),
+    SELL("sell");
+
+    private final String action;
+
+    Recommendation(String action) {
+        this.action = action;
+    }
+
+    /**
+     * The recommendation as it is shown to the user.
+     * @return "buy", "hold" or "sell"
+     */
+    public String getAction() {
+        return action;
+    }
+}
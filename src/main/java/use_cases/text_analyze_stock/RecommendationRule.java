@@ -0,0 +1,109 @@
+package use_cases.text_analyze_stock;
+
+import app.Constants;
+
+/**
+ * The rule that turns a projected price into a recommendation, with its thresholds.
+ *
+ * <p>A stock is worth buying when the price projected a year ahead is at least the wanted
+ * difference above the current price, worth selling when it is more than the negative wanted
+ * difference below it, and worth holding in between. The same rule drives the analysis screen
+ * and the backtester, and all of its methods work on primitives so the backtester can evaluate
+ * it on every bar without allocating.</p>
+ */
+public final class RecommendationRule {
+    private final double wantedDifference;
+    private final double wantedDifferenceNegative;
+    private final double grahamNumber;
+
+    /**
+     * Creates the rule with the thresholds in {@link Constants}.
+     */
+    public RecommendationRule() {
+        this(Constants.WANTED_DIFFERENCE, Constants.WANTED_DIFFERENCE_NEGATIVE, Constants.GRAHAM_NUMBER);
+    }
+
+    /**
+     * Creates the rule with the given thresholds.
+     * @param wantedDifference how far above the current price the projection must be to buy
+     * @param wantedDifferenceNegative how far below the current price the projection may be to hold
+     * @param grahamNumber the multiplier of the Graham number used to project prices
+     */
+    public RecommendationRule(double wantedDifference, double wantedDifferenceNegative, double grahamNumber) {
+        this.wantedDifference = wantedDifference;
+        this.wantedDifferenceNegative = wantedDifferenceNegative;
+        this.grahamNumber = grahamNumber;
+    }
+
+    public double getWantedDifference() {
+        return wantedDifference;
+    }
+
+    public double getWantedDifferenceNegative() {
+        return wantedDifferenceNegative;
+    }
+
+    public double getGrahamNumber() {
+        return grahamNumber;
+    }
+
+    /**
+     * Projects the price a year ahead: with the Graham number if the earnings per share are
+     * positive, otherwise by compounding the growth of the last year.
+     * @param eps the earnings per share, or NaN if unknown
+     * @param currentPrice the price today
+     * @param startingPrice the price a year ago, or NaN if unknown
+     * @return the projected price, or NaN if it cannot be projected
+     */
+    public double projectPrice(double eps, double currentPrice, double startingPrice) {
+        double projected = Double.NaN;
+        if (eps > 0 && currentPrice >= 0) {
+            projected = grahamPrice(eps, currentPrice);
+        }
+        else if (currentPrice >= 0 && startingPrice >= 0) {
+            projected = compoundedPrice(currentPrice, startingPrice);
+        }
+        return projected;
+    }
+
+    /**
+     * Projects the price a year ahead with the Graham number, {@code sqrt(G * eps * price)}.
+     * @param eps the earnings per share
+     * @param currentPrice the price today
+     * @return the projected price, NaN if the product is negative
+     */
+    public double grahamPrice(double eps, double currentPrice) {
+        return Math.sqrt(grahamNumber * eps * currentPrice);
+    }
+
+    /**
+     * Projects the price a year ahead by compounding the growth of the last year.
+     * @param currentPrice the price today
+     * @param startingPrice the price a year ago
+     * @return the projected price
+     */
+    public double compoundedPrice(double currentPrice, double startingPrice) {
+        return currentPrice * (1 + (currentPrice - startingPrice) / Constants.ONE_HUNDRED);
+    }
+
+    /**
+     * Recommends what to do given the projected price.
+     * @param projectedPrice the price projected a year ahead
+     * @param currentPrice the price today
+     * @return the recommendation
+     */
+    public Recommendation recommend(double projectedPrice, double currentPrice) {
+        final double difference = projectedPrice - currentPrice;
+        final Recommendation recommendation;
+        if (difference >= wantedDifference) {
+            recommendation = Recommendation.BUY;
+        }
+        else if (difference >= -wantedDifferenceNegative) {
+            recommendation = Recommendation.HOLD;
+        }
+        else {
+            recommendation = Recommendation.SELL;
+        }
+        return recommendation;
+    }
+}
@@ -11,15 +11,34 @@ public class StockAnalysisResult {
     private final double projectedPrice2;
     private final double projectedPrice3;
     private final String action;
+    private final double[][] priceBands;
 
     public StockAnalysisResult(String stockName, double currentPrice, double projectedPrice1,
                                double projectedPrice2, double projectedPrice3, String action) {
+        this(stockName, currentPrice, projectedPrice1, projectedPrice2, projectedPrice3, action, null);
+    }
+
+    /**
+     * Creates a result with the simulated price ranges of the coming years.
+     * @param stockName the name of the stock
+     * @param currentPrice the current price
+     * @param projectedPrice1 the projected price in one year
+     * @param projectedPrice2 the projected price in two years
+     * @param projectedPrice3 the projected price in three years
+     * @param action buy, hold or sell
+     * @param priceBands one row per year of the prices at {@link MonteCarloSimulator#PERCENTILES}, or
+     *                   {@code null} if there was not enough history to simulate
+     */
+    public StockAnalysisResult(String stockName, double currentPrice, double projectedPrice1,
+                               double projectedPrice2, double projectedPrice3, String action,
+                               double[][] priceBands) {
         this.stockName = stockName;
         this.currentPrice = currentPrice;
         this.projectedPrice1 = projectedPrice1;
         this.projectedPrice2 = projectedPrice2;
         this.projectedPrice3 = projectedPrice3;
         this.action = action;
+        this.priceBands = priceBands;
     }
 
     public String getStockName() {
@@ -45,4 +64,8 @@ public class StockAnalysisResult {
     public String getAction() {
         return action;
     }
+
+    public double[][] getPriceBands() {
+        return priceBands;
+    }
 }
@@ -1,6 +1,12 @@
 package use_cases.text_analyze_stock;
 
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+
 import app.Constants;
+import entities.SharePrices;
+import use_cases.FundamentalsDataInterface;
 import use_cases.StockDataInterface;
 
 /**
@@ -10,10 +16,16 @@ import use_cases.StockDataInterface;
 public class StockInteractor implements FutureStockInputBoundary {
     private final FutureStockOutputBoundary presenter;
     private final StockDataInterface dataLoader;
+    private final FundamentalsDataInterface fundamentals;
+    private final MonteCarloSimulator simulator;
+    private final RecommendationRule rule = new RecommendationRule();
 
-    public StockInteractor(FutureStockOutputBoundary presenter, StockDataInterface dataLoader) {
+    public StockInteractor(FutureStockOutputBoundary presenter, StockDataInterface dataLoader,
+                           FundamentalsDataInterface fundamentals, MonteCarloSimulator simulator) {
         this.presenter = presenter;
         this.dataLoader = dataLoader;
+        this.fundamentals = fundamentals;
+        this.simulator = simulator;
     }
     /**
      * This Class Analyzes Stock.
@@ -25,40 +37,57 @@ public class StockInteractor implements FutureStockInputBoundary {
     @Override
     public void execute(String stockName,
                         double currentPrice, double startingPrice) {
-        final Double eps = GetStockeps.geteps(stockName);
-
-        final double projectedPrice1;
-        final double projectedPrice2;
-        final double projectedPrice3;
+        execute(stockName, currentPrice, startingPrice, new Date());
+    }
 
-        if (eps != null && eps > 0) {
-            // If EPS > 0, calculate projected price using Graham number formula
-            projectedPrice1 = FutureStockPredict.calculateGrahamNumber(eps, currentPrice);
-            projectedPrice2 = FutureStockPredict.calculateGrahamNumber(eps, projectedPrice1);
-            projectedPrice3 = FutureStockPredict.calculateGrahamNumber(eps, projectedPrice2);
+    @Override
+    public void execute(String stockName, double currentPrice, double startingPrice, Date priceDate) {
+        final Double eps = fundamentals.getEps(stockName);
+        // with positive earnings the Graham number is used, otherwise last year's growth is compounded
+        final double knownEps;
+        if (eps == null) {
+            knownEps = Double.NaN;
         }
         else {
-            // If EPS is null or <= 0, use the alternative stock price prediction method
-            projectedPrice1 = FutureStockPredictAlt.calculateStockPrice(currentPrice, startingPrice);
-            projectedPrice2 = FutureStockPredictAlt.calculateStockPrice(projectedPrice1, currentPrice);
-            projectedPrice3 = FutureStockPredictAlt.calculateStockPrice(projectedPrice2, currentPrice);
+            knownEps = eps;
         }
 
-        final String action;
-        if (projectedPrice1 - currentPrice >= Constants.WANTED_DIFFERENCE) {
-            action = "buy";
-        }
-        else if (projectedPrice1 - currentPrice >= -Constants.WANTED_DIFFERENCE_NEGATIVE && projectedPrice1
-                - currentPrice <= Constants.WANTED_DIFFERENCE) {
-            action = "hold";
-        }
-        else {
-            action = "sell";
-        }
+        // the same projection the backtester evaluates, so the screen and the backtests agree
+        final double projectedPrice1 = rule.projectPrice(knownEps, currentPrice, startingPrice);
+        final double projectedPrice2 = rule.projectPrice(knownEps, projectedPrice1, currentPrice);
+        final double projectedPrice3 = rule.projectPrice(knownEps, projectedPrice2, currentPrice);
+
+        final String action = rule.recommend(projectedPrice1, currentPrice).getAction();
 
         presenter.displayResult(new StockAnalysisResult(stockName, currentPrice, projectedPrice1,
-                projectedPrice2, projectedPrice3, action));
+                projectedPrice2, projectedPrice3, action, simulatePriceBands(stockName, currentPrice, priceDate)));
+
+    }
 
+    /**
+     * Simulates the price of the coming years from the drift and volatility of the cached history.
+     * @param stockName the name of the stock
+     * @param currentPrice the price the paths start from
+     * @param priceDate the last day of history
+     * @return the percentile prices per year, or null if too little history is cached
+     */
+    private double[][] simulatePriceBands(String stockName, double currentPrice, Date priceDate) {
+        double[][] bands = null;
+        final Calendar historyStart = new GregorianCalendar();
+        historyStart.setTime(priceDate);
+        historyStart.add(Calendar.YEAR, -Constants.SIMULATION_HISTORY_YEARS);
+        // only cached days: projecting must not trigger a backfill from the API
+        final SharePrices history = dataLoader.getCachedSharePrices(stockName, historyStart.getTime(), priceDate);
+        if (history != null && currentPrice > 0) {
+            final double[] estimate = MonteCarloSimulator.estimateDriftAndVolatility(history.getDates(),
+                    history.getClosePrices());
+            if (estimate != null) {
+                // seeded by the stock so the ranges shown do not move when the analysis is rerun
+                bands = simulator.simulate(currentPrice, estimate[0], estimate[1], Constants.SIMULATION_PATHS,
+                        Constants.SIMULATION_YEARS, stockName.hashCode());
+            }
+        }
+        return bands;
     }
 }
 
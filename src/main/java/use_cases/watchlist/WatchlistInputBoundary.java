@@ -0,0 +1,13 @@
+package use_cases.watchlist;
+
+/**
+ * Input boundary for the watchlist use case.
+ */
+public interface WatchlistInputBoundary {
+
+    /**
+     * Executes the use case.
+     * @param watchlistInputData input data for the use case.
+     */
+    void execute(WatchlistInputData watchlistInputData);
+}
@@ -0,0 +1,46 @@
+package use_cases.watchlist;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Input data for refreshing the watchlist.
+ */
+public class WatchlistInputData {
+    private final List<String> symbols;
+    private final Date startDate;
+    private final Date endDate;
+
+    /**
+     * Constructor. Symbols are stripped and upper-cased, and listed once.
+     * @param symbols the symbols on the watchlist, usually the favorites
+     * @param startDate the first day of the sparklines, inclusive
+     * @param endDate the last day of the sparklines, inclusive
+     */
+    public WatchlistInputData(Collection<String> symbols, Date startDate, Date endDate) {
+        final LinkedHashSet<String> normalized = new LinkedHashSet<>();
+        for (String symbol : symbols) {
+            final String cleaned = symbol.strip().toUpperCase();
+            if (!cleaned.isEmpty()) {
+                normalized.add(cleaned);
+            }
+        }
+        this.symbols = List.copyOf(normalized);
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    List<String> getSymbols() {
+        return symbols;
+    }
+
+    Date getStartDate() {
+        return startDate;
+    }
+
+    Date getEndDate() {
+        return endDate;
+    }
+}
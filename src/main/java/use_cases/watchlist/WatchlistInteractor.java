@@ -0,0 +1,66 @@
+package use_cases.watchlist;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import entities.SharePrices;
+import use_cases.DataLoaders;
+import use_cases.StockDataInterface;
+
+/**
+ * Interactor of the watchlist use case. Loads the recent closes of every symbol on the watchlist
+ * at the same time, on the {@link DataLoaders#shared() shared loader pool}, so the waits for the
+ * API overlap instead of adding up. Each symbol is presented from the local cache first, then again
+ * once its missing days are loaded. A new refresh cancels the loads of the previous one.
+ */
+public class WatchlistInteractor implements WatchlistInputBoundary {
+    private final WatchlistOutputBoundary watchlistPresenter;
+    private final StockDataInterface stockDataAccessObject;
+    private final ExecutorService loaders;
+    private final List<Future<?>> running = new ArrayList<>();
+
+    public WatchlistInteractor(WatchlistOutputBoundary watchlistPresenter,
+                               StockDataInterface stockDataAccessObject) {
+        this(watchlistPresenter, stockDataAccessObject, DataLoaders.shared());
+    }
+
+    public WatchlistInteractor(WatchlistOutputBoundary watchlistPresenter,
+                               StockDataInterface stockDataAccessObject,
+                               ExecutorService loaders) {
+        this.watchlistPresenter = watchlistPresenter;
+        this.stockDataAccessObject = stockDataAccessObject;
+        this.loaders = loaders;
+    }
+
+    /**
+     * Executes the use case. Returns once the loads are started; rows are presented as they finish.
+     *
+     * @param inputData input data for the use case.
+     */
+    @Override
+    public synchronized void execute(WatchlistInputData inputData) {
+        for (Future<?> load : running) {
+            load.cancel(true);
+        }
+        running.clear();
+        for (String symbol : inputData.getSymbols()) {
+            running.add(loaders.submit(() -> load(symbol, inputData)));
+        }
+    }
+
+    private void load(String symbol, WatchlistInputData inputData) {
+        final SharePrices cached = stockDataAccessObject.getCachedSharePrices(symbol,
+                inputData.getStartDate(), inputData.getEndDate());
+        if (cached != null && !cached.getClosePrices().isEmpty() && !Thread.currentThread().isInterrupted()) {
+            watchlistPresenter.displayRow(new WatchlistOutputData(symbol, cached.getClosePrices(), false));
+        }
+        final SharePrices complete = stockDataAccessObject.getSharePrices(symbol,
+                inputData.getStartDate(), inputData.getEndDate());
+        // a cancelled load may be missing days, and a newer refresh presents this symbol anyway
+        if (complete != null && !Thread.currentThread().isInterrupted()) {
+            watchlistPresenter.displayRow(new WatchlistOutputData(symbol, complete.getClosePrices(), true));
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package use_cases.watchlist;
+
+/**
+ * Output boundary for the watchlist use case.
+ */
+public interface WatchlistOutputBoundary {
+    /**
+     * Display the row of one symbol. Called from the loading threads, once with the cached prices
+     * if there are any and once more when the prices are complete.
+     * @param outputData the output data
+     */
+    void displayRow(WatchlistOutputData outputData);
+}
@@ -0,0 +1,61 @@
+package use_cases.watchlist;
+
+import java.util.List;
+
+/**
+ * The output data for one symbol of the watchlist.
+ */
+public class WatchlistOutputData {
+    private final String symbol;
+    private final List<Double> closePrices;
+    private final boolean complete;
+
+    /**
+     * Constructor.
+     * @param symbol the stock symbol
+     * @param closePrices the close of every trading day in the range, oldest first
+     * @param complete false if these are only the cached prices and more are being loaded
+     */
+    public WatchlistOutputData(String symbol, List<Double> closePrices, boolean complete) {
+        this.symbol = symbol;
+        this.closePrices = List.copyOf(closePrices);
+        this.complete = complete;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public List<Double> getClosePrices() {
+        return closePrices;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * The close of the last trading day.
+     * @return the last close, or {@link Double#NaN} if there are no prices
+     */
+    public double getLastClose() {
+        double lastClose = Double.NaN;
+        if (!closePrices.isEmpty()) {
+            lastClose = closePrices.get(closePrices.size() - 1);
+        }
+        return lastClose;
+    }
+
+    /**
+     * The change from the close before the last trading day to the last close, as a fraction.
+     * @return the daily change, or {@link Double#NaN} if there are fewer than two prices
+     */
+    public double getDailyChange() {
+        double change = Double.NaN;
+        if (closePrices.size() >= 2) {
+            final double previous = closePrices.get(closePrices.size() - 2);
+            change = (getLastClose() - previous) / previous;
+        }
+        return change;
+    }
+}
@@ -0,0 +1,96 @@
+package test.entities;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import entities.AlignedSeries;
+import entities.FillPolicy;
+import entities.MetricValues;
+import entities.SeriesAligner;
+import entities.SharePrices;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SeriesAlignerTest {
+    private static final LocalDate MONDAY = LocalDate.of(2024, 11, 4);
+
+    // days 0, 1, 2, 3 and days 1, 3, 4
+    private final MetricValues first = series(new int[] {0, 1, 2, 3}, new double[] {1, 2, 3, 4});
+    private final MetricValues second = series(new int[] {1, 3, 4}, new double[] {10, 30, 40});
+
+    @Test
+    void alignForwardFill() {
+        final AlignedSeries aligned = SeriesAligner.align(List.of(first, second), FillPolicy.FORWARD_FILL);
+
+        assertEquals(5, aligned.getLength());
+        assertEquals(MONDAY.toEpochDay(), aligned.getDays()[0]);
+        assertArrayEquals(new double[] {1, 2, 3, 4, 4}, aligned.getSeries(0));
+        assertArrayEquals(new double[] {Double.NaN, 10, 10, 30, 40}, aligned.getSeries(1));
+    }
+
+    @Test
+    void alignDrop() {
+        final AlignedSeries aligned = SeriesAligner.align(List.of(first, second), FillPolicy.DROP);
+
+        assertEquals(2, aligned.getLength());
+        assertArrayEquals(new double[] {2, 4}, aligned.getSeries(0));
+        assertArrayEquals(new double[] {10, 30}, aligned.getSeries(1));
+        assertEquals(toDate(MONDAY.plusDays(3)), aligned.getDate(1));
+    }
+
+    @Test
+    void alignNan() {
+        final AlignedSeries aligned = SeriesAligner.align(List.of(first, second), FillPolicy.NAN);
+
+        assertEquals(5, aligned.getLength());
+        assertArrayEquals(new double[] {1, 2, 3, 4, Double.NaN}, aligned.getSeries(0));
+        assertArrayEquals(new double[] {Double.NaN, 10, Double.NaN, 30, 40}, aligned.getSeries(1));
+    }
+
+    @Test
+    void alignTreatsNullAndNanAsMissing() {
+        final MetricValues withNan = series(new int[] {0, 1}, new double[] {Double.NaN, 5});
+        final List<MetricValues> input = new ArrayList<>(Arrays.asList(withNan, null));
+        final AlignedSeries aligned = SeriesAligner.align(input, FillPolicy.FORWARD_FILL);
+
+        assertEquals(2, aligned.getLength());
+        assertArrayEquals(new double[] {Double.NaN, 5}, aligned.getSeries(0));
+        assertTrue(Double.isNaN(aligned.getValue(1, 1)));
+    }
+
+    @Test
+    void sharePricesDropConsecutiveMissingDays() {
+        final List<Date> dates = new ArrayList<>();
+        for (int day = 0; day < 4; day++) {
+            dates.add(toDate(MONDAY.plusDays(day)));
+        }
+        final List<Double> prices = new ArrayList<>(List.of(1.0, Double.NaN, Double.NaN, 4.0));
+        final SharePrices sharePrices = new SharePrices(dates, new ArrayList<>(prices), new ArrayList<>(prices),
+                new ArrayList<>(prices), new ArrayList<>(prices));
+
+        assertEquals(List.of(1.0, 4.0), sharePrices.getClosePrices());
+        assertEquals(List.of(1.0, 4.0), sharePrices.getValues());
+        assertEquals(List.of(dates.get(0), dates.get(3)), sharePrices.getDates());
+    }
+
+    private static MetricValues series(int[] dayOffsets, double[] values) {
+        final List<Date> dates = new ArrayList<>();
+        final List<Double> boxed = new ArrayList<>();
+        for (int i = 0; i < dayOffsets.length; i++) {
+            dates.add(toDate(MONDAY.plusDays(dayOffsets[i])));
+            boxed.add(values[i]);
+        }
+        return new MetricValues(boxed, dates);
+    }
+
+    private static Date toDate(LocalDate localDate) {
+        return Date.from(localDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
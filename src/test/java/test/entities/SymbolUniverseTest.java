@@ -0,0 +1,60 @@
+package test.entities;
+
+import java.util.List;
+
+import entities.SymbolUniverse;
+import org.junit.jupiter.api.Test;
+import use_cases.search.SymbolSearchIndex;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SymbolUniverseTest {
+
+    private static SymbolUniverse universe() {
+        return new SymbolUniverse.Builder()
+                .add("NVDA", "Nvidia", "Q", "STOCK")
+                .add("AAPL", "Apple", "Q", "STOCK")
+                .add("SPY", "SPDR S&P 500 ETF", "P", "ETF")
+                .add("AAPL", "Apple Inc. Common Stock", "Q", "STOCK")
+                .add("MFC", "Manulife Financial", "N", "STOCK")
+                .build();
+    }
+
+    @Test
+    void idsFollowSymbolOrderAndFirstListingWins() {
+        final SymbolUniverse universe = universe();
+
+        assertEquals(4, universe.size());
+        assertEquals(List.of("AAPL", "MFC", "NVDA", "SPY"), universe.getSymbols());
+        assertEquals(List.of("Apple", "Manulife Financial", "Nvidia", "SPDR S&P 500 ETF"), universe.getNames());
+    }
+
+    @Test
+    void looksUpBySymbolAndByName() {
+        final SymbolUniverse universe = universe();
+
+        final int spy = universe.idOf("SPY");
+        assertEquals("SPY", universe.getSymbol(spy));
+        assertEquals("P", universe.getExchange(spy));
+        assertEquals("ETF", universe.getType(spy));
+        assertEquals("MFC", universe.getSymbol(universe.idOfName("Manulife Financial")));
+        assertEquals(-1, universe.idOf("AP"));
+        assertEquals(-1, universe.idOf("ZZZZ"));
+        assertEquals(-1, universe.idOfName("Apple Inc. Common Stock"));
+    }
+
+    @Test
+    void searchesAFullExchangeSizedUniverse() {
+        final SymbolUniverse.Builder builder = new SymbolUniverse.Builder();
+        for (int i = 0; i < 100_000; i++) {
+            builder.add("T" + i, "Company " + i, "Q", "STOCK");
+        }
+        final SymbolUniverse universe = builder.build();
+        final SymbolSearchIndex index = SymbolSearchIndex.build(universe.getSymbols(), universe.getNames());
+
+        assertEquals(100_000, index.size());
+        assertTrue(universe.idOf("T99999") >= 0);
+        assertEquals(List.of("T4242", "T42420", "T42421"), index.search("t4242", 3));
+    }
+}
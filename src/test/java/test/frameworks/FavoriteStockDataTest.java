@@ -0,0 +1,59 @@
+package test.frameworks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import frameworks.FavoriteStockData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class FavoriteStockDataTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void changesAreJournaledAndReplayed() throws IOException {
+        final Path file = directory.resolve("favorites.txt");
+        Files.writeString(file, "NVDA\nAAPL\n");
+        final FavoriteStockData data = new FavoriteStockData(file);
+
+        data.addFavoriteStock("MFC");
+        data.removeFavoriteStock("NVDA");
+        data.addFavoriteStock("MFC");
+        data.flush();
+
+        assertEquals(List.of("NVDA", "AAPL"), Files.readAllLines(file));
+        assertEquals(List.of("+MFC", "-NVDA"), Files.readAllLines(directory.resolve("favorites.txt.journal")));
+        assertEquals(Set.of("AAPL", "MFC"), new FavoriteStockData(file).loadFavoriteStocks());
+    }
+
+    @Test
+    void aLineCutShortByACrashIsIgnored() throws IOException {
+        final Path file = directory.resolve("favorites.txt");
+        Files.writeString(file, "AAPL\n");
+        Files.writeString(directory.resolve("favorites.txt.journal"), "-AAPL\n+INTC\n+MF");
+
+        assertEquals(Set.of("INTC"), new FavoriteStockData(file).loadFavoriteStocks());
+    }
+
+    @Test
+    void checkpointsReplaceTheFileAndEmptyTheJournal() throws IOException {
+        final Path file = directory.resolve("favorites.txt");
+        final FavoriteStockData data = new FavoriteStockData(file);
+        for (int i = 0; i < 150; i++) {
+            data.addFavoriteStock("S" + i);
+        }
+        data.removeFavoriteStock("S0");
+        data.close();
+
+        assertEquals(149, Files.readAllLines(file).size());
+        assertFalse(Files.exists(directory.resolve("favorites.txt.journal")));
+        assertEquals(data.loadFavoriteStocks(), new FavoriteStockData(file).loadFavoriteStocks());
+    }
+}
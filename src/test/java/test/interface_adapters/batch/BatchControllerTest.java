@@ -0,0 +1,241 @@
+package test.interface_adapters.batch;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import entities.MetricValues;
+import entities.SharePrices;
+import interface_adapters.batch.BatchController;
+import interface_adapters.batch.BatchUseCaseFactory;
+import interface_adapters.batch.JsonLinesWriter;
+import interface_adapters.gateways.FundamentalsLoader;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import test.MockStockDataLoader;
+import use_cases.SymbolNameDataAccessInterface;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchControllerTest {
+    private final SymbolNameDataAccessInterface symbols = new SymbolNameDataAccessInterface() {
+        @Override
+        public List<String> getSymbols() {
+            return List.of("AAPL", "INTC");
+        }
+
+        @Override
+        public List<String> getCompanies() {
+            return List.of("Apple", "Intel");
+        }
+
+        @Override
+        public String getCompany(String symbol) {
+            return "AAPL".equals(symbol) ? "Apple" : "";
+        }
+
+        @Override
+        public String getSymbol(String company) {
+            return "";
+        }
+    };
+
+    /**
+     * Mock loader: every stock closes at 100 on the first day asked for and rises by one a day.
+     */
+    private final MockStockDataLoader dataAccess = new MockStockDataLoader() {
+        @Override
+        public SharePrices getSharePrices(String stockSymbol, Date startDate, Date endDate) {
+            final List<Date> dates = new ArrayList<>();
+            final List<Double> closes = new ArrayList<>();
+            for (long time = startDate.getTime(); time <= endDate.getTime(); time += 86_400_000L) {
+                dates.add(new Date(time));
+                closes.add(100.0 + dates.size() - 1);
+            }
+            return new SharePrices(dates, new ArrayList<>(closes), closes, new ArrayList<>(closes),
+                    new ArrayList<>(closes));
+        }
+
+        @Override
+        public SharePrices getCachedSharePrices(String stockSymbol, Date startDate, Date endDate) {
+            return getSharePrices(stockSymbol, startDate, endDate);
+        }
+
+        @Override
+        public Double getVolume(String stockSymbol, Date date) {
+            return 1000.0;
+        }
+
+        @Override
+        public MetricValues getAfterHours(String stockSymbol, Date startDate, Date endDate) {
+            return new MetricValues(List.of(), List.of());
+        }
+
+        @Override
+        public MetricValues getPremarkets(String stockSymbol, Date startDate, Date endDate) {
+            return new MetricValues(List.of(), List.of());
+        }
+    };
+
+    @Test
+    void runsEveryCommandAndWritesOneLinePerResult() throws InterruptedException {
+        final StringWriter output = new StringWriter();
+        final int failures;
+        try (BatchController controller = BatchUseCaseFactory.create(dataAccess, symbols,
+                new FundamentalsLoader(), new JsonLinesWriter(output), 4)) {
+            failures = controller.execute(List.of(
+                    "# analyses first",
+                    "analyze 2024-11-05 AAPL INTC",
+                    "",
+                    "compare 2024-11-01 2024-11-05 AAPL INTC",
+                    "load 2024-11-01 2024-11-03 AAPL"));
+        }
+
+        assertEquals(0, failures);
+        final List<JSONObject> lines = parse(output);
+        assertEquals(4, lines.size());
+        final JSONObject analysis = find(lines, "analyze", "AAPL");
+        // the last close of the week up to the date
+        assertEquals(106.0, analysis.getDouble("currentPrice"));
+        assertEquals(3, analysis.getJSONArray("projectedPrices").length());
+        assertTrue(List.of("buy", "hold", "sell").contains(analysis.getString("action")));
+        final JSONObject comparison = find(lines, "compare", null);
+        assertEquals(2, comparison.getJSONArray("metrics").length());
+        final JSONObject load = find(lines, "load", "AAPL");
+        assertEquals("Apple", load.getString("company"));
+        assertEquals(List.of("2024-11-01", "2024-11-02", "2024-11-03"),
+                load.getJSONArray("dates").toList());
+    }
+
+    @Test
+    void writesAnErrorLineForEveryCommandThatCannotRun() throws InterruptedException {
+        final StringWriter output = new StringWriter();
+        final int failures;
+        try (BatchController controller = BatchUseCaseFactory.create(dataAccess, symbols,
+                new FundamentalsLoader(), new JsonLinesWriter(output), 2)) {
+            failures = controller.execute(List.of("chart AAPL", "load 2024-13-01 2024-11-03 AAPL",
+                    "analyze 2024-11-05"));
+        }
+
+        assertEquals(3, failures);
+        final List<JSONObject> lines = parse(output);
+        assertEquals(3, lines.size());
+        for (JSONObject line : lines) {
+            assertTrue(line.has("error"));
+        }
+    }
+
+    @Test
+    void countsErrorLinesWrittenByPresenters() throws InterruptedException {
+        final StringWriter output = new StringWriter();
+        final int failures;
+        try (BatchController controller = BatchUseCaseFactory.create(dataAccess, symbols,
+                new FundamentalsLoader(), new JsonLinesWriter(output), 2)) {
+            failures = controller.execute(List.of("compare 2024-02-01 2024-01-01 AAPL"));
+        }
+
+        assertEquals(1, failures);
+        final List<JSONObject> lines = parse(output);
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).has("error"));
+    }
+
+    @Test
+    void countsAComparisonWithAStockThatFailedToLoad() throws InterruptedException {
+        final MockStockDataLoader failingAccess = new MockStockDataLoader() {
+            @Override
+            public SharePrices getSharePrices(String stockSymbol, Date startDate, Date endDate) {
+                if ("INTC".equals(stockSymbol)) {
+                    throw new IllegalStateException("The API is down.");
+                }
+                return dataAccess.getSharePrices(stockSymbol, startDate, endDate);
+            }
+        };
+        final StringWriter output = new StringWriter();
+        final int failures;
+        try (BatchController controller = BatchUseCaseFactory.create(failingAccess, symbols,
+                new FundamentalsLoader(), new JsonLinesWriter(output), 2)) {
+            failures = controller.execute(List.of("compare 2024-11-01 2024-11-05 AAPL INTC"));
+        }
+
+        assertEquals(1, failures);
+        final List<JSONObject> lines = parse(output);
+        assertEquals(1, lines.size());
+        assertEquals("Could not load INTC", lines.get(0).getString("error"));
+        assertEquals(2, lines.get(0).getJSONArray("metrics").length());
+    }
+
+    @Test
+    void correlatesTheUniverse() throws InterruptedException {
+        final StringWriter output = new StringWriter();
+        final int failures;
+        try (BatchController controller = BatchUseCaseFactory.create(dataAccess, symbols,
+                new FundamentalsLoader(), new JsonLinesWriter(output), 2)) {
+            failures = controller.execute(List.of("correlate 2024-11-01 2024-11-10",
+                    "correlate 2024-11-01 2024-11-10 AAPL"));
+        }
+
+        // one stock has nothing to correlate with
+        assertEquals(1, failures);
+        final List<JSONObject> lines = parse(output);
+        assertEquals(2, lines.size());
+        final JSONObject correlation = lines.get(0).has("error") ? lines.get(1) : lines.get(0);
+        assertEquals(List.of("AAPL", "INTC"), correlation.getJSONArray("symbols").toList());
+        assertEquals(9, correlation.getInt("observations"));
+        // the mock stocks move together
+        assertEquals(1.0, correlation.getJSONArray("correlation").getJSONArray(0).getDouble(1), 1e-9);
+    }
+
+    @Test
+    void sweepsTheUniverseAndRanksTheRules() throws InterruptedException {
+        final StringWriter output = new StringWriter();
+        final int failures;
+        try (BatchController controller = BatchUseCaseFactory.create(dataAccess, symbols,
+                new FundamentalsLoader(), new JsonLinesWriter(output), 2)) {
+            failures = controller.execute(List.of("sweep 2024-11-01 2024-11-30",
+                    "sweep 2024-11-30 2024-11-01 AAPL"));
+        }
+
+        assertEquals(1, failures);
+        final List<JSONObject> lines = parse(output);
+        assertEquals(2, lines.size());
+        // the lines come in the order the sweeps finish
+        final JSONObject sweep = lines.get(0).has("error") ? lines.get(1) : lines.get(0);
+        assertTrue(sweep.has("results"));
+        // every symbol of the universe, and a grid of five values of each threshold
+        assertEquals(2, sweep.getInt("symbols"));
+        assertEquals(30, sweep.getInt("days"));
+        assertEquals(125, sweep.getInt("evaluations"));
+        final JSONArray results = sweep.getJSONArray("results");
+        assertEquals(125, results.length());
+        for (int i = 1; i < results.length(); i++) {
+            assertTrue(results.getJSONObject(i - 1).getDouble("totalReturn")
+                    >= results.getJSONObject(i).getDouble("totalReturn"));
+        }
+    }
+
+    private static List<JSONObject> parse(StringWriter output) {
+        final List<JSONObject> lines = new ArrayList<>();
+        for (String line : output.toString().split(System.lineSeparator())) {
+            if (!line.isBlank()) {
+                lines.add(new JSONObject(line));
+            }
+        }
+        return Collections.unmodifiableList(lines);
+    }
+
+    private static JSONObject find(List<JSONObject> lines, String command, String symbol) {
+        JSONObject found = null;
+        for (JSONObject line : lines) {
+            if (command.equals(line.getString("command"))
+                    && (symbol == null || symbol.equals(line.optString("symbol")))) {
+                found = line;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,96 @@
+package test.interface_adapters.gateways;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import entities.MetricValues;
+import interface_adapters.gateways.FundamentalsApiLoader;
+import interface_adapters.gateways.FundamentalsLoader;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FundamentalsLoaderTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void indexesEveryPeriodOfTheFileBySymbolAndPeriod() throws IOException {
+        final Path file = directory.resolve("Fundamentals.csv");
+        // out of date order, with a missing EPS and a missing dividend
+        Files.writeString(file, String.join("\n",
+                "symbol,period,date,eps,dividend",
+                "AAPL,2024,2024-09-28,6.08,0.98",
+                "AAPL,2023,2023-09-30,6.13,0.94",
+                "AAPL,2025,2025-09-27,,1.02",
+                "INTC,2024,2024-12-28,-4.38,"));
+
+        final FundamentalsLoader loader = new FundamentalsLoader(file.toString(), null);
+
+        assertEquals(6.13, loader.getEps("AAPL", "2023"));
+        assertEquals(0.98, loader.getDividendsPerShare("AAPL", "2024"));
+        assertNull(loader.getEps("AAPL", "2025"));
+        assertNull(loader.getDividendsPerShare("INTC", "2024"));
+        assertNull(loader.getEps("AAPL", "2022"));
+        // the latest period with earnings
+        assertEquals(6.08, loader.getEps("AAPL"));
+        assertEquals(-4.38, loader.getEps("INTC"));
+        assertNull(loader.getEps("MSFT"));
+        assertNull(loader.getEps(null));
+
+        final MetricValues earnings = loader.getEarnings("AAPL");
+        assertEquals(List.of(6.13, 6.08), earnings.getValues());
+        assertEquals(List.of(0.94, 0.98, 1.02), loader.getDividends("AAPL").getValues());
+        assertTrue(loader.getEarnings("MSFT").getValues().isEmpty());
+    }
+
+    @Test
+    void loadsSymbolsMissingFromTheFileFromTheApiOnce() {
+        final AtomicInteger requests = new AtomicInteger();
+        final FundamentalsApiLoader api = stockSymbol -> {
+            requests.incrementAndGet();
+            final List<JSONObject> periods;
+            if ("MSFT".equals(stockSymbol)) {
+                periods = List.of(new JSONObject().put("period", "2024").put("date", "2024-06-30")
+                        .put("eps", 11.8).put("dividend", 3.0));
+            }
+            else {
+                periods = List.of();
+            }
+            return periods;
+        };
+
+        final FundamentalsLoader loader = new FundamentalsLoader(directory.resolve("missing.csv").toString(), api);
+
+        assertEquals(11.8, loader.getEps("MSFT"));
+        assertEquals(3.0, loader.getDividendsPerShare("MSFT", "2024"));
+        assertNull(loader.getEps("NONE"));
+        assertNull(loader.getEps("NONE", "2024"));
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void skipsMalformedLinesAndKeepsTheRest() throws IOException {
+        final Path file = directory.resolve("Fundamentals.csv");
+        Files.writeString(file, String.join("\n",
+                "symbol,period,date,eps,dividend",
+                "AAPL,2023,2023-09-30,6.13,0.94",
+                "AAPL,2024,28/09/2024,6.08,0.98",
+                "NVDA,2024,2024-01-28,n/a,0.16",
+                "NVDA,2025,2025-01-26,2.94,0.34"));
+
+        final FundamentalsLoader loader = new FundamentalsLoader(file.toString(), null);
+
+        assertEquals(6.13, loader.getEps("AAPL"));
+        assertNull(loader.getEps("AAPL", "2024"));
+        assertNull(loader.getDividendsPerShare("NVDA", "2024"));
+        assertEquals(2.94, loader.getEps("NVDA"));
+    }
+}
@@ -0,0 +1,192 @@
+package test.interface_adapters.gateways;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import entities.SharePrices;
+import interface_adapters.gateways.ApiDataLoader;
+import interface_adapters.gateways.StockDataLoader;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StockDataLoaderTest {
+    @TempDir
+    Path directory;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final ApiDataLoader gateway = (stockSymbol, date) -> {
+        requests.incrementAndGet();
+        final JSONObject entry = new JSONObject();
+        entry.put("symbol", stockSymbol);
+        entry.put("from", new SimpleDateFormat("yyyy-MM-dd").format(date));
+        entry.put("status", "OK");
+        for (String key : new String[] {"open", "close", "high", "low", "volume", "preMarket", "afterHours"}) {
+            entry.put(key, 10.0 + date.getTime() % 7);
+        }
+        return entry;
+    };
+
+    @Test
+    void eachDayIsRequestedOnceAndAppendedToTheFile() throws IOException {
+        final Path file = directory.resolve("StockData.json");
+        Files.writeString(file, "{\"symbol\":\"INTC\",\"from\":\"2024-11-04\",\"status\":\"OK\",\"open\":1,"
+                + "\"close\":2,\"high\":3,\"low\":0.5,\"volume\":100}");
+        final Date start = new GregorianCalendar(2024, Calendar.NOVEMBER, 4).getTime();
+        final Date end = new GregorianCalendar(2024, Calendar.NOVEMBER, 6).getTime();
+
+        final StockDataLoader loader = new StockDataLoader(gateway, file.toString());
+        final SharePrices first = loader.getSharePrices("INTC", start, end);
+        final SharePrices second = loader.getSharePrices("INTC", start, end);
+        loader.close();
+
+        assertEquals(2, requests.get());
+        assertEquals(3, first.getClosePrices().size());
+        assertEquals(2.0, first.getClosePrices().get(0));
+        assertEquals(first.getClosePrices(), second.getClosePrices());
+
+        // a new loader reads every appended entry back without asking the API again
+        final StockDataLoader reopened = new StockDataLoader(gateway, file.toString());
+        assertEquals(first.getClosePrices(), reopened.getCachedSharePrices("INTC", start, end).getClosePrices());
+        assertEquals(100.0, reopened.getVolume("INTC", start));
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void concurrentLoadsRequestEveryDayOnceAndLoseNoEntry() throws Exception {
+        final Path file = directory.resolve("StockData.json");
+        final Date start = new GregorianCalendar(2024, Calendar.OCTOBER, 1).getTime();
+        final Date end = new GregorianCalendar(2024, Calendar.OCTOBER, 10).getTime();
+        final List<String> symbols = List.of("AAPL", "NVDA", "MFC", "INTC", "L.TO", "MSFT");
+        final StockDataLoader loader = new StockDataLoader(gateway, file.toString());
+
+        // every symbol is loaded by three threads at once
+        final ExecutorService threads = Executors.newFixedThreadPool(12);
+        final List<Future<SharePrices>> loads = new ArrayList<>();
+        for (int round = 0; round < 3; round++) {
+            for (String symbol : symbols) {
+                loads.add(threads.submit(() -> loader.getSharePrices(symbol, start, end)));
+            }
+        }
+        for (Future<SharePrices> load : loads) {
+            assertEquals(10, load.get().getClosePrices().size());
+        }
+        threads.shutdown();
+        assertTrue(threads.awaitTermination(5, TimeUnit.SECONDS));
+        loader.close();
+
+        assertEquals(symbols.size() * 10, requests.get());
+        final StockDataLoader reopened = new StockDataLoader(gateway, file.toString());
+        for (String symbol : symbols) {
+            assertEquals(10, reopened.getCachedSharePrices(symbol, start, end).getClosePrices().size());
+        }
+        assertEquals(symbols.size() * 10, requests.get());
+    }
+
+    @Test
+    void aCancelledLoadStopsRequestingDays() {
+        final Path file = directory.resolve("StockData.json");
+        final Date start = new GregorianCalendar(2024, Calendar.OCTOBER, 1).getTime();
+        final Date end = new GregorianCalendar(2024, Calendar.OCTOBER, 30).getTime();
+        // the load is cancelled while its first day is being requested
+        final StockDataLoader loader = new StockDataLoader((stockSymbol, date) -> {
+            Thread.currentThread().interrupt();
+            return gateway.loadOneEntry(stockSymbol, date);
+        }, file.toString());
+
+        final SharePrices prices;
+        try {
+            prices = loader.getSharePrices("INTC", start, end);
+        }
+        finally {
+            // clear the flag for the next test
+            Thread.interrupted();
+        }
+        loader.close();
+
+        assertEquals(1, requests.get());
+        // only the day requested before the cancellation, which is not cached
+        assertEquals(1, prices.getClosePrices().size());
+        assertTrue(loader.getCachedSharePrices("INTC", start, end).getClosePrices().isEmpty());
+    }
+
+    @Test
+    void symbolsOnTheSameStripeLoadInParallel() throws Exception {
+        final Path file = directory.resolve("StockData.json");
+        final Date day = new GregorianCalendar(2024, Calendar.NOVEMBER, 4).getTime();
+        // INTC and MSFT hash to the same stripe; each request waits until both have started
+        final CountDownLatch bothRequested = new CountDownLatch(2);
+        final StockDataLoader loader = new StockDataLoader((stockSymbol, date) -> {
+            bothRequested.countDown();
+            try {
+                bothRequested.await(5, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            return gateway.loadOneEntry(stockSymbol, date);
+        }, file.toString());
+
+        final ExecutorService threads = Executors.newFixedThreadPool(2);
+        final Future<SharePrices> intel = threads.submit(() -> loader.getSharePrices("INTC", day, day));
+        final Future<SharePrices> microsoft = threads.submit(() -> loader.getSharePrices("MSFT", day, day));
+        assertTrue(bothRequested.await(2, TimeUnit.SECONDS), "The requests should not wait for each other.");
+        assertEquals(1, intel.get().getClosePrices().size());
+        assertEquals(1, microsoft.get().getClosePrices().size());
+        threads.shutdown();
+        loader.close();
+    }
+
+    @Test
+    void readsDoNotWaitForABackfillAndSeeItAllAtOnce() throws Exception {
+        final Path file = directory.resolve("StockData.json");
+        final Date cachedDay = new GregorianCalendar(2024, Calendar.NOVEMBER, 1).getTime();
+        final Date start = new GregorianCalendar(2024, Calendar.NOVEMBER, 2).getTime();
+        final Date end = new GregorianCalendar(2024, Calendar.NOVEMBER, 8).getTime();
+        final CountDownLatch halfLoaded = new CountDownLatch(3);
+        final CountDownLatch release = new CountDownLatch(1);
+        final StockDataLoader loader = new StockDataLoader((stockSymbol, date) -> {
+            final JSONObject entry = gateway.loadOneEntry(stockSymbol, date);
+            halfLoaded.countDown();
+            if (halfLoaded.getCount() == 0) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                }
+                catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return entry;
+        }, file.toString());
+        loader.getSharePrices("INTC", cachedDay, cachedDay);
+
+        final ExecutorService backfill = Executors.newSingleThreadExecutor();
+        final Future<SharePrices> backfilled = backfill.submit(() -> loader.getSharePrices("INTC", start, end));
+        assertTrue(halfLoaded.await(5, TimeUnit.SECONDS));
+
+        // reads of cached days go straight through while the backfill is requesting days
+        assertEquals(1, loader.getSharePrices("INTC", cachedDay, cachedDay).getClosePrices().size());
+        assertEquals(1, loader.getCachedSharePrices("INTC", cachedDay, end).getClosePrices().size());
+        release.countDown();
+        assertEquals(7, backfilled.get().getClosePrices().size());
+        assertEquals(8, loader.getCachedSharePrices("INTC", cachedDay, end).getClosePrices().size());
+        backfill.shutdown();
+        loader.close();
+    }
+}
@@ -0,0 +1,41 @@
+package test.interface_adapters.gateways;
+
+import java.util.List;
+
+import interface_adapters.gateways.StockSymbolsLoader;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StockSymbolsLoaderTest {
+    private final StockSymbolsLoader loader = new StockSymbolsLoader();
+
+    @Test
+    void lookupsAreExactInBothDirections() {
+        assertEquals("Apple", loader.getCompany("AAPL"));
+        assertEquals("INTC", loader.getSymbol("Intel"));
+        assertEquals("", loader.getCompany("AP"));
+        assertEquals("", loader.getSymbol("App"));
+    }
+
+    @Test
+    void symbolsAndCompaniesLineUp() {
+        final List<String> symbols = loader.getSymbols();
+        final List<String> companies = loader.getCompanies();
+        assertEquals(symbols.size(), companies.size());
+        for (int i = 0; i < symbols.size(); i++) {
+            assertEquals(companies.get(i), loader.getCompany(symbols.get(i)));
+        }
+        assertThrows(UnsupportedOperationException.class, () -> symbols.add("X"));
+    }
+
+    @Test
+    void reloadReplacesTheSnapshot() {
+        final List<String> before = loader.getSymbols();
+        assertSame(before, loader.getSymbols());
+        loader.reload();
+        assertEquals(before, loader.getSymbols());
+    }
+}
@@ -0,0 +1,114 @@
+package test.interface_adapters.server;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import entities.MetricValues;
+import entities.SharePrices;
+import interface_adapters.gateways.RemoteStockDataLoader;
+import interface_adapters.server.StockDataServer;
+import org.junit.jupiter.api.Test;
+import test.MockMetrics;
+import test.MockStockDataLoader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class StockDataServerTest {
+    private static final int CLIENTS = 16;
+
+    @Test
+    void roundTripThroughClient() throws Exception {
+        try (StockDataServer server = new StockDataServer(new MockStockDataLoader(), 0)) {
+            server.start();
+            final RemoteStockDataLoader client = new RemoteStockDataLoader("http://localhost:" + server.getPort());
+            final List<Date> dates = MockMetrics.makeDates();
+
+            final SharePrices prices = client.getSharePrices("AAPL", dates.get(0), dates.get(2));
+            assertEquals(dates, prices.getDates());
+            assertEquals(MockMetrics.makeRawValues(), prices.getClosePrices());
+            assertEquals(MockMetrics.makeRawValues(), prices.getHighPrices());
+
+            final MetricValues volumes = client.getVolumes("AAPL", dates.get(0), dates.get(2));
+            assertEquals(MockMetrics.makeMetricValues(), volumes);
+
+            assertEquals(0.0, client.getVolume("AAPL", dates.get(0)));
+            // the mock has no after-hours series and no single-day prices
+            assertNull(client.getAfterHours("AAPL", dates.get(0), dates.get(2)));
+            assertNull(client.getSharePrice("AAPL", dates.get(0)));
+        }
+    }
+
+    @Test
+    void badRequestsAreRejected() throws Exception {
+        try (StockDataServer server = new StockDataServer(new MockStockDataLoader(), 0)) {
+            server.start();
+            final HttpClient client = HttpClient.newHttpClient();
+            final String base = "http://localhost:" + server.getPort() + "/v1/";
+
+            assertEquals(400, status(client, base + "volume?symbol=AAPL&date=yesterday"));
+            assertEquals(400, status(client, base + "volumes?symbol=AAPL&start=2024-11-24"));
+            assertEquals(400, status(client, base + "volumes?symbol=AAPL&start=2024-11-26&end=2024-11-24"));
+            assertEquals(400, status(client, base + "prices?symbol=AAPL&start=1900-01-01&end=2024-11-24"));
+            assertEquals(404, status(client, base + "dividends?symbol=AAPL&date=2024-11-24"));
+        }
+    }
+
+    @Test
+    void identicalRequestsShareOneLoad() throws Exception {
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        final MockStockDataLoader blockingLoader = new MockStockDataLoader() {
+            @Override
+            public MetricValues getVolumes(String stockSymbol, Date startDate, Date endDate) {
+                loads.incrementAndGet();
+                try {
+                    release.await();
+                }
+                catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                return MockMetrics.makeMetricValues();
+            }
+        };
+
+        try (StockDataServer server = new StockDataServer(blockingLoader, 0);
+             ExecutorService clients = Executors.newFixedThreadPool(CLIENTS)) {
+            server.start();
+            final RemoteStockDataLoader client = new RemoteStockDataLoader("http://localhost:" + server.getPort());
+            final List<Date> dates = MockMetrics.makeDates();
+            final List<Future<MetricValues>> results = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                results.add(clients.submit(() -> client.getVolumes("AAPL", dates.get(0), dates.get(2))));
+            }
+            // give every request time to reach the server while the first load is held up
+            Thread.sleep(500);
+            release.countDown();
+
+            for (Future<MetricValues> result : results) {
+                assertEquals(MockMetrics.makeMetricValues(), result.get(10, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get(), "Concurrent identical requests should load once.");
+
+            // once the load is done, a new request loads again
+            client.getVolumes("AAPL", dates.get(0), dates.get(2));
+            assertEquals(2, loads.get(), "A later request should not reuse a finished load.");
+        }
+    }
+
+    private static int status(HttpClient client, String url) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create(url)).build(), HttpResponse.BodyHandlers.discarding())
+                .statusCode();
+    }
+}
@@ -0,0 +1,93 @@
+package test.text_analyze_stock;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import use_cases.text_analyze_stock.MonteCarloSimulator;
+
+/**
+ * Test class for MonteCarloSimulator.
+ * Tests the drift and volatility estimate and the simulated percentile bands.
+ */
+public class TestMonteCarloSimulator {
+
+    /**
+     * A history growing by the same factor every day has its growth as drift and no volatility,
+     * even with days missing from it.
+     */
+    @Test
+    public void testEstimate_SteadyGrowthWithGaps() {
+        List<Date> dates = new ArrayList<>();
+        List<Double> closes = new ArrayList<>();
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        for (int day = 0; day < 30; day++) {
+            // every third day is missing, and the week from day 10 on as well
+            if (day % 3 != 2 && (day < 10 || day > 16)) {
+                dates.add(Date.from(start.plusDays(day).atStartOfDay(ZoneId.systemDefault()).toInstant()));
+                closes.add(100.0 * Math.pow(1.001, day));
+            }
+        }
+
+        double[] estimate = MonteCarloSimulator.estimateDriftAndVolatility(dates, closes);
+
+        assertEquals(Math.log(1.001) * 365, estimate[0], 1e-9, "The drift should be the yearly log growth.");
+        assertEquals(0.0, estimate[1], 1e-6, "A steady history should have no volatility.");
+    }
+
+    /**
+     * Too short a history gives no estimate.
+     */
+    @Test
+    public void testEstimate_TooShortHistory() {
+        Date today = new Date();
+        Date tomorrow = new Date(today.getTime() + 86_400_000L);
+        assertNull(MonteCarloSimulator.estimateDriftAndVolatility(List.of(today, tomorrow), List.of(100.0, 101.0)),
+                "Two closes give a single return, which has no variance.");
+    }
+
+    /**
+     * The simulated median matches the median of geometric Brownian motion, and the bands are ordered.
+     */
+    @Test
+    public void testSimulate_MatchesAnalyticMedian() {
+        double drift = 0.08;
+        double volatility = 0.3;
+
+        double[][] bands = new MonteCarloSimulator().simulate(50.0, drift, volatility, 200_000, 3, 42L);
+
+        assertEquals(3, bands.length, "There should be one band per year.");
+        for (int year = 0; year < bands.length; year++) {
+            double median = 50.0 * Math.exp((drift - volatility * volatility / 2) * (year + 1));
+            assertEquals(median, bands[year][2], median * 0.01, "The median should match the analytic median.");
+            for (int p = 1; p < bands[year].length; p++) {
+                assertTrue(bands[year][p - 1] < bands[year][p], "The percentiles should be increasing.");
+            }
+        }
+        assertTrue(bands[2][4] - bands[2][0] > bands[0][4] - bands[0][0], "The range should widen with time.");
+    }
+
+    /**
+     * The same seed gives the same bands, however many threads run the paths.
+     */
+    @Test
+    public void testSimulate_DeterministicPerSeed() {
+        ForkJoinPool singleThread = new ForkJoinPool(1);
+        double[][] common = new MonteCarloSimulator().simulate(20.0, 0.05, 0.2, 50_000, 2, 7L);
+        double[][] single = new MonteCarloSimulator(singleThread).simulate(20.0, 0.05, 0.2, 50_000, 2, 7L);
+        singleThread.shutdown();
+
+        for (int year = 0; year < common.length; year++) {
+            assertArrayEquals(common[year], single[year], "The bands should not depend on the pool.");
+        }
+    }
+}
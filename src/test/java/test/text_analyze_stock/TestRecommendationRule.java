@@ -0,0 +1,44 @@
+package test.text_analyze_stock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import use_cases.text_analyze_stock.FutureStockPredict;
+import use_cases.text_analyze_stock.FutureStockPredictAlt;
+import use_cases.text_analyze_stock.Recommendation;
+import use_cases.text_analyze_stock.RecommendationRule;
+
+/**
+ * Test class for RecommendationRule.
+ * Tests the price projection and the buy, hold and sell thresholds.
+ */
+public class TestRecommendationRule {
+
+    private final RecommendationRule rule = new RecommendationRule();
+
+    /**
+     * The thresholds are inclusive: a difference of exactly the wanted difference buys.
+     */
+    @Test
+    public void testRecommend_Thresholds() {
+        assertEquals(Recommendation.BUY, rule.recommend(103.0, 100.0), "A rise of 3 should buy.");
+        assertEquals(Recommendation.HOLD, rule.recommend(102.9, 100.0), "A rise under 3 should hold.");
+        assertEquals(Recommendation.HOLD, rule.recommend(97.0, 100.0), "A fall of 3 should hold.");
+        assertEquals(Recommendation.SELL, rule.recommend(96.9, 100.0), "A fall over 3 should sell.");
+        assertEquals("sell", Recommendation.SELL.getAction(), "The action should be shown in lower case.");
+    }
+
+    /**
+     * The projection matches the Graham number with positive EPS and the compounded growth otherwise.
+     */
+    @Test
+    public void testProjectPrice_MatchesThePredictors() {
+        assertEquals(FutureStockPredict.calculateGrahamNumber(6.59, 180.0), rule.projectPrice(6.59, 180.0, 150.0),
+                0.0001, "Positive EPS should use the Graham number.");
+        assertEquals(FutureStockPredictAlt.calculateStockPrice(180.0, 150.0), rule.projectPrice(-0.4, 180.0, 150.0),
+                0.0001, "Negative EPS should use the compounded growth.");
+        assertTrue(Double.isNaN(rule.projectPrice(Double.NaN, 180.0, Double.NaN)),
+                "Without EPS or a starting price there should be no projection.");
+    }
+}
@@ -0,0 +1,50 @@
+package test.ui;
+
+import org.junit.jupiter.api.Test;
+import ui.LttbDownsampler;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LttbDownsamplerTest {
+
+    @Test
+    void shortSeriesIsKept() {
+        assertArrayEquals(new int[] {0, 1, 2}, LttbDownsampler.downsample(new double[] {5, 6, 7}, 10));
+        assertArrayEquals(new int[] {0, 1, 2}, LttbDownsampler.downsample(new double[] {5, 6, 7}, 2));
+    }
+
+    @Test
+    void downsampleKeepsEndpointsAndOrder() {
+        final double[] values = new double[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.sin(i / 25.0);
+        }
+        final int[] sampled = LttbDownsampler.downsample(values, 100);
+
+        assertEquals(100, sampled.length);
+        assertEquals(0, sampled[0]);
+        assertEquals(999, sampled[99]);
+        for (int k = 1; k < sampled.length; k++) {
+            assertTrue(sampled[k] > sampled[k - 1]);
+        }
+    }
+
+    @Test
+    void downsamplePreservesSpikes() {
+        final double[] values = new double[5000];
+        values[1234] = 100;
+        values[3210] = -100;
+        final int[] sampled = LttbDownsampler.downsample(values, 50);
+
+        boolean peak = false;
+        boolean trough = false;
+        for (int index : sampled) {
+            peak |= index == 1234;
+            trough |= index == 3210;
+        }
+        assertTrue(peak);
+        assertTrue(trough);
+    }
+}
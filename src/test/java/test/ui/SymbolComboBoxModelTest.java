@@ -0,0 +1,63 @@
+package test.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import ui.SymbolComboBoxModel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SymbolComboBoxModelTest {
+    private static final String PLACEHOLDER = "Select stock";
+
+    private static List<String> items(SymbolComboBoxModel model) {
+        final List<String> items = new ArrayList<>();
+        for (int i = 0; i < model.getSize(); i++) {
+            items.add(model.getElementAt(i));
+        }
+        return items;
+    }
+
+    @Test
+    void filtersByPrefixAndKeepsThePlaceholder() {
+        final SymbolComboBoxModel model = new SymbolComboBoxModel(PLACEHOLDER,
+                List.of("AAPL", "AMD", "AMZN", "INTC", "NVDA"));
+
+        assertEquals(PLACEHOLDER, model.getSelectedItem());
+        assertEquals(6, model.getSize());
+        model.setFilter(" am");
+        assertEquals(List.of(PLACEHOLDER, "AMD", "AMZN"), items(model));
+        model.setFilter("X");
+        assertEquals(List.of(PLACEHOLDER), items(model));
+        model.setFilter("");
+        assertEquals(6, model.getSize());
+    }
+
+    @Test
+    void typedTextSelectsASymbol() {
+        final SymbolComboBoxModel model = new SymbolComboBoxModel(List.of("NVDA", "AAPL", "AMZN", "AMD"));
+
+        model.setSelectedItem("amzn");
+        assertEquals("AMZN", model.getSelectedItem());
+        model.setFilter("n");
+        model.setSelectedItem("n");
+        assertEquals("NVDA", model.getSelectedItem());
+        model.setFilter("zz");
+        model.setSelectedItem("zz");
+        assertEquals("NVDA", model.getSelectedItem());
+    }
+
+    @Test
+    void readsOnlyTheWindowOfALargeList() {
+        final List<String> symbols = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            symbols.add(String.format("S%06d", i));
+        }
+        final SymbolComboBoxModel model = new SymbolComboBoxModel(symbols);
+
+        model.setFilter("s01234");
+        assertEquals(List.of("S012340", "S012341", "S012342", "S012343", "S012344", "S012345", "S012346",
+                "S012347", "S012348", "S012349"), items(model));
+    }
+}
@@ -0,0 +1,117 @@
+package test.use_cases.backtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import entities.SharePrices;
+import interface_adapters.gateways.FundamentalsLoader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import test.MockStockDataLoader;
+import use_cases.backtest.BacktestData;
+import use_cases.backtest.BacktestResult;
+import use_cases.backtest.Backtester;
+import use_cases.text_analyze_stock.RecommendationRule;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BacktesterTest {
+    private static final double EPSILON = 1e-9;
+
+    @TempDir
+    Path directory;
+
+    private final Backtester backtester = new Backtester();
+    private final RecommendationRule rule = new RecommendationRule(3, 3, 22.5);
+
+    @Test
+    void tradesOnTheGrahamProjectionAndTracksDrawdown() {
+        // with an EPS of 10 the projection is sqrt(225 * close): 150 at 100, 212 at 200, 300 at 400
+        final BacktestData data = new BacktestData(List.of("AAA"), new long[] {0, 1, 2, 3, 4},
+                new double[][] {{100, 200, 400, 200, 100}}, new double[][] {{10, 10, 10, 10, 10}});
+
+        final BacktestResult result = backtester.run(data, rule, 1000);
+
+        // buys at 100, sells at 400, buys again at 200 and holds while it halves
+        assertArrayEquals(new double[] {1000, 2000, 4000, 4000, 2000}, result.getEquity(), EPSILON);
+        assertEquals(3, result.getTrades());
+        assertEquals(1.0, result.getTotalReturn(), EPSILON);
+        assertEquals(0.5, result.getMaxDrawdown(), EPSILON);
+        assertEquals(20.0, result.getPositions()[0], EPSILON);
+        assertEquals(1000.0, result.getProfits()[0], EPSILON);
+    }
+
+    @Test
+    void waitsAYearForTheGrowthProjectionAndSplitsTheCapital() {
+        // without EPS the projection needs the close a year back, so nothing trades in the first year
+        final int length = 2 * 365;
+        final long[] days = new long[length];
+        final double[][] closes = new double[2][length];
+        final double[][] eps = new double[2][length];
+        for (int t = 0; t < length; t++) {
+            days[t] = t;
+            closes[0][t] = 100 + t;
+            closes[1][t] = t < 400 ? Double.NaN : 50;
+            eps[0][t] = Double.NaN;
+            eps[1][t] = Double.NaN;
+        }
+        final BacktestData data = new BacktestData(List.of("UP", "LATE"), days, closes, eps);
+
+        final BacktestResult result = backtester.run(data, rule, 2000);
+
+        assertEquals(2000.0, result.getEquity()[364], EPSILON);
+        // UP buys at its close on day 365, LATE never has a close a year back
+        assertEquals(1, result.getTrades());
+        assertEquals(1000.0 / 465, result.getPositions()[0], EPSILON);
+        assertEquals(1000.0 * (100 + length - 1) / 465 - 1000, result.getProfits()[0], EPSILON);
+        assertEquals(0.0, result.getProfits()[1], EPSILON);
+        assertEquals(0.0, result.getMaxDrawdown(), EPSILON);
+    }
+
+    @Test
+    void loadsCachedBarsOnOneCalendar() throws IOException {
+        final LocalDate firstDay = LocalDate.of(2024, 1, 1);
+        final MockStockDataLoader dataAccess = new MockStockDataLoader() {
+            @Override
+            public SharePrices getCachedSharePrices(String stockSymbol, Date startDate, Date endDate) {
+                final List<Date> dates = new ArrayList<>();
+                final List<Double> closes = new ArrayList<>();
+                // GAP has no bar on the second day
+                for (int day = 0; day < 3; day++) {
+                    if (!("GAP".equals(stockSymbol) && day == 1)) {
+                        dates.add(Date.from(firstDay.plusDays(day).atStartOfDay(ZoneId.systemDefault()).toInstant()));
+                        closes.add(10.0 + day);
+                    }
+                }
+                return new SharePrices(dates, new ArrayList<>(closes), closes, new ArrayList<>(closes),
+                        new ArrayList<>(closes));
+            }
+        };
+
+        // AAPL reports a period that ends on the second day; GAP reports nothing
+        final Path fundamentalsFile = directory.resolve("Fundamentals.csv");
+        Files.writeString(fundamentalsFile, String.join("\n",
+                "symbol,period,date,eps,dividend",
+                "AAPL,2023,2023-09-30,6.13,",
+                "AAPL,2024Q1,2024-01-02,6.59,"));
+
+        final BacktestData data = BacktestData.load(dataAccess, new FundamentalsLoader(fundamentalsFile.toString(),
+                null), List.of("AAPL", "GAP"), new Date(), new Date());
+
+        assertEquals(3, data.getLength());
+        assertEquals(firstDay.toEpochDay(), data.getDays()[0]);
+        assertArrayEquals(new double[] {10, 11, 12}, data.getCloses()[0], EPSILON);
+        assertArrayEquals(new double[] {10, 10, 12}, data.getCloses()[1], EPSILON);
+        // each day has the earnings known that day, not the latest ones
+        assertArrayEquals(new double[] {6.13, 6.59, 6.59}, data.getEps()[0], EPSILON);
+        assertTrue(Double.isNaN(data.getEps()[1][2]));
+    }
+}
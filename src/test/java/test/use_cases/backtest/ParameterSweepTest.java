@@ -0,0 +1,65 @@
+package test.use_cases.backtest;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import use_cases.backtest.BacktestData;
+import use_cases.backtest.Backtester;
+import use_cases.backtest.ParameterSweep;
+import use_cases.backtest.SweepResult;
+import use_cases.text_analyze_stock.RecommendationRule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParameterSweepTest {
+    private static final double EPSILON = 1e-9;
+
+    private final BacktestData data = new BacktestData(List.of("AAA", "BBB"), new long[] {0, 1, 2, 3, 4, 5},
+            new double[][] {{100, 200, 400, 200, 100, 150}, {50, 45, 60, 80, 70, 90}}, new double[][] {{10, 10, 10, 10, 10, 10}, {4, 4, 4, 4, 4, 4}});
+
+    @Test
+    void backtestsEveryCombinationAndRanksThem() {
+        final double[] wanted = {1, 3, 10, 50};
+        final double[] wantedNegative = {1, 3, 30};
+        final double[] graham = {15, 22.5};
+
+        final SweepResult result = new ParameterSweep().run(data, wanted, wantedNegative, graham, 1000);
+
+        assertEquals(24, result.getEvaluations());
+        assertTrue(result.getEvaluationsPerSecond() > 0);
+        final List<SweepResult.Entry> entries = result.getEntries();
+        for (int i = 1; i < entries.size(); i++) {
+            final SweepResult.Entry better = entries.get(i - 1);
+            final SweepResult.Entry worse = entries.get(i);
+            assertTrue(better.getTotalReturn() > worse.getTotalReturn()
+                    || better.getTotalReturn() == worse.getTotalReturn()
+                    && better.getMaxDrawdown() <= worse.getMaxDrawdown());
+        }
+        // every entry is the backtest of its own rule
+        final Backtester backtester = new Backtester();
+        for (SweepResult.Entry entry : entries) {
+            final RecommendationRule rule = entry.getRule();
+            assertEquals(backtester.run(data, rule, 1000).getTotalReturn(), entry.getTotalReturn(), EPSILON);
+        }
+    }
+
+    @Test
+    void ranksTheSameOnOneThread() {
+        final double[] wanted = {1, 3, 10};
+        final double[] wantedNegative = {1, 30};
+        final double[] graham = {10, 22.5, 40};
+        final ForkJoinPool singleThread = new ForkJoinPool(1);
+
+        final SweepResult parallel = new ParameterSweep().run(data, wanted, wantedNegative, graham, 1000);
+        final SweepResult sequential = new ParameterSweep(singleThread, new Backtester())
+                .run(data, wanted, wantedNegative, graham, 1000);
+        singleThread.shutdown();
+
+        for (int i = 0; i < parallel.getEvaluations(); i++) {
+            assertEquals(sequential.getEntries().get(i).getTotalReturn(), parallel.getEntries().get(i).getTotalReturn());
+            assertEquals(sequential.getEntries().get(i).getMaxDrawdown(), parallel.getEntries().get(i).getMaxDrawdown());
+        }
+    }
+}
@@ -9,12 +9,18 @@ import use_cases.StockDataInterface;
 import use_cases.compare_stocks.CompareStocksInputData;
 import use_cases.compare_stocks.CompareStocksInteractor;
 import use_cases.compare_stocks.CompareStocksOutputBoundary;
+import use_cases.compare_stocks.CompareStocksOutputData;
+import entities.SharePrices;
 
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
 class CompareStocksInteractorTest {
@@ -66,4 +72,95 @@ class CompareStocksInteractorTest {
         interactor.execute(input);
         assertTrue(outputSummary.equals("The end date must be after the start date!"));
     }
+
+    @Test
+    void everyStockIsLoadedAtTheSameTimeAndMeasuredOnTheSameDays() {
+        final List<String> symbols = List.of("AAPL", "NVDA", "MFC", "INTC", "L.TO");
+        // every load waits until all of them have started, so they can only finish if they overlap
+        final CountDownLatch allLoading = new CountDownLatch(symbols.size());
+        final StockDataInterface slowDao = new MockStockDataLoader() {
+            @Override
+            public SharePrices getSharePrices(String stockSymbol, Date startDate, Date endDate) {
+                allLoading.countDown();
+                try {
+                    allLoading.await(5, TimeUnit.SECONDS);
+                }
+                catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                final List<Date> days = List.of(new Date(0), new Date(86_400_000L), new Date(2 * 86_400_000L));
+                return new SharePrices(new ArrayList<>(days),
+                        new ArrayList<>(List.of(100.0, 110.0, 99.0)),
+                        new ArrayList<>(List.of(100.0, 110.0, 99.0)),
+                        new ArrayList<>(List.of(101.0, 120.0, 100.0)),
+                        new ArrayList<>(List.of(95.0, 104.0, 90.0)));
+            }
+        };
+        final List<CompareStocksOutputData> outputs = new ArrayList<>();
+        final CompareStocksOutputBoundary tablePresenter = new CompareStocksOutputBoundary() {
+            @Override
+            public void displayComparisonSummary(String summary) {
+                outputSummary = summary;
+            }
+
+            @Override
+            public void displayComparison(CompareStocksOutputData outputData) {
+                outputs.add(outputData);
+            }
+        };
+
+        new CompareStocksInteractor(tablePresenter, slowDao)
+                .execute(new CompareStocksInputData(symbols, new Date(0), new Date(2 * 86_400_000L)));
+
+        assertEquals(0, allLoading.getCount());
+        assertEquals(1, outputs.size());
+        final List<CompareStocksOutputData.StockMetrics> metrics = outputs.get(0).getMetrics();
+        assertEquals(symbols.size(), metrics.size());
+        for (int i = 0; i < symbols.size(); i++) {
+            final CompareStocksOutputData.StockMetrics stock = metrics.get(i);
+            assertEquals(symbols.get(i), stock.getSymbol());
+            assertEquals(-0.01, stock.getGrowth(), 1e-9);
+            assertEquals(120.0, stock.getHigh());
+            assertEquals(90.0, stock.getLow());
+            // daily returns of +10% and -10%
+            assertEquals(Math.sqrt(0.02), stock.getVolatility(), 1e-9);
+            assertEquals(0.0, stock.getVolume());
+        }
+        assertTrue(outputs.get(0).getSummary().contains("INTC changed from $100.0 per share to $99.0 per share"));
+    }
+
+    @Test
+    void aStockThatFailsToLoadIsReported() {
+        final StockDataInterface failingDao = new MockStockDataLoader() {
+            @Override
+            public SharePrices getSharePrices(String stockSymbol, Date startDate, Date endDate) {
+                if ("NVDA".equals(stockSymbol)) {
+                    throw new IllegalStateException("The API is down.");
+                }
+                return super.getSharePrices(stockSymbol, startDate, endDate);
+            }
+        };
+        final List<CompareStocksOutputData> outputs = new ArrayList<>();
+        final CompareStocksOutputBoundary tablePresenter = new CompareStocksOutputBoundary() {
+            @Override
+            public void displayComparisonSummary(String summary) {
+                outputSummary = summary;
+            }
+
+            @Override
+            public void displayComparison(CompareStocksOutputData outputData) {
+                outputs.add(outputData);
+            }
+        };
+        final List<Date> dates = MockMetrics.makeDates();
+
+        new CompareStocksInteractor(tablePresenter, failingDao)
+                .execute(new CompareStocksInputData(List.of("AAPL", "NVDA"), dates.get(0), dates.get(2)));
+
+        assertEquals(1, outputs.size());
+        assertEquals(List.of("NVDA"), outputs.get(0).getFailedSymbols());
+        assertEquals(2, outputs.get(0).getMetrics().size());
+        assertTrue(Double.isNaN(outputs.get(0).getMetrics().get(1).getLastClose()));
+        assertTrue(outputs.get(0).getSummary().endsWith("Could not load NVDA."));
+    }
 }
@@ -0,0 +1,152 @@
+package test.use_cases.correlation;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import entities.MetricValues;
+import entities.SharePrices;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import test.MockStockDataLoader;
+import use_cases.correlation.CorrelationInputData;
+import use_cases.correlation.CorrelationInteractor;
+import use_cases.correlation.CorrelationOutputData;
+import use_cases.correlation.CovarianceMatrixCalculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CorrelationInteractorTest {
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+
+    private CorrelationOutputData output;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    /**
+     * Mock loader: "UP" rises steadily with noise, "DOWN" mirrors it, "GAP" skips every third day.
+     */
+    private final MockStockDataLoader dataAccess = new MockStockDataLoader() {
+        @Override
+        public SharePrices getSharePrices(String stockSymbol, Date startDate, Date endDate) {
+            loads.incrementAndGet();
+            final List<Date> dates = new ArrayList<>();
+            final List<Double> closes = new ArrayList<>();
+            for (int day = 0; day < 10; day++) {
+                if (!("GAP".equals(stockSymbol) && day % 3 == 2)) {
+                    final double wave = day % 2 == 0 ? 1.0 : -1.0;
+                    final double close;
+                    if ("DOWN".equals(stockSymbol)) {
+                        close = 100.0 - day - wave;
+                    }
+                    else {
+                        close = 100.0 + day + wave;
+                    }
+                    dates.add(toDate(FIRST_DAY.plusDays(day)));
+                    closes.add(close);
+                }
+            }
+            return new SharePrices(dates, new ArrayList<>(closes), closes,
+                    new ArrayList<>(closes), new ArrayList<>(closes));
+        }
+
+        @Override
+        public MetricValues getVolumes(String stockSymbol, Date startDate, Date endDate) {
+            return null;
+        }
+    };
+
+    private CorrelationInteractor interactor;
+
+    @BeforeEach
+    void setUp() {
+        interactor = new CorrelationInteractor(outputData -> output = outputData, dataAccess);
+    }
+
+    @Test
+    void executeComputesMatrix() {
+        interactor.execute(new CorrelationInputData(List.of("up", "DOWN", "UP"),
+                toDate(FIRST_DAY), toDate(FIRST_DAY.plusDays(9))));
+
+        assertNull(output.getError());
+        assertEquals(List.of("DOWN", "UP"), output.getSymbols());
+        assertEquals(9, output.getObservations());
+        assertEquals(1.0, output.getCorrelation()[0][0], 1e-9);
+        assertEquals(output.getCorrelation()[0][1], output.getCorrelation()[1][0], 1e-12);
+        assertEquals(output.getCovariance()[0][1], output.getCovariance()[1][0], 1e-12);
+        assertEquals(-1.0, Math.signum(output.getCorrelation()[0][1]));
+    }
+
+    @Test
+    void executeAlignsOnCommonDays() {
+        interactor.execute(new CorrelationInputData(List.of("UP", "GAP"),
+                toDate(FIRST_DAY), toDate(FIRST_DAY.plusDays(9))));
+
+        assertNull(output.getError());
+        // days 2, 5 and 8 are missing from GAP, leaving 7 common days and 6 returns
+        assertEquals(6, output.getObservations());
+    }
+
+    @Test
+    void executeCachesBySymbolSetAndRange() {
+        final Date start = toDate(FIRST_DAY);
+        final Date end = toDate(FIRST_DAY.plusDays(9));
+        interactor.execute(new CorrelationInputData(List.of("UP", "DOWN"), start, end));
+        final CorrelationOutputData first = output;
+        interactor.execute(new CorrelationInputData(List.of("DOWN", "UP"), start, end));
+
+        assertEquals(2, loads.get());
+        assertEquals(first, output);
+    }
+
+    @Test
+    void executeRejectsSingleSymbol() {
+        interactor.execute(new CorrelationInputData(List.of("UP"),
+                toDate(FIRST_DAY), toDate(FIRST_DAY.plusDays(9))));
+        assertNotNull(output.getError());
+    }
+
+    @Test
+    void blockedCovarianceMatchesNaive() {
+        final int symbols = 70;
+        final int observations = 1500;
+        final Random random = new Random(42);
+        final double[][] returns = new double[symbols][observations];
+        for (int i = 0; i < symbols; i++) {
+            for (int k = 0; k < observations; k++) {
+                returns[i][k] = random.nextGaussian() * 0.01 + (i % 7) * 0.001 * returns[0][k];
+            }
+        }
+
+        final double[][] covariance = new CovarianceMatrixCalculator().covariance(returns);
+
+        for (int i = 0; i < symbols; i++) {
+            for (int j = 0; j < symbols; j++) {
+                assertEquals(naiveCovariance(returns[i], returns[j]), covariance[i][j], 1e-12);
+            }
+        }
+    }
+
+    private static double naiveCovariance(double[] first, double[] second) {
+        double firstMean = 0;
+        double secondMean = 0;
+        for (int k = 0; k < first.length; k++) {
+            firstMean += first[k] / first.length;
+            secondMean += second[k] / second.length;
+        }
+        double sum = 0;
+        for (int k = 0; k < first.length; k++) {
+            sum += (first[k] - firstMean) * (second[k] - secondMean);
+        }
+        return sum / (first.length - 1);
+    }
+
+    private static Date toDate(LocalDate localDate) {
+        return Date.from(localDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -0,0 +1,41 @@
+package test.use_cases.favorites;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import frameworks.FavoriteStockData;
+import interface_adapters.favoritesIA.FavoritesController;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import use_cases.favorites.FavoritesService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FavoritesServiceTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void everyViewSeesTheSameFavorites() throws IOException {
+        final Path file = directory.resolve("favorites.txt");
+        Files.writeString(file, "AAPL\n");
+        final FavoriteStockData storage = new FavoriteStockData(file);
+        final FavoritesService service = new FavoritesService(storage);
+        final FavoritesController stockView = new FavoritesController(service);
+        final FavoritesController otherView = new FavoritesController(service);
+
+        stockView.toggleFavorite("NVDA");
+        otherView.toggleFavorite("AAPL");
+
+        assertEquals(Set.of("NVDA"), stockView.getFavoritedStocks());
+        assertEquals(Set.of("NVDA"), otherView.getFavoritedStocks());
+        assertTrue(service.isFavorite("NVDA"));
+        assertFalse(service.isFavorite("AAPL"));
+        storage.flush();
+        assertEquals(Set.of("NVDA"), new FavoriteStockData(file).loadFavoriteStocks());
+    }
+}
@@ -0,0 +1,166 @@
+package test.use_cases.loading_hub;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+
+import entities.MetricValues;
+import entities.SharePrices;
+import org.junit.jupiter.api.Test;
+import test.MockStockDataLoader;
+import use_cases.SymbolNameDataAccessInterface;
+import use_cases.loading_hub.LoadingHubInputData;
+import use_cases.loading_hub.LoadingHubInteractor;
+import use_cases.loading_hub.LoadingHubOutputBoundary;
+import use_cases.loading_hub.LoadingHubOutputData;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LoadingHubProgressTest {
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+
+    private final List<int[]> progress = new ArrayList<>();
+    private final List<LoadingHubOutputData> partials = new ArrayList<>();
+    private LoadingHubOutputData output;
+    private int loads;
+
+    /**
+     * Mock loader returning one price per day, equal to the day of the month. Days from the 15th on are cached.
+     */
+    private final MockStockDataLoader dataAccess = new MockStockDataLoader() {
+        @Override
+        public SharePrices getSharePrices(String stockSymbol, Date startDate, Date endDate) {
+            loads++;
+            final MetricValues days = getVolumes(stockSymbol, startDate, endDate);
+            return new SharePrices(new ArrayList<>(days.getDates()), new ArrayList<>(days.getValues()),
+                    new ArrayList<>(days.getValues()), new ArrayList<>(days.getValues()),
+                    new ArrayList<>(days.getValues()));
+        }
+
+        @Override
+        public MetricValues getVolumes(String stockSymbol, Date startDate, Date endDate) {
+            final List<Double> values = new ArrayList<>();
+            final List<Date> dates = new ArrayList<>();
+            final Calendar calendar = Calendar.getInstance();
+            calendar.setTime(startDate);
+            while (!calendar.getTime().after(endDate)) {
+                values.add((double) calendar.get(Calendar.DAY_OF_MONTH));
+                dates.add(calendar.getTime());
+                calendar.add(Calendar.DATE, 1);
+            }
+            return new MetricValues(values, dates);
+        }
+
+        @Override
+        public SharePrices getCachedSharePrices(String stockSymbol, Date startDate, Date endDate) {
+            return getSharePrices(stockSymbol, toDate(FIRST_DAY.plusDays(14)), endDate);
+        }
+
+        @Override
+        public MetricValues getAfterHours(String stockSymbol, Date startDate, Date endDate) {
+            return getVolumes(stockSymbol, startDate, endDate);
+        }
+
+        @Override
+        public MetricValues getPremarkets(String stockSymbol, Date startDate, Date endDate) {
+            return getVolumes(stockSymbol, startDate, endDate);
+        }
+    };
+
+    private final LoadingHubOutputBoundary presenter = new LoadingHubOutputBoundary() {
+        @Override
+        public void displayResult(LoadingHubOutputData outputData) {
+            output = outputData;
+        }
+
+        @Override
+        public void displayPartialResult(LoadingHubOutputData partialData) {
+            partials.add(partialData);
+        }
+
+        @Override
+        public void displayProgress(int completedDays, int totalDays) {
+            progress.add(new int[] {completedDays, totalDays});
+        }
+    };
+
+    private final SymbolNameDataAccessInterface symbols = new SymbolNameDataAccessInterface() {
+        @Override
+        public String getCompany(String symbol) {
+            return "Apple";
+        }
+
+        @Override
+        public String getSymbol(String company) {
+            return "AAPL";
+        }
+
+        @Override
+        public List<String> getSymbols() {
+            return List.of("AAPL");
+        }
+    };
+
+    @Test
+    void executeLoadsRangeInChunks() {
+        final LoadingHubInteractor interactor = new LoadingHubInteractor(presenter, dataAccess, symbols);
+        interactor.execute(new LoadingHubInputData("AAPL", toDate(FIRST_DAY), toDate(FIRST_DAY.plusDays(19))));
+
+        assertEquals(4, loads);
+        assertEquals(3, progress.size());
+        assertEquals(7, progress.get(0)[0]);
+        assertEquals(14, progress.get(1)[0]);
+        assertEquals(20, progress.get(2)[0]);
+        assertEquals(20, progress.get(2)[1]);
+
+        assertNotNull(output);
+        assertEquals(20, output.getSharePrices().getHighPrices().size());
+        assertEquals(20, output.getVolumes().getDates().size());
+        for (int day = 0; day < 20; day++) {
+            assertEquals(day + 1.0, output.getSharePrices().getClosePrices().get(day));
+            assertEquals(day + 1.0, output.getPreMarket().getValues().get(day));
+        }
+    }
+
+    @Test
+    void executeShowsCachedDaysFirstThenLoadedDays() {
+        final LoadingHubInteractor interactor = new LoadingHubInteractor(presenter, dataAccess, symbols);
+        interactor.execute(new LoadingHubInputData("AAPL", toDate(FIRST_DAY), toDate(FIRST_DAY.plusDays(19))));
+
+        // cached days, then the first two weeks each followed by the cached days after them
+        assertEquals(3, partials.size());
+        assertEquals(List.of(15.0, 16.0, 17.0, 18.0, 19.0, 20.0), partials.get(0).getSharePrices().getClosePrices());
+        assertEquals(13, partials.get(1).getSharePrices().getClosePrices().size());
+        assertEquals(7.0, partials.get(1).getSharePrices().getClosePrices().get(6));
+        assertEquals(15.0, partials.get(1).getSharePrices().getClosePrices().get(7));
+        assertEquals(20, partials.get(2).getSharePrices().getClosePrices().size());
+        assertEquals(partials.get(2).getSharePrices().getDates().size(),
+                partials.get(2).getSharePrices().getValues().size());
+        assertEquals(20, output.getSharePrices().getClosePrices().size());
+    }
+
+    @Test
+    void executeStopsWhenInterrupted() {
+        final LoadingHubInteractor interactor = new LoadingHubInteractor(presenter, dataAccess, symbols);
+        Thread.currentThread().interrupt();
+        try {
+            interactor.execute(new LoadingHubInputData("AAPL", toDate(FIRST_DAY), toDate(FIRST_DAY.plusDays(19))));
+        }
+        finally {
+            Thread.interrupted();
+        }
+
+        assertEquals(2, loads);
+        assertEquals(0, progress.size());
+        assertNull(output);
+    }
+
+    private static Date toDate(LocalDate day) {
+        return Date.from(day.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
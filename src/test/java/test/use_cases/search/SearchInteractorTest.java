@@ -0,0 +1,54 @@
+package test.use_cases.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import use_cases.SymbolNameDataAccessInterface;
+import use_cases.search.SearchInputData;
+import use_cases.search.SearchInteractor;
+import use_cases.search.SymbolSearchIndex;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SearchInteractorTest {
+
+    @Test
+    void typingNarrowsToTheSameResultsAsAFreshSearch() {
+        final List<String> symbols = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            symbols.add("S" + i);
+            symbols.add("X" + i + "S");
+        }
+        final SymbolNameDataAccessInterface dataAccessObject = new SymbolNameDataAccessInterface() {
+            @Override
+            public List<String> getSymbols() {
+                return symbols;
+            }
+
+            @Override
+            public String getCompany(String symbol) {
+                return "";
+            }
+
+            @Override
+            public String getSymbol(String company) {
+                return "";
+            }
+        };
+        final List<List<String>> results = new ArrayList<>();
+        final SearchInteractor interactor = new SearchInteractor(
+                output -> results.add(output.getSymbols()), dataAccessObject);
+        final SymbolSearchIndex fresh = SymbolSearchIndex.build(symbols, List.of());
+
+        // typing, deleting back to a shorter query, and starting over with an unrelated one
+        final List<String> queries = List.of("1", "12", "123", "1234", "123", "12S", "9", "99S");
+        for (String query : queries) {
+            interactor.execute(new SearchInputData(query, 20));
+        }
+
+        for (int i = 0; i < queries.size(); i++) {
+            assertEquals(fresh.search(queries.get(i), 20), results.get(i), queries.get(i));
+        }
+    }
+}
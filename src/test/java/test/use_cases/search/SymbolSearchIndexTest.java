@@ -0,0 +1,47 @@
+package test.use_cases.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import use_cases.search.SymbolSearchIndex;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SymbolSearchIndexTest {
+    private final SymbolSearchIndex index = SymbolSearchIndex.build(
+            List.of("", "a", "A", "AAA", "CBA", "Ij", "ZZZZ"), List.of());
+
+    @Test
+    void searchKeepsTierOrderAndDuplicates() {
+        assertEquals(List.of("A", "A", "AAA", "CBA", "IJ", "ZZZZ"), index.search("", 10));
+        assertEquals(List.of("CBA", "A", "A", "AAA"), index.search("cba", 10));
+        assertEquals(List.of("IJ"), index.search("ji", 10));
+        assertEquals(List.of("ZZZZ"), index.search(" ZZ ", 10));
+        assertEquals(List.of(), index.search(" 0w0 ", 10));
+    }
+
+    @Test
+    void searchRanksPrefixBeforeInfixAndCompanyNames() {
+        final SymbolSearchIndex companies = SymbolSearchIndex.build(
+                List.of("XAPL", "AAPL", "MFC", "AP", "NVDA"),
+                List.of("Other", "Apple", "Manulife Financial", "Apex", "Nvidia"));
+
+        assertEquals(List.of("AP", "XAPL", "AAPL", "NVDA"), companies.search("ap", 10));
+        assertEquals(List.of("MFC", "XAPL", "AAPL", "AP", "NVDA"), companies.search("financ", 10));
+    }
+
+    @Test
+    void searchReturnsTopResultsOnly() {
+        final List<String> symbols = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            symbols.add("S" + i);
+        }
+        final SymbolSearchIndex large = SymbolSearchIndex.build(symbols, List.of());
+
+        assertEquals(List.of("S42", "S420", "S421"), large.search("s42", 3));
+        assertEquals(5, large.search("", 5).size());
+        assertTrue(large.search("S9999", 1).contains("S9999"));
+    }
+}
@@ -0,0 +1,84 @@
+package test.use_cases.watchlist;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import entities.SharePrices;
+import org.junit.jupiter.api.Test;
+import test.MockStockDataLoader;
+import use_cases.watchlist.WatchlistInputData;
+import use_cases.watchlist.WatchlistInteractor;
+import use_cases.watchlist.WatchlistOutputBoundary;
+import use_cases.watchlist.WatchlistOutputData;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WatchlistInteractorTest {
+    private static final List<String> SYMBOLS = List.of("AAPL", "NVDA", "MFC", "INTC");
+
+    @Test
+    void everySymbolIsShownFromTheCacheThenLoadedAtTheSameTime() throws InterruptedException {
+        // every load waits until all of them have started, so they can only finish if they overlap
+        final CountDownLatch allLoading = new CountDownLatch(SYMBOLS.size());
+        final CountDownLatch allShown = new CountDownLatch(SYMBOLS.size());
+        final MockStockDataLoader dataAccessObject = new MockStockDataLoader() {
+            @Override
+            public SharePrices getCachedSharePrices(String stockSymbol, Date startDate, Date endDate) {
+                return prices(100.0, 110.0);
+            }
+
+            @Override
+            public SharePrices getSharePrices(String stockSymbol, Date startDate, Date endDate) {
+                allLoading.countDown();
+                try {
+                    allLoading.await(5, TimeUnit.SECONDS);
+                }
+                catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                return prices(100.0, 110.0, 99.0);
+            }
+        };
+        final Map<String, List<WatchlistOutputData>> rows = new ConcurrentHashMap<>();
+        final WatchlistOutputBoundary presenter = outputData -> {
+            rows.computeIfAbsent(outputData.getSymbol(), symbol -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(outputData);
+            if (outputData.isComplete()) {
+                allShown.countDown();
+            }
+        };
+
+        new WatchlistInteractor(presenter, dataAccessObject)
+                .execute(new WatchlistInputData(SYMBOLS, new Date(0), new Date()));
+
+        assertTrue(allShown.await(5, TimeUnit.SECONDS));
+        assertEquals(0, allLoading.getCount());
+        for (String symbol : SYMBOLS) {
+            final List<WatchlistOutputData> shown = rows.get(symbol);
+            assertEquals(2, shown.size());
+            assertFalse(shown.get(0).isComplete());
+            assertEquals(110.0, shown.get(0).getLastClose());
+            assertEquals(0.10, shown.get(0).getDailyChange(), 1e-9);
+            assertTrue(shown.get(1).isComplete());
+            assertEquals(99.0, shown.get(1).getLastClose());
+            assertEquals(-0.10, shown.get(1).getDailyChange(), 1e-9);
+        }
+    }
+
+    private static SharePrices prices(Double... closes) {
+        final List<Date> dates = new ArrayList<>();
+        for (int i = 0; i < closes.length; i++) {
+            dates.add(new Date(i * 86_400_000L));
+        }
+        final List<Double> closePrices = List.of(closes);
+        return new SharePrices(dates, closePrices, closePrices, closePrices, closePrices);
+    }
+}